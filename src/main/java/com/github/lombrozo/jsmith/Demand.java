@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Subscription to programs that respects the subscriber demand.
+ * Programs are delivered one by one on a dedicated thread, only when
+ * the subscriber has requested them.
+ * @param <T> Type of programs.
+ * @since 0.2
+ */
+final class Demand<T> implements Flow.Subscription {
+
+    /**
+     * Subscriber.
+     */
+    private final Flow.Subscriber<? super T> subscriber;
+
+    /**
+     * Programs generated ahead.
+     */
+    private final Prefetch<T> programs;
+
+    /**
+     * Requested, but not yet delivered programs.
+     */
+    private final AtomicLong requested;
+
+    /**
+     * Is the subscription cancelled.
+     */
+    private final AtomicBoolean cancelled;
+
+    /**
+     * Delivery thread.
+     */
+    private final ExecutorService delivery;
+
+    /**
+     * Constructor.
+     * @param subscriber Subscriber.
+     * @param programs Programs generated ahead.
+     */
+    Demand(final Flow.Subscriber<? super T> subscriber, final Prefetch<T> programs) {
+        this.subscriber = subscriber;
+        this.programs = programs;
+        this.requested = new AtomicLong(0L);
+        this.cancelled = new AtomicBoolean(false);
+        this.delivery = Executors.newSingleThreadExecutor(
+            runnable -> {
+                final Thread thread = new Thread(runnable, "jsmith-delivery");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    @Override
+    public void request(final long count) {
+        if (count <= 0L) {
+            this.cancel();
+            this.subscriber.onError(
+                new IllegalArgumentException(
+                    String.format("Requested number of programs must be positive: %d", count)
+                )
+            );
+        } else if (!this.cancelled.get()) {
+            this.requested.accumulateAndGet(
+                count,
+                (current, more) -> {
+                    final long sum = current + more;
+                    final long res;
+                    if (sum < 0L) {
+                        res = Long.MAX_VALUE;
+                    } else {
+                        res = sum;
+                    }
+                    return res;
+                }
+            );
+            this.delivery.execute(this::drain);
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (this.cancelled.compareAndSet(false, true)) {
+            this.delivery.shutdownNow();
+            this.programs.close();
+        }
+    }
+
+    /**
+     * Deliver all the requested programs.
+     * Any failure of the generator or of the subscriber cancels the subscription
+     * and is signalled to the subscriber, as {@link Flow.Subscriber} requires.
+     * @checkstyle IllegalCatchCheck (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void drain() {
+        try {
+            while (!this.cancelled.get() && this.requested.get() > 0L) {
+                final T program = this.programs.next();
+                if (!this.cancelled.get()) {
+                    this.requested.decrementAndGet();
+                    this.subscriber.onNext(program);
+                }
+            }
+        } catch (final RuntimeException exception) {
+            if (!this.cancelled.get()) {
+                this.cancel();
+                this.subscriber.onError(exception);
+            }
+        }
+    }
+}
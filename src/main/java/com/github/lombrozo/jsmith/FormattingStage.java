@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Formatting stage that runs on its own workers.
+ * It lets formatting overlap with generation: generated sources might be passed
+ * as futures, so they are formatted as soon as they are ready.
+ * @since 0.2
+ */
+public final class FormattingStage implements AutoCloseable {
+
+    /**
+     * Formatter.
+     */
+    private final JavaFormatter formatter;
+
+    /**
+     * Workers.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Constructor.
+     * Uses as many workers as there are available processors.
+     */
+    public FormattingStage() {
+        this(new JavaFormatter(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     * @param formatter Formatter.
+     * @param threads Number of workers.
+     */
+    public FormattingStage(final JavaFormatter formatter, final int threads) {
+        this(
+            formatter,
+            Executors.newFixedThreadPool(
+                threads,
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "jsmith-format");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            )
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param formatter Formatter.
+     * @param workers Workers.
+     */
+    private FormattingStage(final JavaFormatter formatter, final ExecutorService workers) {
+        this.formatter = formatter;
+        this.workers = workers;
+    }
+
+    /**
+     * Format source code asynchronously.
+     * @param src Source code.
+     * @return Future formatted source code.
+     */
+    public CompletableFuture<String> format(final String src) {
+        return CompletableFuture.supplyAsync(() -> this.formatter.format(src), this.workers);
+    }
+
+    /**
+     * Format source code as soon as it's generated.
+     * @param src Future source code.
+     * @return Future formatted source code.
+     */
+    public CompletableFuture<String> format(final CompletableFuture<String> src) {
+        return src.thenApplyAsync(this.formatter::format, this.workers);
+    }
+
+    /**
+     * Format a batch of sources in parallel.
+     * @param sources Source code.
+     * @return Formatted source code, in the same order.
+     */
+    public List<String> formatAll(final Collection<String> sources) {
+        return sources.stream()
+            .map(this::format)
+            .collect(Collectors.toList())
+            .stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void close() {
+        this.workers.shutdownNow();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith;
+
+import com.github.lombrozo.jsmith.events.FormatEvent;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.formatter.CodeFormatter;
+import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.text.edits.TextEdit;
+
+/**
+ * Eclipse JDT formatter of Java source code.
+ * Formatter options are prepared only once, while the formatter itself is
+ * created once per thread and then reused, since it isn't thread-safe.
+ * The instance is thread-safe.
+ * @since 0.2
+ */
+public final class JavaFormatter {
+
+    /**
+     * Formatter options.
+     */
+    private final Map<String, String> options;
+
+    /**
+     * Formatter of the current thread.
+     */
+    private final ThreadLocal<CodeFormatter> formatters;
+
+    /**
+     * Constructor.
+     * Uses Eclipse default settings for Java 8.
+     */
+    public JavaFormatter() {
+        this(JavaFormatter.defaults());
+    }
+
+    /**
+     * Constructor.
+     * @param options Formatter options.
+     */
+    public JavaFormatter(final Map<String, String> options) {
+        this.options = Collections.unmodifiableMap(new HashMap<>(options));
+        this.formatters = ThreadLocal.withInitial(
+            () -> ToolFactory.createCodeFormatter(this.options)
+        );
+    }
+
+    /**
+     * Format source code.
+     * If the formatter can't handle the code, the code is returned as is.
+     * @param src Source code.
+     * @return Formatted source code.
+     */
+    public String format(final String src) {
+        final FormatEvent event = new FormatEvent();
+        event.begin();
+        try {
+            final TextEdit format = this.formatters.get().format(
+                CodeFormatter.K_COMPILATION_UNIT,
+                src,
+                0,
+                src.length(),
+                0,
+                System.lineSeparator()
+            );
+            final String result;
+            if (format != null) {
+                final IDocument document = new Document(src);
+                format.apply(document);
+                result = document.get();
+            } else {
+                result = src;
+            }
+            if (event.shouldCommit()) {
+                event.length(result.length());
+                event.commit();
+            }
+            return result;
+        } catch (final BadLocationException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to format source code %n%s%n", src), exception
+            );
+        }
+    }
+
+    /**
+     * Default formatter options.
+     * Without the source level the formatter rejects Java 7+ syntax,
+     * like binary literals or underscores in numbers.
+     * @return Options.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> defaults() {
+        final Map<String, String> res = new HashMap<>(
+            DefaultCodeFormatterConstants.getEclipseDefaultSettings()
+        );
+        res.put(JavaCore.COMPILER_SOURCE, JavaCore.VERSION_1_8);
+        res.put(JavaCore.COMPILER_COMPLIANCE, JavaCore.VERSION_1_8);
+        res.put(JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, JavaCore.VERSION_1_8);
+        return res;
+    }
+}
@@ -23,6 +23,7 @@
  */
 package com.github.lombrozo.jsmith;
 
+import com.github.lombrozo.jsmith.trace.Tracer;
 import java.security.SecureRandom;
 import lombok.ToString;
 
@@ -56,6 +57,22 @@ public final class Params {
      */
     private final long seed;
 
+    /**
+     * Generate independent subtrees in parallel.
+     */
+    private final boolean parallel;
+
+    /**
+     * Steer generation toward alternatives that were rarely chosen in the process.
+     */
+    private final boolean guided;
+
+    /**
+     * Tracing of the generation.
+     */
+    @ToString.Exclude
+    private final Tracer tracer;
+
     /**
      * Constructor.
      */
@@ -85,8 +102,79 @@ public final class Params {
      * @param seed Seed.
      */
     private Params(final double factor, final long seed) {
+        this(factor, seed, false);
+    }
+
+    /**
+     * Constructor.
+     * @param factor Factor.
+     * @param seed Seed.
+     * @param parallel Generate independent subtrees in parallel.
+     */
+    private Params(final double factor, final long seed, final boolean parallel) {
+        this(factor, seed, parallel, false, new Tracer.Off());
+    }
+
+    /**
+     * Constructor.
+     * @param factor Factor.
+     * @param seed Seed.
+     * @param parallel Generate independent subtrees in parallel.
+     * @param guided Steer generation toward rarely chosen alternatives.
+     * @param tracer Tracing of the generation.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Params(
+        final double factor,
+        final long seed,
+        final boolean parallel,
+        final boolean guided,
+        final Tracer tracer
+    ) {
         this.factor = factor;
         this.seed = seed;
+        this.parallel = parallel;
+        this.guided = guided;
+        this.tracer = tracer;
+    }
+
+    /**
+     * The same params, but with parallel generation of independent subtrees.
+     * Pay attention, that the output is not reproducible by seed in this mode,
+     * because forked subtrees consume random numbers in an arbitrary order.
+     * @return Params with parallel generation.
+     */
+    public Params concurrently() {
+        return new Params(this.factor, this.seed, true, this.guided, this.tracer);
+    }
+
+    /**
+     * The same params, but with coverage-guided generation.
+     * Alternatives that were rarely chosen by any generation in the process
+     * are preferred, so the grammar is covered with fewer programs.
+     * @return Params with coverage-guided generation.
+     */
+    public Params guidedByCoverage() {
+        return new Params(this.factor, this.seed, this.parallel, true, this.tracer);
+    }
+
+    /**
+     * The same params, but with another seed.
+     * @param another Seed.
+     * @return Params with the seed.
+     */
+    Params reseed(final long another) {
+        return new Params(this.factor, another, this.parallel, this.guided, this.tracer);
+    }
+
+    /**
+     * The same params, but with tracing of the generation.
+     * Nothing is traced by default.
+     * @param another Tracer.
+     * @return Params with the tracer.
+     */
+    public Params traced(final Tracer another) {
+        return new Params(this.factor, this.seed, this.parallel, this.guided, another);
     }
 
     /**
@@ -104,4 +192,28 @@ public final class Params {
     public long seed() {
         return this.seed;
     }
+
+    /**
+     * Should independent subtrees be generated in parallel.
+     * @return True if parallel generation is enabled.
+     */
+    public boolean parallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Should generation be coverage-guided.
+     * @return True if coverage-guided generation is enabled.
+     */
+    public boolean guided() {
+        return this.guided;
+    }
+
+    /**
+     * Tracing of the generation.
+     * @return Tracer.
+     */
+    public Tracer tracer() {
+        return this.tracer;
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Infinite ordered sequence of programs generated ahead on worker threads.
+ * The sequence keeps at most the given number of programs in flight:
+ * a new program is started only when the consumer takes one.
+ * @param <T> Type of programs.
+ * @since 0.2
+ */
+final class Prefetch<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+    /**
+     * Program generator that consumes a seed.
+     */
+    private final LongFunction<T> generator;
+
+    /**
+     * Source of seeds.
+     * Seeds are drawn in the order programs are started, so the sequence is reproducible.
+     */
+    private final Random seeds;
+
+    /**
+     * Number of programs in flight.
+     */
+    private final int ahead;
+
+    /**
+     * Programs in flight, in the order they must be delivered.
+     */
+    private final Deque<Future<T>> flight;
+
+    /**
+     * Worker threads.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Constructor.
+     * @param generator Program generator that consumes a seed.
+     * @param seed Initial seed.
+     * @param ahead Number of programs in flight.
+     */
+    Prefetch(final LongFunction<T> generator, final long seed, final int ahead) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.generator = generator;
+        this.seeds = new Random(seed);
+        this.ahead = ahead;
+        this.flight = new ArrayDeque<>(ahead);
+        this.workers = Executors.newFixedThreadPool(
+            Math.min(ahead, Runtime.getRuntime().availableProcessors()),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "jsmith-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        action.accept(this.next());
+        return true;
+    }
+
+    @Override
+    public void close() {
+        this.workers.shutdownNow();
+    }
+
+    /**
+     * Take the next program.
+     * Blocks until the program is generated.
+     * @return Next program.
+     */
+    synchronized T next() {
+        while (this.flight.size() < this.ahead) {
+            final long seed = this.seeds.nextLong();
+            this.flight.addLast(this.workers.submit(() -> this.generator.apply(seed)));
+        }
+        try {
+            return this.flight.removeFirst().get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Program generation was interrupted", exception);
+        } catch (final ExecutionException exception) {
+            throw new IllegalStateException("Program generation failed", exception.getCause());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith;
+
+import java.util.concurrent.Flow;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy source of random programs.
+ * Programs are generated on worker threads a few steps ahead of the consumer,
+ * but never more than the prefetch limit, so a slow consumer isn't flooded and
+ * a fast one isn't starved.
+ * Each program is generated with its own seed drawn from the initial seed,
+ * so the order and the content of programs are reproducible.
+ * @param <T> Type of programs.
+ * @since 0.2
+ */
+public final class Programs<T> {
+
+    /**
+     * Default number of programs generated ahead.
+     */
+    private static final int PREFETCH = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Program generator that consumes a seed.
+     */
+    private final LongFunction<T> generator;
+
+    /**
+     * Initial seed.
+     */
+    private final long seed;
+
+    /**
+     * Number of programs generated ahead.
+     */
+    private final int ahead;
+
+    /**
+     * Constructor.
+     * @param generator Program generator that consumes a seed.
+     * @param seed Initial seed.
+     */
+    Programs(final LongFunction<T> generator, final long seed) {
+        this(generator, seed, Programs.PREFETCH);
+    }
+
+    /**
+     * Constructor.
+     * @param generator Program generator that consumes a seed.
+     * @param seed Initial seed.
+     * @param ahead Number of programs generated ahead.
+     */
+    private Programs(final LongFunction<T> generator, final long seed, final int ahead) {
+        if (ahead < 1) {
+            throw new IllegalArgumentException(
+                String.format("Prefetch must be positive, but got %d", ahead)
+            );
+        }
+        this.generator = generator;
+        this.seed = seed;
+        this.ahead = ahead;
+    }
+
+    /**
+     * The same programs, but with another number of programs generated ahead.
+     * @param prefetch Number of programs generated ahead.
+     * @return Programs with the prefetch.
+     */
+    public Programs<T> prefetch(final int prefetch) {
+        return new Programs<>(this.generator, this.seed, prefetch);
+    }
+
+    /**
+     * Infinite ordered stream of programs.
+     * Close the stream to stop worker threads.
+     * @return Stream of programs.
+     */
+    public Stream<T> stream() {
+        final Prefetch<T> prefetch = this.start();
+        return StreamSupport.stream(prefetch, false).onClose(prefetch::close);
+    }
+
+    /**
+     * Publisher of programs.
+     * Each subscriber receives its own sequence of programs, starting from the initial seed.
+     * @return Publisher of programs.
+     */
+    public Flow.Publisher<T> publisher() {
+        return subscriber -> subscriber.onSubscribe(new Demand<>(subscriber, this.start()));
+    }
+
+    /**
+     * Start generation of programs.
+     * @return Prefetching sequence of programs.
+     */
+    private Prefetch<T> start() {
+        return new Prefetch<>(this.generator, this.seed, this.ahead);
+    }
+}
@@ -23,14 +23,8 @@
  */
 package com.github.lombrozo.jsmith;
 
-import java.util.HashMap;
+import com.github.lombrozo.jsmith.antlr.view.Layout;
 import org.cactoos.io.ResourceOf;
-import org.eclipse.jdt.core.ToolFactory;
-import org.eclipse.jdt.core.formatter.CodeFormatter;
-import org.eclipse.jface.text.BadLocationException;
-import org.eclipse.jface.text.Document;
-import org.eclipse.jface.text.IDocument;
-import org.eclipse.text.edits.TextEdit;
 
 /**
  * Random Java class.
@@ -38,6 +32,11 @@ import org.eclipse.text.edits.TextEdit;
  */
 public final class RandomJavaClass {
 
+    /**
+     * Formatter shared by all the classes.
+     */
+    private static final JavaFormatter FORMATTER = new JavaFormatter();
+
     /**
      * ANTLR parser grammar for Java.
      */
@@ -122,36 +121,46 @@ public final class RandomJavaClass {
 
     /**
      * Source code of the class.
+     * The code is indented right from the generated tokens, see {@link Layout}.
+     * With {@link Params#concurrently()}, independent subtrees are forked,
+     * see {@link RandomScript#lexemes(String)}.
      * @return Source code of the class.
      */
     public String src() {
-        final String output = new RandomScript(
+        return new Layout(this.script().lexemes(this.rule)).text();
+    }
+
+    /**
+     * Source code of the class formatted by Eclipse JDT formatter.
+     * It's much slower than {@link #src()}, since the formatter parses the whole code again.
+     * @return Source code of the class.
+     */
+    public String formatted() {
+        return RandomJavaClass.FORMATTER.format(this.script().generate(this.rule).output());
+    }
+
+    /**
+     * Lazy source of random classes.
+     * The sequence of classes is reproducible by the seed of the params.
+     * @return Source code of the classes.
+     */
+    public Programs<String> programs() {
+        final RandomScript script = this.script();
+        return new Programs<>(
+            seed -> new Layout(script.reseed(seed).lexemes(this.rule)).text(),
+            this.params.seed()
+        );
+    }
+
+    /**
+     * Script that generates classes.
+     * @return Random script.
+     */
+    private RandomScript script() {
+        return new RandomScript(
             this.params,
             new ResourceOf(this.parser),
             new ResourceOf(this.lexer)
-        ).generate(this.rule).output();
-        try {
-            final CodeFormatter formatter = ToolFactory.createCodeFormatter(new HashMap(0));
-            final TextEdit format = formatter.format(
-                CodeFormatter.K_COMPILATION_UNIT, output,
-                0,
-                output.length(),
-                0,
-                System.lineSeparator()
-            );
-            final IDocument document = new Document(output);
-            final String result;
-            if (format != null) {
-                format.apply(document);
-                result = document.get();
-            } else {
-                result = output;
-            }
-            return result;
-        } catch (final BadLocationException exception) {
-            throw new IllegalStateException(
-                String.format("Failed to format source code %n%s%n", output), exception
-            );
-        }
+        );
     }
 }
@@ -24,21 +24,46 @@
 package com.github.lombrozo.jsmith;
 
 import com.github.lombrozo.jsmith.antlr.AntlrListener;
+import com.github.lombrozo.jsmith.antlr.Attributes;
 import com.github.lombrozo.jsmith.antlr.Context;
+import com.github.lombrozo.jsmith.antlr.Footprints;
+import com.github.lombrozo.jsmith.antlr.Emitter;
+import com.github.lombrozo.jsmith.antlr.ForkJoinSiblings;
+import com.github.lombrozo.jsmith.antlr.Probe;
+import com.github.lombrozo.jsmith.antlr.Siblings;
 import com.github.lombrozo.jsmith.antlr.Unlexer;
 import com.github.lombrozo.jsmith.antlr.Unparser;
+import com.github.lombrozo.jsmith.antlr.rules.Root;
+import com.github.lombrozo.jsmith.antlr.rules.Ruleref;
 import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
 import com.github.lombrozo.jsmith.antlr.semantic.Scope;
+import com.github.lombrozo.jsmith.antlr.view.CapturedNode;
+import com.github.lombrozo.jsmith.antlr.view.Emission;
+import com.github.lombrozo.jsmith.antlr.view.Lexemes;
+import com.github.lombrozo.jsmith.antlr.view.RenderedText;
 import com.github.lombrozo.jsmith.antlr.view.Text;
+import com.github.lombrozo.jsmith.events.DerivationEvent;
+import com.github.lombrozo.jsmith.events.GrammarEvent;
+import com.github.lombrozo.jsmith.random.Choices;
+import com.github.lombrozo.jsmith.random.ChoosingStrategy;
 import com.github.lombrozo.jsmith.random.ConvergenceStrategy;
+import com.github.lombrozo.jsmith.random.CoverageStrategy;
 import com.github.lombrozo.jsmith.random.Rand;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.cactoos.Input;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
 import org.cactoos.text.TextOf;
 import org.cactoos.text.UncheckedText;
 
@@ -72,6 +97,18 @@ public final class RandomScript {
      */
     private final Params params;
 
+    /**
+     * Parsed grammars.
+     * Grammars are parsed only once, but the rule trees are built from them
+     * for each generation, since the rules keep the state of the generation.
+     */
+    private final Unchecked<List<Parsed>> parsed;
+
+    /**
+     * Observer of the generation.
+     */
+    private final Probe probe;
+
     /**
      * Constructor.
      * @param grammars ANTLR grammars, either standalone or separate lexer and parser grammars.
@@ -118,25 +155,165 @@ public final class RandomScript {
         final Unlexer unlexer,
         final Unparser unparser,
         final Params params
+    ) {
+        this(
+            grammars,
+            unlexer,
+            unparser,
+            params,
+            new Unchecked<>(
+                new Synced<>(
+                    new Sticky<>(() -> RandomScript.parse(grammars))
+                )
+            ),
+            new Probe.Idle()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param grammars ANTLR grammars, either standalone or separate lexer and parser grammars.
+     * @param unlexer Unlexer instance.
+     * @param unparser Unparser instance.
+     * @param params Generation params.
+     * @param parsed Parsed grammars.
+     * @param probe Observer of the generation.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private RandomScript(
+        final List<String> grammars,
+        final Unlexer unlexer,
+        final Unparser unparser,
+        final Params params,
+        final Unchecked<List<Parsed>> parsed,
+        final Probe probe
     ) {
         this.grammars = grammars;
         this.unlexer = unlexer;
         this.unparser = unparser;
         this.params = params;
+        this.parsed = parsed;
+        this.probe = probe;
     }
 
     /**
      * Generate random script text based on the starting rule.
+     * The tree is never regenerated, so contexts aren't captured on the way.
      * @param rule Starting rule.
      * @return Random script text.
      */
     public Text generate(final String rule) {
+        return new RenderedText(
+            this.tree(
+                rule,
+                () -> new Rand(this.params.seed()),
+                this::siblings,
+                prints -> new Emitter.Off(),
+                false
+            ).text()
+        );
+    }
+
+    /**
+     * Generate random script tree based on the starting rule.
+     * The tree might be mutated later by regenerating any of its subtrees,
+     * see {@link CapturedNode#regenerate(List)}.
+     * @param rule Starting rule.
+     * @return Random script tree.
+     */
+    public CapturedNode tree(final String rule) {
+        return this.tree(
+            rule,
+            () -> new Rand(this.params.seed()),
+            this::siblings,
+            prints -> new Emitter.Off(),
+            true
+        );
+    }
+
+    /**
+     * Generate random script tree and record all the random choices.
+     * The tree is the same as {@link #tree(String)} generates, but siblings
+     * are always generated in order, so the trace is reproducible.
+     * @param rule Starting rule.
+     * @param trace Empty trace to record choices into.
+     * @return Random script tree.
+     */
+    public CapturedNode record(final String rule, final Choices trace) {
+        return this.tree(
+            rule,
+            () -> new Rand(this.params.seed(), trace),
+            prints -> new Siblings.InOrder(),
+            prints -> new Emitter.Off(),
+            true
+        );
+    }
+
+    /**
+     * Replay the script tree from recorded choices.
+     * Nothing is drawn from the random generator, so the seed doesn't matter,
+     * only the grammar must be the same.
+     * @param rule Starting rule.
+     * @param trace Trace recorded by {@link #record(String, Choices)}.
+     * @return Replayed script tree.
+     */
+    public CapturedNode replay(final String rule, final Choices trace) {
+        return this.tree(
+            rule,
+            () -> new Rand(trace),
+            prints -> new Siblings.InOrder(),
+            prints -> new Emitter.Off(),
+            true
+        );
+    }
+
+    /**
+     * Generate random script tree.
+     * @param rule Starting rule.
+     * @param rands Source of random generators, all of them share the same choices.
+     * @param siblings The way how sibling rules are generated.
+     * @param emitters Receiver of the tokens while the derivation runs.
+     * @param capture Might the tree be regenerated later?
+     * @return Random script tree.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private CapturedNode tree(
+        final String rule,
+        final Supplier<Rand> rands,
+        final Function<Footprints, Siblings> siblings,
+        final Function<Footprints, Emitter> emitters,
+        final boolean capture
+    ) {
+        final DerivationEvent derivation = new DerivationEvent(rule);
+        derivation.begin();
         try {
-            final Scope scope = new Scope(new Rand(this.params.seed()));
-            this.grammars.forEach(this::parse);
-            return this.unparser.generate(
-                rule, new Context(scope, new ConvergenceStrategy(this.params))
-            ).text();
+            final Scope scope = new Scope(rands.get());
+            final Footprints prints = new Footprints();
+            final List<Parsed> grammars = this.parsed.value();
+            final GrammarEvent load = new GrammarEvent("walk", grammars.size());
+            load.begin();
+            grammars.forEach(grammar -> this.walk(grammar, prints, rands.get()));
+            load.commit();
+            final Set<String> names = new HashSet<>(this.unparser.names());
+            names.addAll(this.unlexer.names());
+            this.probe.grammar(names, prints.choices());
+            final Context context = new Context(
+                this.strategy(rands.get(), prints),
+                new ArrayList<>(0),
+                scope,
+                new Attributes(),
+                siblings.apply(prints)
+            ).withProbe(this.probe, prints::address)
+                .withTracer(this.params.tracer())
+                .withEmitter(emitters.apply(prints))
+                .withCapture(capture);
+            final Ruleref start = new Ruleref(new Root(), rule, this.unparser);
+            final CapturedNode tree = context.siblings().root(() -> start.generate(context));
+            if (derivation.shouldCommit()) {
+                derivation.size(RandomScript.nodes(tree), RandomScript.depth(tree));
+                derivation.commit();
+            }
+            return tree;
         } catch (final WrongPathException exception) {
             throw new IllegalStateException(
                 String.format(
@@ -150,6 +327,112 @@ public final class RandomScript {
         }
     }
 
+    /**
+     * Generate random script tokens based on the starting rule.
+     * Tokens are passed to the sink of {@link Lexemes#writeTo(Appendable)} while
+     * the derivation runs, see {@link Emission}. Derived nodes give their tokens
+     * away and are replaced with empty ones, so neither the text tree nor the
+     * generation tree is kept, only the nodes that are still being derived.
+     * Tokens are held only inside attempts that might fail because of semantic
+     * checks. Contexts aren't captured, since the tree isn't regenerated.
+     * Each pass over the tokens derives the same program again.
+     * Streamed tokens must come in order, so if the params ask for parallel
+     * generation, see {@link Params#concurrently()}, the tree is generated
+     * with forked subtrees first and the tokens are taken from it.
+     * @param rule Starting rule.
+     * @return Random script tokens.
+     */
+    public Lexemes lexemes(final String rule) {
+        final Lexemes res;
+        if (this.params.parallel()) {
+            res = new Lexemes(
+                this.tree(
+                    rule,
+                    () -> new Rand(this.params.seed()),
+                    this::siblings,
+                    prints -> new Emitter.Off(),
+                    false
+                )
+            );
+        } else {
+            res = new Lexemes(
+                sink -> this.tree(
+                    rule,
+                    () -> new Rand(this.params.seed()),
+                    prints -> new Siblings.InOrder(),
+                    prints -> new Emission(prints::fallible, sink),
+                    false
+                )
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Lazy source of random programs.
+     * Each program is generated with its own seed drawn from the seed of this script,
+     * so the sequence of programs is reproducible.
+     * Grammars are parsed only once for all the programs.
+     * @param rule Starting rule.
+     * @return Source of programs.
+     */
+    public Programs<Text> programs(final String rule) {
+        return new Programs<>(
+            seed -> this.reseed(seed).generate(rule),
+            this.params.seed()
+        );
+    }
+
+    /**
+     * Lazy source of random programs as tokens.
+     * Trees are generated ahead on worker threads, while tokens are taken on demand,
+     * so programs might be checked, for example, for duplicates before they are written.
+     * @param rule Starting rule.
+     * @return Source of program tokens.
+     */
+    public Programs<Lexemes> tokens(final String rule) {
+        return new Programs<>(
+            seed -> new Lexemes(this.reseed(seed).tree(rule)),
+            this.params.seed()
+        );
+    }
+
+    /**
+     * The same script with another seed.
+     * The copy shares parsed grammars with this script, but has its own rules,
+     * so both scripts might generate programs simultaneously.
+     * @param seed Seed.
+     * @return New script.
+     */
+    RandomScript reseed(final long seed) {
+        return new RandomScript(
+            this.grammars,
+            new Unlexer(),
+            new Unparser(),
+            this.params.reseed(seed),
+            this.parsed,
+            this.probe
+        );
+    }
+
+    /**
+     * The same script observed by the probe.
+     * All the programs generated by the script, including the lazy ones,
+     * report derived rules and chosen alternatives to the probe.
+     * @param observer Observer of the generation.
+     * @return New script.
+     */
+    public RandomScript probed(final Probe observer) {
+        return new RandomScript(
+            this.grammars,
+            new Unlexer(),
+            new Unparser(),
+            this.params,
+            this.parsed,
+            observer
+        );
+    }
+
     /**
      * Simple ANTLR grammar specification in Lisp format.
      * @return ANTLR grammar specification in Lisp format.
@@ -162,22 +445,90 @@ public final class RandomScript {
     }
 
     /**
-     * Parse ANTLR grammar.
-     * @param grammar ANTLR grammar.
+     * The way how sibling rules are generated.
+     * @param prints Semantic footprints of the parsed grammars.
+     * @return Siblings generation.
      */
-    private void parse(final String grammar) {
-        final ANTLRv4Lexer lexer = new ANTLRv4Lexer(CharStreams.fromString(grammar));
-        final CommonTokenStream tokens = new CommonTokenStream(lexer);
-        final ANTLRv4Parser parser = new ANTLRv4Parser(tokens);
-        final ANTLRv4Parser.GrammarSpecContext spec = parser.grammarSpec();
-        final ParseTreeWalker walker = new ParseTreeWalker();
+    private Siblings siblings(final Footprints prints) {
+        final Siblings result;
+        if (this.params.parallel()) {
+            result = new ForkJoinSiblings(prints);
+        } else {
+            result = new Siblings.InOrder();
+        }
+        return result;
+    }
+
+    /**
+     * The way how alternatives are chosen.
+     * @param rand Random generator.
+     * @param prints Footprints of the grammar nodes with their stable addresses.
+     * @return Choosing strategy.
+     */
+    private ChoosingStrategy strategy(final Rand rand, final Footprints prints) {
+        final ChoosingStrategy result;
+        if (this.params.guided()) {
+            result = new CoverageStrategy(this.params, rand, prints::address);
+        } else {
+            result = new ConvergenceStrategy(this.params, rand);
+        }
+        return result;
+    }
+
+    /**
+     * Build the rules of a parsed ANTLR grammar.
+     * @param grammar Parsed ANTLR grammar.
+     * @param prints Semantic footprints of the grammar nodes.
+     * @param rand Random generator of the rules.
+     */
+    private void walk(final Parsed grammar, final Footprints prints, final Rand rand) {
         final AntlrListener listener = new AntlrListener(
-            tokens,
+            grammar.tokens,
             this.unparser,
             this.unlexer,
-            new Rand(this.params.seed())
+            rand,
+            prints
         );
-        walker.walk(listener, spec);
+        new ParseTreeWalker().walk(listener, grammar.spec);
+    }
+
+    /**
+     * Parse ANTLR grammars.
+     * @param grammars ANTLR grammars.
+     * @return Parsed grammars.
+     */
+    private static List<Parsed> parse(final List<String> grammars) {
+        final GrammarEvent event = new GrammarEvent("parse", grammars.size());
+        event.begin();
+        final List<Parsed> res = grammars.stream().map(Parsed::new).collect(Collectors.toList());
+        event.commit();
+        return res;
+    }
+
+    /**
+     * Number of captured nodes in the tree.
+     * @param tree Derived tree.
+     * @return Number of nodes, including the root.
+     */
+    private static int nodes(final CapturedNode tree) {
+        int res = 1;
+        for (final CapturedNode sub : tree.subtrees()) {
+            res += RandomScript.nodes(sub);
+        }
+        return res;
+    }
+
+    /**
+     * Depth of the captured nodes in the tree.
+     * @param tree Derived tree.
+     * @return Depth, one for a tree without subtrees.
+     */
+    private static int depth(final CapturedNode tree) {
+        int res = 0;
+        for (final CapturedNode sub : tree.subtrees()) {
+            res = Math.max(res, RandomScript.depth(sub));
+        }
+        return res + 1;
     }
 
     /**
@@ -190,4 +541,50 @@ public final class RandomScript {
             new CommonTokenStream(new ANTLRv4Lexer(CharStreams.fromString(grammar)))
         );
     }
+
+    /**
+     * Parsed ANTLR grammar.
+     * @since 0.2
+     */
+    private static final class Parsed {
+
+        /**
+         * Grammar tokens, including comments.
+         */
+        private final CommonTokenStream tokens;
+
+        /**
+         * Grammar parse tree.
+         */
+        private final ANTLRv4Parser.GrammarSpecContext spec;
+
+        /**
+         * Constructor.
+         * @param grammar ANTLR grammar.
+         */
+        Parsed(final String grammar) {
+            this(new CommonTokenStream(new ANTLRv4Lexer(CharStreams.fromString(grammar))));
+        }
+
+        /**
+         * Constructor.
+         * @param tokens Grammar tokens.
+         */
+        private Parsed(final CommonTokenStream tokens) {
+            this(tokens, new ANTLRv4Parser(tokens).grammarSpec());
+        }
+
+        /**
+         * Constructor.
+         * @param tokens Grammar tokens.
+         * @param spec Grammar parse tree.
+         */
+        private Parsed(
+            final CommonTokenStream tokens,
+            final ANTLRv4Parser.GrammarSpecContext spec
+        ) {
+            this.tokens = tokens;
+            this.spec = spec;
+        }
+    }
 }
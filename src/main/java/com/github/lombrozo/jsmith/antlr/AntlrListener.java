@@ -133,6 +133,11 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
      */
     private final Rand random;
 
+    /**
+     * Semantic footprints of the grammar nodes.
+     */
+    private final Footprints prints;
+
     /**
      * Current rule.
      */
@@ -152,7 +157,7 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
         final Unlexer unlexer,
         final Rand rand
     ) {
-        this(tokens, unparser, unlexer, rand, new Root());
+        this(tokens, unparser, unlexer, rand, new Footprints());
     }
 
     /**
@@ -161,6 +166,26 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
      * @param unparser Unparser.
      * @param unlexer Unlexer.
      * @param rand Random generator.
+     * @param prints Semantic footprints of the grammar nodes.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public AntlrListener(
+        final BufferedTokenStream tokens,
+        final Unparser unparser,
+        final Unlexer unlexer,
+        final Rand rand,
+        final Footprints prints
+    ) {
+        this(tokens, unparser, unlexer, rand, prints, new Root());
+    }
+
+    /**
+     * Constructor.
+     * @param tokens Token stream.
+     * @param unparser Unparser.
+     * @param unlexer Unlexer.
+     * @param rand Random generator.
+     * @param prints Semantic footprints of the grammar nodes.
      * @param root Current rule.
      * @checkstyle ParameterNumberCheck (5 lines)
      */
@@ -169,6 +194,7 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
         final Unparser unparser,
         final Unlexer unlexer,
         final Rand rand,
+        final Footprints prints,
         final Rule root
     ) {
         this.tokens = tokens;
@@ -176,6 +202,7 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
         this.unlexer = unlexer;
         this.current = new Traced(root);
         this.random = rand;
+        this.prints = prints;
         this.identifiers = new JavaKeywords().toSet();
     }
 
@@ -202,6 +229,7 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
     @Override
     public void enterParserRuleSpec(final ANTLRv4Parser.ParserRuleSpecContext ctx) {
         final String name = ctx.RULE_REF().getText();
+        this.prints.owner(name);
         final JsmithComments comments = new JsmithComments(
             this.tokens.getHiddenTokensToRight(ctx.getStart().getTokenIndex(), ANTLRv4Lexer.COMMENT)
         );
@@ -213,6 +241,7 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
         }
         this.unparser.with(name, rule);
         this.down(rule);
+        this.prints.rule(name, comments.has(ScopeRule.COMMENT));
         super.enterParserRuleSpec(ctx);
     }
 
@@ -277,6 +306,17 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
             res = new TypeRule(res);
         }
         this.down(res);
+        if (comments.has(VariableDeclaration.COMMENT)) {
+            this.prints.write();
+        }
+        if (comments.has(VariableDeclaration.COMMENT)
+            || comments.has(VariableTarget.COMMENT)
+            || comments.has(TypeRule.COMMENT)) {
+            this.prints.emit();
+        }
+        if (comments.has(VariableUsage.COMMENT) || comments.has(VariableTarget.COMMENT)) {
+            this.prints.check();
+        }
         super.enterElement(ctx);
     }
 
@@ -301,6 +341,7 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
     @Override
     public void enterRuleref(final ANTLRv4Parser.RulerefContext ctx) {
         this.down(new Ruleref(this.current, ctx.getText(), this.unparser));
+        this.prints.reference(ctx.getText());
         super.enterRuleref(ctx);
     }
 
@@ -391,6 +432,7 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
     @Override
     public void enterLexerRuleSpec(final ANTLRv4Parser.LexerRuleSpecContext ctx) {
         final String name = ctx.TOKEN_REF().getText();
+        this.prints.owner(name);
         final LexerRuleSpec rule = new LexerRuleSpec(this.current, name);
         this.unlexer.with(name, rule);
         this.down(rule);
@@ -598,6 +640,12 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
             res = new PredicateRule(main, type);
         }
         this.down(res);
+        if (comments.has(VariableInitialization.COMMENT)) {
+            this.prints.write();
+        }
+        if (comments.has(PredicateRule.COMMENT)) {
+            this.prints.check();
+        }
         super.enterLabeledAlt(ctx);
     }
 
@@ -823,8 +871,11 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
      * @param rule Rule to go down.
      */
     private void down(final Rule rule) {
-        this.current.append(new Traced(new Safe(rule)));
+        final Rule child = new Traced(new Safe(rule));
+        this.current.append(child);
         this.current = rule;
+        this.prints.place(rule);
+        this.prints.enter(child);
     }
 
     /**
@@ -834,5 +885,6 @@ public final class AntlrListener extends ANTLRv4ParserBaseListener {
     @SuppressWarnings("PMD.ShortMethodName")
     private void up() {
         this.current = this.current.parent();
+        this.prints.exit();
     }
 }
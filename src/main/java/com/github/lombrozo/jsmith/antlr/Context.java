@@ -27,9 +27,13 @@ import com.github.lombrozo.jsmith.antlr.rules.Rule;
 import com.github.lombrozo.jsmith.antlr.semantic.Scope;
 import com.github.lombrozo.jsmith.random.ChoosingStrategy;
 import com.github.lombrozo.jsmith.random.ConvergenceStrategy;
+import com.github.lombrozo.jsmith.trace.Tracer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -60,6 +64,31 @@ public final class Context {
      */
     private final Attributes attrs;
 
+    /**
+     * The way how sibling rules are generated.
+     */
+    private final Siblings kin;
+
+    /**
+     * Observer of the generation.
+     */
+    private final Probe observer;
+
+    /**
+     * Tracing of the generation.
+     */
+    private final Tracer trace;
+
+    /**
+     * Receiver of the tokens.
+     */
+    private final Emitter emission;
+
+    /**
+     * Are contexts captured, so the tree might be regenerated?
+     */
+    private final boolean captures;
+
     /**
      * Constructor.
      * Uses the default {@link ConvergenceStrategy}.
@@ -74,7 +103,21 @@ public final class Context {
      * @param convergence The convergence strategy.
      */
     public Context(final Scope scope, final ConvergenceStrategy convergence) {
-        this(convergence, new ArrayList<>(0), scope);
+        this(scope, convergence, new Siblings.InOrder());
+    }
+
+    /**
+     * Constructor.
+     * @param scope The scope.
+     * @param convergence The convergence strategy.
+     * @param siblings The way how sibling rules are generated.
+     */
+    public Context(
+        final Scope scope,
+        final ConvergenceStrategy convergence,
+        final Siblings siblings
+    ) {
+        this(convergence, new ArrayList<>(0), scope, new Attributes(), siblings);
     }
 
     /**
@@ -112,11 +155,72 @@ public final class Context {
         final List<Rule> visited,
         final Scope scope,
         final Attributes attributes
+    ) {
+        this(strat, visited, scope, attributes, new Siblings.InOrder());
+    }
+
+    /**
+     * Constructor.
+     * @param strat The strategy used in the generation.
+     * @param visited The path of the rules that were visited during the generation.
+     * @param scope The scope.
+     * @param attributes The labels.
+     * @param siblings The way how sibling rules are generated.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Context(
+        final ChoosingStrategy strat,
+        final List<Rule> visited,
+        final Scope scope,
+        final Attributes attributes,
+        final Siblings siblings
+    ) {
+        this(
+            strat,
+            visited,
+            scope,
+            attributes,
+            siblings,
+            new Probe.Idle(),
+            new Tracer.Off(),
+            new Emitter.Off(),
+            true
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param strat The strategy used in the generation.
+     * @param visited The path of the rules that were visited during the generation.
+     * @param scope The scope.
+     * @param attributes The labels.
+     * @param siblings The way how sibling rules are generated.
+     * @param probe Observer of the generation.
+     * @param tracer Tracing of the generation.
+     * @param emitter Receiver of the tokens.
+     * @param capture Are contexts captured for regeneration?
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Context(
+        final ChoosingStrategy strat,
+        final List<Rule> visited,
+        final Scope scope,
+        final Attributes attributes,
+        final Siblings siblings,
+        final Probe probe,
+        final Tracer tracer,
+        final Emitter emitter,
+        final boolean capture
     ) {
         this.strat = strat;
         this.visited = visited;
         this.scope = scope;
         this.attrs = attributes;
+        this.kin = siblings;
+        this.observer = probe;
+        this.trace = tracer;
+        this.emission = emitter;
+        this.captures = capture;
     }
 
     /**
@@ -151,7 +255,12 @@ public final class Context {
                 Stream.of(rule)
             ).collect(Collectors.toList()),
             this.scope,
-            this.attrs
+            this.attrs,
+            this.kin,
+            this.observer,
+            this.trace,
+            this.emission,
+            this.captures
         );
     }
 
@@ -161,11 +270,170 @@ public final class Context {
      * @return The next context with the scope.
      */
     public Context withScope(final Scope another) {
-        return new Context(this.strat, this.visited, another, this.attrs);
+        return new Context(
+            this.strat,
+            this.visited,
+            another,
+            this.attrs,
+            this.kin,
+            this.observer,
+            this.trace,
+            this.emission,
+            this.captures
+        );
+    }
+
+    /**
+     * Returns the same context with another strategy.
+     * The strategy replaces the current one as is, so the probe of the context
+     * doesn't observe the choices of the new strategy.
+     * @param another The strategy.
+     * @return The context with the strategy.
+     */
+    public Context withStrategy(final ChoosingStrategy another) {
+        return new Context(
+            another,
+            this.visited,
+            this.scope,
+            this.attrs,
+            this.kin,
+            this.observer,
+            this.trace,
+            this.emission,
+            this.captures
+        );
+    }
+
+    /**
+     * Returns the same context observed by the probe.
+     * The probe sees every derived grammar rule and every chosen alternative.
+     * @param probe Observer of the generation.
+     * @param addresses Stable addresses of choice points.
+     * @return The observed context.
+     */
+    public Context withProbe(final Probe probe, final Function<Rule, String> addresses) {
+        return new Context(
+            new ProbedStrategy(this.strat, probe, addresses),
+            this.visited,
+            this.scope,
+            this.attrs,
+            this.kin,
+            probe,
+            this.trace,
+            this.emission,
+            this.captures
+        );
+    }
+
+    /**
+     * Returns the same context traced by the tracer.
+     * @param tracer Tracing of the generation.
+     * @return The traced context.
+     */
+    public Context withTracer(final Tracer tracer) {
+        return new Context(
+            this.strat,
+            this.visited,
+            this.scope,
+            this.attrs,
+            this.kin,
+            this.observer,
+            tracer,
+            this.emission,
+            this.captures
+        );
+    }
+
+    /**
+     * Returns the same context with another receiver of the tokens.
+     * @param emitter Receiver of the tokens.
+     * @return The context with the emitter.
+     */
+    public Context withEmitter(final Emitter emitter) {
+        return new Context(
+            this.strat,
+            this.visited,
+            this.scope,
+            this.attrs,
+            this.kin,
+            this.observer,
+            this.trace,
+            emitter,
+            this.captures
+        );
+    }
+
+    /**
+     * Returns the same context that captures or doesn't capture itself.
+     * If the tree is never regenerated, there is no need to copy the strategy
+     * and the scope for each rule reference, see {@link #snapshot()}.
+     * @param capture Are contexts captured for regeneration?
+     * @return The context with the capture mode.
+     */
+    public Context withCapture(final boolean capture) {
+        return new Context(
+            this.strat,
+            this.visited,
+            this.scope,
+            this.attrs,
+            this.kin,
+            this.observer,
+            this.trace,
+            this.emission,
+            capture
+        );
     }
 
     public Context withAttributes(final Attributes attributes) {
-        return new Context(this.strat, this.visited, this.scope, this.attrs.add(attributes));
+        return new Context(
+            this.strat,
+            this.visited,
+            this.scope,
+            this.attrs.add(attributes),
+            this.kin,
+            this.observer,
+            this.trace,
+            this.emission,
+            this.captures
+        );
+    }
+
+    /**
+     * Snapshot of the context.
+     * The strategy is copied and the visible variables are remembered right now,
+     * so later choices and declarations of this context don't affect the snapshot.
+     * Each call of the returned supplier builds a new context with its own copy
+     * of the strategy and of the scope, while the path, attributes, siblings,
+     * probe and tracer are shared.
+     * If the context doesn't capture itself, see {@link #withCapture(boolean)},
+     * nothing is copied and the returned supplier fails.
+     * @return Source of fresh contexts equal to this one at the moment of the call.
+     */
+    public Supplier<Context> snapshot() {
+        final Supplier<Context> res;
+        if (this.captures) {
+            final ChoosingStrategy strategy = this.strat.copy();
+            final Optional<Supplier<Scope>> vars = Optional.ofNullable(this.scope)
+                .map(Scope::snapshot);
+            res = () -> new Context(
+                strategy.copy(),
+                this.visited,
+                vars.map(Supplier::get).orElse(null),
+                this.attrs,
+                this.kin,
+                this.observer,
+                this.trace,
+                this.emission,
+                true
+            );
+        } else {
+            res = () -> {
+                throw new IllegalStateException(
+                    "The context isn't captured, since the tree isn't going to be regenerated"
+                );
+            };
+        }
+        return res;
     }
 
     /**
@@ -192,6 +460,38 @@ public final class Context {
         return this.attrs;
     }
 
+    /**
+     * Returns the observer of the generation.
+     * @return The probe.
+     */
+    public Probe probe() {
+        return this.observer;
+    }
+
+    /**
+     * Returns the tracing of the generation.
+     * @return The tracer.
+     */
+    public Tracer tracer() {
+        return this.trace;
+    }
+
+    /**
+     * Returns the receiver of the tokens.
+     * @return The emitter.
+     */
+    public Emitter emitter() {
+        return this.emission;
+    }
+
+    /**
+     * Returns the way how sibling rules are generated.
+     * @return Siblings generation.
+     */
+    public Siblings siblings() {
+        return this.kin;
+    }
+
     /**
      * Returns the path of the rules that were visited during the generation.
      * @return The path of the rules that were visited during the generation.
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr;
+
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import com.github.lombrozo.jsmith.antlr.view.Node;
+import java.util.List;
+
+/**
+ * Receiver of the tokens while the derivation runs.
+ * Each grammar node reports its result as soon as it's derived, so the tokens
+ * come from left to right. The emitter might take the tokens out of the result
+ * and give back a node without text, so the derivation doesn't keep the whole tree.
+ * Rules that read the text of their subtree, like lexer rules or semantic rules,
+ * derive the subtree with a {@link #muted()} emitter.
+ * Alternatives are chosen in attempts, and each attempt is a frame: the tokens of
+ * a failed attempt are dropped. Only frames of attempts that might fail hold their
+ * tokens, all the others let them through right away.
+ * It's called on the hot path of the generation, so implementations must be cheap.
+ * @since 0.2
+ */
+public interface Emitter {
+
+    /**
+     * Grammar node is derived.
+     * @param node Result of the node.
+     * @return Node to keep in the tree instead of the result.
+     */
+    Node emit(Node node);
+
+    /**
+     * Might any of the rules fail because of semantic checks?
+     * @param candidates Rules to check.
+     * @return True if any of them might fail.
+     */
+    boolean fallible(List<Rule> candidates);
+
+    /**
+     * Start an attempt.
+     * @param hold Should the tokens of the attempt be held until it's kept?
+     * @return Frame of the attempt.
+     */
+    Frame frame(boolean hold);
+
+    /**
+     * The emitter for the subtree which text is read by its owner.
+     * @return Emitter that ignores all the nodes.
+     */
+    Emitter muted();
+
+    /**
+     * Frame of an attempt.
+     * @since 0.2
+     */
+    interface Frame {
+
+        /**
+         * The attempt succeeded.
+         */
+        void keep();
+
+        /**
+         * The attempt failed, drop its tokens.
+         * @return False if some tokens of the attempt already left the emitter.
+         */
+        boolean drop();
+    }
+
+    /**
+     * Emitter that ignores everything.
+     * Tokens are taken from the tree after the derivation.
+     * @since 0.2
+     */
+    final class Off implements Emitter, Frame {
+
+        @Override
+        public Node emit(final Node node) {
+            return node;
+        }
+
+        @Override
+        public boolean fallible(final List<Rule> candidates) {
+            return false;
+        }
+
+        @Override
+        public Frame frame(final boolean hold) {
+            return this;
+        }
+
+        @Override
+        public Emitter muted() {
+            return this;
+        }
+
+        @Override
+        public void keep() {
+            // Nothing to keep
+        }
+
+        @Override
+        public boolean drop() {
+            return true;
+        }
+    }
+}
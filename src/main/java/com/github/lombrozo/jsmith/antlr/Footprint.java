@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Semantic footprint of a single grammar node.
+ * It tells whether the subtree of the node writes into the current scope,
+ * whether it produces attributes for its right siblings, whether it might fail
+ * because of semantic checks and which parser rules it references.
+ * The footprint is collected by {@link AntlrListener} and analyzed by {@link Footprints}.
+ * @since 0.2
+ */
+final class Footprint {
+
+    /**
+     * Does the node declare or initialize variables in the current scope?
+     */
+    private final AtomicBoolean writes;
+
+    /**
+     * Does the node produce attributes, like the type, for its right siblings?
+     */
+    private final AtomicBoolean emits;
+
+    /**
+     * Does the node check the generated output and might reject it?
+     */
+    private final AtomicBoolean checks;
+
+    /**
+     * Names of the parser rules referenced from the node subtree.
+     */
+    private final Set<String> refs;
+
+    /**
+     * Constructor.
+     */
+    Footprint() {
+        this(
+            new AtomicBoolean(false),
+            new AtomicBoolean(false),
+            new AtomicBoolean(false),
+            ConcurrentHashMap.newKeySet()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param writes Does the node write into the current scope?
+     * @param emits Does the node produce attributes for its right siblings?
+     * @param checks Might the node reject the generated output?
+     * @param refs Referenced parser rules.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Footprint(
+        final AtomicBoolean writes,
+        final AtomicBoolean emits,
+        final AtomicBoolean checks,
+        final Set<String> refs
+    ) {
+        this.writes = writes;
+        this.emits = emits;
+        this.checks = checks;
+        this.refs = refs;
+    }
+
+    /**
+     * Mark the node as the one that writes into the current scope.
+     */
+    void write() {
+        this.writes.set(true);
+    }
+
+    /**
+     * Mark the node as the one that produces attributes for its right siblings.
+     */
+    void emit() {
+        this.emits.set(true);
+    }
+
+    /**
+     * Mark the node as the one that might reject the generated output.
+     */
+    void check() {
+        this.checks.set(true);
+    }
+
+    /**
+     * Add a parser rule reference.
+     * @param rule Parser rule name.
+     */
+    void reference(final String rule) {
+        this.refs.add(rule);
+    }
+
+    /**
+     * Merge the footprint of a child node into this one.
+     * @param child Child footprint.
+     */
+    void merge(final Footprint child) {
+        if (child.writes()) {
+            this.write();
+        }
+        if (child.emits()) {
+            this.emit();
+        }
+        if (child.checks()) {
+            this.check();
+        }
+        this.refs.addAll(child.refs);
+    }
+
+    /**
+     * Does the node write into the current scope directly?
+     * @return True if it does.
+     */
+    boolean writes() {
+        return this.writes.get();
+    }
+
+    /**
+     * Does the node produce attributes for its right siblings directly?
+     * @return True if it does.
+     */
+    boolean emits() {
+        return this.emits.get();
+    }
+
+    /**
+     * Might the node reject the generated output directly?
+     * @return True if it might.
+     */
+    boolean checks() {
+        return this.checks.get();
+    }
+
+    /**
+     * Referenced parser rules.
+     * @return Parser rule names.
+     */
+    Set<String> references() {
+        return this.refs;
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr;
+
+import com.github.lombrozo.jsmith.antlr.rules.Choice;
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Semantic footprints of the grammar nodes.
+ * The footprints are collected during the grammar parsing and answer the question:
+ * "Can we generate this subtree independently of its siblings?".
+ * A subtree is independent if neither it nor any parser rule it references declares or
+ * initializes variables outside of its own {@code $jsmith-scope}.
+ * A subtree is also dependent if it produces attributes, like the {@code $jsmith-type}
+ * of its text, since the attributes are passed to the right siblings and might be
+ * checked there. Scopes don't stop attributes, so it doesn't matter how deep they
+ * are produced.
+ * Identifiers marked with {@code $jsmith-unique} are reserved atomically, so they
+ * don't make siblings dependent on each other.
+ * Besides, the footprints tell which subtrees might be rejected by semantic checks,
+ * see {@link #fallible(Rule)}.
+ * @since 0.2
+ */
+public final class Footprints {
+
+    /**
+     * Footprints of the grammar nodes.
+     */
+    private final Map<Rule, Footprint> nodes;
+
+    /**
+     * Footprints of the parser rules by their names.
+     */
+    private final Map<String, Footprint> rules;
+
+    /**
+     * Parser rules that open a new scope.
+     */
+    private final Set<String> scopes;
+
+    /**
+     * Footprints of the nodes that are being parsed right now.
+     */
+    private final Deque<Footprint> stack;
+
+    /**
+     * Parser rules that write into the scope of the caller.
+     */
+    private final Unchecked<Set<String>> leaking;
+
+    /**
+     * Parser rules that produce attributes for the right siblings of the caller.
+     */
+    private final Unchecked<Set<String>> emitting;
+
+    /**
+     * Parser rules that might be rejected by semantic checks.
+     */
+    private final Unchecked<Set<String>> checking;
+
+    /**
+     * Places of the grammar nodes, like 'expr/3'.
+     * Rule objects are rebuilt for each generation, but the grammar is walked
+     * in the same order, so the places stay the same.
+     */
+    private final Map<Rule, String> places;
+
+    /**
+     * Grammar rule that is being walked right now.
+     */
+    private String owner;
+
+    /**
+     * Number of nodes walked in the current grammar rule.
+     */
+    private int ordinal;
+
+    /**
+     * Constructor.
+     */
+    public Footprints() {
+        this(
+            new IdentityHashMap<>(0),
+            new HashMap<>(0),
+            new HashSet<>(0)
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param nodes Footprints of the grammar nodes.
+     * @param rules Footprints of the parser rules.
+     * @param scopes Parser rules that open a new scope.
+     */
+    private Footprints(
+        final Map<Rule, Footprint> nodes,
+        final Map<String, Footprint> rules,
+        final Set<String> scopes
+    ) {
+        this.nodes = nodes;
+        this.rules = rules;
+        this.scopes = scopes;
+        this.stack = new ArrayDeque<>(0);
+        this.leaking = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> this.fixpoint(Footprint::writes, this.scopes)))
+        );
+        this.emitting = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(() -> this.fixpoint(Footprint::emits, Collections.emptySet()))
+            )
+        );
+        this.checking = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(() -> this.fixpoint(Footprint::checks, Collections.emptySet()))
+            )
+        );
+        this.places = new IdentityHashMap<>(0);
+        this.owner = "";
+        this.ordinal = 0;
+    }
+
+    /**
+     * Can the rule be generated independently of its siblings?
+     * Only the rules that reference other parser rules are considered, since
+     * generating a few terminals in a separate task costs more than it saves.
+     * @param rule Rule to check.
+     * @return True if the rule might be generated in parallel with its siblings.
+     */
+    public boolean independent(final Rule rule) {
+        final Footprint print = this.nodes.get(rule);
+        final boolean result;
+        if (print == null || print.writes() || print.emits() || print.references().isEmpty()) {
+            result = false;
+        } else {
+            result = Collections.disjoint(print.references(), this.leaking.value())
+                && Collections.disjoint(print.references(), this.emitting.value());
+        }
+        return result;
+    }
+
+    /**
+     * Might the rule be rejected by a semantic check, like a variable usage
+     * without any initialized variable?
+     * Recursion limits aren't semantic checks, so they aren't taken into account.
+     * @param rule Rule to check.
+     * @return True if the rule or any parser rule it references checks the output.
+     */
+    public boolean fallible(final Rule rule) {
+        final Footprint print = this.nodes.get(rule);
+        final boolean result;
+        if (print == null) {
+            result = false;
+        } else {
+            result = print.checks()
+                || !Collections.disjoint(print.references(), this.checking.value());
+        }
+        return result;
+    }
+
+    /**
+     * Stable address of the grammar node.
+     * It's the name of the grammar rule the node belongs to and the position
+     * of the node in that rule, so it's the same for all generations.
+     * @param rule Grammar node.
+     * @return Address, or the name of the node if it wasn't walked.
+     */
+    public String address(final Rule rule) {
+        return this.places.getOrDefault(rule, rule.name());
+    }
+
+    /**
+     * All choice points of the grammar with their number of alternatives.
+     * @return Number of alternatives by the stable addresses of choice points.
+     */
+    public Map<String, Integer> choices() {
+        final Map<String, Integer> res = new TreeMap<>();
+        this.places.forEach(
+            (rule, place) -> {
+                if (rule instanceof Choice) {
+                    res.put(place, ((Choice) rule).options());
+                }
+            }
+        );
+        return res;
+    }
+
+    /**
+     * Start walking a new grammar rule.
+     * @param name Parser or lexer rule name.
+     */
+    void owner(final String name) {
+        this.owner = name;
+        this.ordinal = 0;
+    }
+
+    /**
+     * Remember the place of the grammar node in the current grammar rule.
+     * @param rule Grammar node.
+     */
+    void place(final Rule rule) {
+        this.places.put(rule, String.format("%s/%d", this.owner, this.ordinal));
+        this.ordinal += 1;
+    }
+
+    /**
+     * Start collecting the footprint of a new node.
+     * @param rule Grammar node.
+     */
+    void enter(final Rule rule) {
+        final Footprint print = new Footprint();
+        this.nodes.put(rule, print);
+        this.stack.push(print);
+    }
+
+    /**
+     * Finish collecting the footprint of the current node.
+     */
+    void exit() {
+        final Footprint done = this.stack.pop();
+        if (!this.stack.isEmpty()) {
+            this.stack.peek().merge(done);
+        }
+    }
+
+    /**
+     * The current node is a parser rule.
+     * @param name Parser rule name.
+     * @param scope Does the rule open a new scope?
+     */
+    void rule(final String name, final boolean scope) {
+        this.rules.put(name, this.stack.peek());
+        if (scope) {
+            this.scopes.add(name);
+        }
+    }
+
+    /**
+     * The current node declares or initializes a variable.
+     */
+    void write() {
+        this.stack.peek().write();
+    }
+
+    /**
+     * The current node produces attributes for its right siblings.
+     */
+    void emit() {
+        this.stack.peek().emit();
+    }
+
+    /**
+     * The current node checks the generated output and might reject it.
+     */
+    void check() {
+        this.stack.peek().check();
+    }
+
+    /**
+     * The current node references a parser rule.
+     * @param name Parser rule name.
+     */
+    void reference(final String name) {
+        this.stack.peek().reference(name);
+    }
+
+    /**
+     * Find all parser rules that pass an effect to their caller.
+     * A rule passes the effect if it has the effect by itself or references a rule
+     * that passes it, unless the rule stops the effect. For example, a rule writes
+     * into the scope of its caller if it declares variables by itself or references
+     * such a rule, unless it opens its own scope.
+     * @param effect Does the rule have the effect by itself?
+     * @param stops Parser rules that don't pass the effect to their caller.
+     * @return Names of the parser rules that pass the effect.
+     */
+    private Set<String> fixpoint(
+        final Predicate<Footprint> effect,
+        final Set<String> stops
+    ) {
+        final Set<String> result = new HashSet<>(0);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (final Map.Entry<String, Footprint> entry : this.rules.entrySet()) {
+                final String name = entry.getKey();
+                final Footprint print = entry.getValue();
+                if (!result.contains(name) && !stops.contains(name)
+                    && (effect.test(print) || !Collections.disjoint(print.references(), result))) {
+                    result.add(name);
+                    changed = true;
+                }
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+}
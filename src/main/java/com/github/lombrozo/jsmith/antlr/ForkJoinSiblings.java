@@ -0,0 +1,232 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr;
+
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
+import com.github.lombrozo.jsmith.antlr.view.Node;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+/**
+ * Siblings generated as fork-join tasks.
+ * Independent siblings (see {@link Footprints#independent(Rule)}) are forked
+ * and joined back in their original order.
+ * Dependent siblings act as barriers: they are generated in the current thread only
+ * after all the previous siblings are ready. Siblings that produce attributes, like
+ * a {@code $jsmith-type}, are dependent too, so the attributes reach the right
+ * siblings exactly as in the sequential generation.
+ * @since 0.2
+ */
+public final class ForkJoinSiblings implements Siblings {
+
+    /**
+     * How many queued tasks the current worker might have before we stop forking.
+     */
+    private static final int SURPLUS = 3;
+
+    /**
+     * Pool shared by all the generations.
+     * The common pool doesn't fit, since a thread that waits for a task of the common
+     * pool might run the task itself, so the root derivation would never get into
+     * the pool and nothing would be forked.
+     */
+    private static final ForkJoinPool SHARED = new ForkJoinPool(
+        Runtime.getRuntime().availableProcessors()
+    );
+
+    /**
+     * Semantic footprints of the grammar.
+     */
+    private final Footprints prints;
+
+    /**
+     * Fork-join pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor.
+     * @param prints Semantic footprints of the grammar.
+     */
+    public ForkJoinSiblings(final Footprints prints) {
+        this(prints, ForkJoinSiblings.SHARED);
+    }
+
+    /**
+     * Constructor.
+     * @param prints Semantic footprints of the grammar.
+     * @param pool Fork-join pool.
+     */
+    public ForkJoinSiblings(final Footprints prints, final ForkJoinPool pool) {
+        this.prints = prints;
+        this.pool = pool;
+    }
+
+    @Override
+    public <N extends Node> N root(final Derivation<N> derivation) throws WrongPathException {
+        try {
+            return this.pool.submit(new Subtree<>(derivation)).get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel generation was interrupted", exception);
+        } catch (final ExecutionException exception) {
+            throw ForkJoinSiblings.unwrap(exception);
+        }
+    }
+
+    @Override
+    public List<Node> leftToRight(
+        final List<Rule> rules,
+        final Context context
+    ) throws WrongPathException {
+        final int size = rules.size();
+        final List<Node> res = new ArrayList<>(size);
+        Context current = context;
+        int start = 0;
+        while (start < size) {
+            int end = start;
+            while (end < size && this.prints.independent(rules.get(end))) {
+                end = end + 1;
+            }
+            final List<Node> batch;
+            if (end - start > 1) {
+                batch = this.fork(rules.subList(start, end), current);
+            } else {
+                end = start + 1;
+                batch = List.of(rules.get(start).generate(current));
+            }
+            for (final Node snippet : batch) {
+                res.add(snippet);
+                current = current.withAttributes(snippet.attributes());
+            }
+            start = end;
+        }
+        return res;
+    }
+
+    @Override
+    public List<Node> alongside(
+        final List<Rule> rules,
+        final Context context
+    ) throws WrongPathException {
+        final List<Node> res;
+        if (rules.size() > 1 && rules.stream().allMatch(this.prints::independent)) {
+            res = this.fork(rules, context);
+        } else {
+            res = new InOrder().alongside(rules, context);
+        }
+        return res;
+    }
+
+    /**
+     * Generate independent rules as fork-join tasks.
+     * If we aren't inside a fork-join pool or the current worker already has enough
+     * work in its queue, the rules are generated in the current thread.
+     * @param rules Independent rules.
+     * @param context Generation context shared by all the rules.
+     * @return Generated nodes in the original order.
+     * @throws WrongPathException If the path is wrong.
+     */
+    private List<Node> fork(
+        final List<Rule> rules,
+        final Context context
+    ) throws WrongPathException {
+        final List<Node> res;
+        if (ForkJoinTask.inForkJoinPool()
+            && ForkJoinTask.getSurplusQueuedTaskCount() <= ForkJoinSiblings.SURPLUS) {
+            final List<Subtree<Node>> tasks = rules.stream()
+                .map(rule -> new Subtree<>(() -> rule.generate(context)))
+                .collect(Collectors.toList());
+            try {
+                res = ForkJoinTask.invokeAll(tasks).stream()
+                    .map(ForkJoinTask::join)
+                    .collect(Collectors.toList());
+            } catch (final CompletionException exception) {
+                throw ForkJoinSiblings.unwrap(exception);
+            }
+        } else {
+            res = new InOrder().alongside(rules, context);
+        }
+        return res;
+    }
+
+    /**
+     * Find the original generation failure.
+     * Fork-join might wrap the failure several times while passing it between threads.
+     * @param exception Caught exception.
+     * @return Original wrong path exception.
+     */
+    private static WrongPathException unwrap(final Exception exception) {
+        Throwable cause = exception;
+        while (cause != null && !(cause instanceof WrongPathException)) {
+            cause = cause.getCause();
+        }
+        if (cause == null) {
+            throw new IllegalStateException("Parallel generation failed", exception);
+        }
+        return (WrongPathException) cause;
+    }
+
+    /**
+     * Subtree generation task.
+     * @param <N> Type of the generated node.
+     * @since 0.2
+     */
+    private static final class Subtree<N extends Node> extends RecursiveTask<N> {
+
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 6_185_402_331_573_421_547L;
+
+        /**
+         * Derivation of the subtree.
+         */
+        private final transient Derivation<N> derivation;
+
+        /**
+         * Constructor.
+         * @param derivation Derivation of the subtree.
+         */
+        Subtree(final Derivation<N> derivation) {
+            this.derivation = derivation;
+        }
+
+        @Override
+        protected N compute() {
+            try {
+                return this.derivation.make();
+            } catch (final WrongPathException exception) {
+                throw new CompletionException(exception);
+            }
+        }
+    }
+}
@@ -23,8 +23,8 @@
  */
 package com.github.lombrozo.jsmith.antlr;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Java Keywords.
@@ -106,10 +106,12 @@ final class JavaKeywords {
     }
 
     /**
-     * Convert to set.
+     * Convert to a mutable thread-safe set.
      * @return Set of Java keywords.
      */
     Set<String> toSet() {
-        return new HashSet<>(this.all);
+        final Set<String> res = ConcurrentHashMap.newKeySet(this.all.size());
+        res.addAll(this.all);
+        return res;
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Observer of the generation.
+ * It's called on the hot path of the generation, so implementations
+ * must be cheap and thread-safe.
+ * @since 0.2
+ */
+public interface Probe {
+
+    /**
+     * Rules of the grammar are built.
+     * @param rules Names of all the parser and lexer rules.
+     * @param points Number of alternatives by the stable addresses of all choice points.
+     */
+    void grammar(Set<String> rules, Map<String, Integer> points);
+
+    /**
+     * Grammar rule is derived.
+     * @param name Rule name.
+     */
+    void rule(String name);
+
+    /**
+     * Derivation of the grammar rule is finished, successfully or not.
+     * @param name Rule name.
+     */
+    void leave(String name);
+
+    /**
+     * Start a trial that might reject the generated output.
+     * @param kind What makes the trial, like 'retry' or '$jsmith-unique'.
+     * @return Trial to report the outcome to.
+     */
+    Trial trial(String kind);
+
+    /**
+     * Alternative is chosen.
+     * @param point Stable address of the choice point, like 'expr/3'.
+     * @param index Index of the chosen alternative.
+     * @param options Number of alternatives.
+     */
+    void alternative(String point, int index, int options);
+
+    /**
+     * Trial that might reject the generated output.
+     * @since 0.2
+     */
+    interface Trial {
+
+        /**
+         * The output is accepted.
+         */
+        void success();
+
+        /**
+         * The output is rejected and the work is thrown away.
+         * @param cause Cause of the rejection.
+         */
+        void failure(String cause);
+    }
+
+    /**
+     * Probe that observes nothing.
+     * @since 0.2
+     */
+    final class Idle implements Probe, Trial {
+
+        @Override
+        public void grammar(final Set<String> rules, final Map<String, Integer> points) {
+            // Nothing to observe
+        }
+
+        @Override
+        public void rule(final String name) {
+            // Nothing to observe
+        }
+
+        @Override
+        public void leave(final String name) {
+            // Nothing to observe
+        }
+
+        @Override
+        public Trial trial(final String kind) {
+            return this;
+        }
+
+        @Override
+        public void alternative(final String point, final int index, final int options) {
+            // Nothing to observe
+        }
+
+        @Override
+        public void success() {
+            // Nothing to observe
+        }
+
+        @Override
+        public void failure(final String cause) {
+            // Nothing to observe
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr;
+
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import com.github.lombrozo.jsmith.random.ChoosingStrategy;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Choosing strategy that reports chosen alternatives to a probe.
+ * @since 0.2
+ */
+final class ProbedStrategy implements ChoosingStrategy {
+
+    /**
+     * Original strategy.
+     */
+    private final ChoosingStrategy origin;
+
+    /**
+     * Probe.
+     */
+    private final Probe probe;
+
+    /**
+     * Stable addresses of choice points.
+     */
+    private final Function<Rule, String> addresses;
+
+    /**
+     * Constructor.
+     * @param origin Original strategy.
+     * @param probe Probe.
+     * @param addresses Stable addresses of choice points.
+     */
+    ProbedStrategy(
+        final ChoosingStrategy origin,
+        final Probe probe,
+        final Function<Rule, String> addresses
+    ) {
+        this.origin = origin;
+        this.probe = probe;
+        this.addresses = addresses;
+    }
+
+    @Override
+    public Rule choose(final Rule parent, final List<Rule> children) {
+        final Rule res = this.origin.choose(parent, children);
+        this.probe.alternative(
+            this.addresses.apply(parent), children.indexOf(res), children.size()
+        );
+        return res;
+    }
+
+    @Override
+    public ChoosingStrategy copy() {
+        return new ProbedStrategy(this.origin.copy(), this.probe, this.addresses);
+    }
+}
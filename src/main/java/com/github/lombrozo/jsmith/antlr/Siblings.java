@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr;
+
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
+import com.github.lombrozo.jsmith.antlr.view.Node;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The way how sibling rules are generated.
+ * Siblings might be generated one after another, or, if they are independent,
+ * in parallel.
+ * @since 0.2
+ */
+public interface Siblings {
+
+    /**
+     * Generate the root of the derivation.
+     * @param derivation Root derivation.
+     * @param <N> Type of the generated node.
+     * @return Generated node.
+     * @throws WrongPathException If the path is wrong.
+     */
+    <N extends Node> N root(Derivation<N> derivation) throws WrongPathException;
+
+    /**
+     * Generate siblings from left to right.
+     * Attributes produced by each sibling are passed to the following siblings.
+     * @param rules Sibling rules.
+     * @param context Generation context.
+     * @return Generated nodes in the original order.
+     * @throws WrongPathException If the path is wrong.
+     */
+    List<Node> leftToRight(List<Rule> rules, Context context) throws WrongPathException;
+
+    /**
+     * Generate siblings that share the same context.
+     * @param rules Sibling rules.
+     * @param context Generation context.
+     * @return Generated nodes in the original order.
+     * @throws WrongPathException If the path is wrong.
+     */
+    List<Node> alongside(List<Rule> rules, Context context) throws WrongPathException;
+
+    /**
+     * Single derivation.
+     * @param <N> Type of the generated node.
+     * @since 0.2
+     */
+    @FunctionalInterface
+    interface Derivation<N extends Node> {
+
+        /**
+         * Derive a node.
+         * @return Generated node.
+         * @throws WrongPathException If the path is wrong.
+         */
+        N make() throws WrongPathException;
+    }
+
+    /**
+     * Siblings generated one after another in the current thread.
+     * @since 0.2
+     */
+    final class InOrder implements Siblings {
+
+        @Override
+        public <N extends Node> N root(
+            final Derivation<N> derivation
+        ) throws WrongPathException {
+            return derivation.make();
+        }
+
+        @Override
+        public List<Node> leftToRight(
+            final List<Rule> rules,
+            final Context context
+        ) throws WrongPathException {
+            Context current = context;
+            final List<Node> res = new ArrayList<>(rules.size());
+            for (final Rule rule : rules) {
+                final Node snippet = rule.generate(current);
+                res.add(snippet);
+                current = current.withAttributes(snippet.attributes());
+            }
+            return res;
+        }
+
+        @Override
+        public List<Node> alongside(
+            final List<Rule> rules,
+            final Context context
+        ) throws WrongPathException {
+            final List<Node> res = new ArrayList<>(rules.size());
+            for (final Rule rule : rules) {
+                res.add(rule.generate(context));
+            }
+            return res;
+        }
+    }
+}
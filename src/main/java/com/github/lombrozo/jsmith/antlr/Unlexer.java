@@ -25,8 +25,10 @@ package com.github.lombrozo.jsmith.antlr;
 
 import com.github.lombrozo.jsmith.antlr.rules.LexerRuleSpec;
 import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
 
 /**
@@ -75,4 +77,12 @@ public final class Unlexer {
     public Optional<Rule> find(final String rule) {
         return Optional.ofNullable(this.rules.get(rule));
     }
+
+    /**
+     * Names of all the lexer rules.
+     * @return Rule names.
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(this.rules.keySet());
+    }
 }
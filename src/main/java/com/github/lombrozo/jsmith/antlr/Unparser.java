@@ -26,8 +26,10 @@ package com.github.lombrozo.jsmith.antlr;
 import com.github.lombrozo.jsmith.antlr.rules.Rule;
 import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
 import com.github.lombrozo.jsmith.antlr.view.Node;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Unparser that contains all parser rules.
@@ -81,4 +83,12 @@ public final class Unparser {
         }
         return this.rules.get(rule).generate(context);
     }
+
+    /**
+     * Names of all the parser rules.
+     * @return Rule names.
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(this.rules.keySet());
+    }
 }
@@ -44,7 +44,7 @@ import lombok.ToString;
  * @since 0.1
  */
 @ToString
-public final class AltList implements Rule {
+public final class AltList implements Rule, Choice {
 
     /**
      * Parent rule.
@@ -108,6 +108,8 @@ public final class AltList implements Rule {
                 this,
                 new SeveralAttempts(
                     this.name(),
+                    context,
+                    this.alternatives,
                     () -> context.strategy()
                         .choose(this, this.alternatives)
                         .generate(context)
@@ -117,6 +119,11 @@ public final class AltList implements Rule {
         return result;
     }
 
+    @Override
+    public int options() {
+        return this.alternatives.size();
+    }
+
     @Override
     public void append(final Rule rule) {
         this.alternatives.add(rule);
@@ -26,7 +26,6 @@ package com.github.lombrozo.jsmith.antlr.rules;
 import com.github.lombrozo.jsmith.antlr.Context;
 import com.github.lombrozo.jsmith.antlr.view.IntermediateNode;
 import com.github.lombrozo.jsmith.antlr.view.Node;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -71,14 +70,9 @@ public final class LeftToRight implements Rule {
 
     @Override
     public Node generate(final Context context) throws WrongPathException {
-        Context current = context;
-        final List<Node> res = new ArrayList<>(this.all.size());
-        for (final Rule rule : this.all) {
-            final Node snippet = rule.generate(current);
-            res.add(snippet);
-            current = current.withAttributes(snippet.attributes());
-        }
-        return new IntermediateNode(this.author, res);
+        return new IntermediateNode(
+            this.author, context.siblings().leftToRight(this.all, context)
+        );
     }
 
     @Override
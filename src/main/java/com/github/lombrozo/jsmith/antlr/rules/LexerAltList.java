@@ -40,7 +40,7 @@ import java.util.stream.Collectors;
  * }
  * @since 0.1
  */
-public final class LexerAltList implements Rule {
+public final class LexerAltList implements Rule, Choice {
 
     /**
      * Parent rule.
@@ -88,11 +88,18 @@ public final class LexerAltList implements Rule {
             this,
             new SeveralAttempts(
                 this.name(),
+                context,
+                this.children,
                 () -> context.strategy().choose(this, this.children).generate(context)
             ).choose()
         );
     }
 
+    @Override
+    public int options() {
+        return this.children.size();
+    }
+
     @Override
     public void append(final Rule rule) {
         this.children.add(rule);
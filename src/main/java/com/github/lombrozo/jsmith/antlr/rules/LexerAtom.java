@@ -44,7 +44,7 @@ import java.util.stream.Collectors;
  * }
  * @since 0.1
  */
-public final class LexerAtom implements Rule {
+public final class LexerAtom implements Rule, Choice {
 
     /**
      * Parent rule.
@@ -94,6 +94,11 @@ public final class LexerAtom implements Rule {
         );
     }
 
+    @Override
+    public int options() {
+        return this.elems.size();
+    }
+
     @Override
     public void append(final Rule rule) {
         this.elems.add(rule);
@@ -24,8 +24,11 @@
 package com.github.lombrozo.jsmith.antlr.rules;
 
 import com.github.lombrozo.jsmith.antlr.Context;
+import com.github.lombrozo.jsmith.antlr.view.IntermediateNode;
+import com.github.lombrozo.jsmith.antlr.view.Labels;
 import com.github.lombrozo.jsmith.antlr.view.Node;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,6 +40,8 @@ import java.util.stream.Collectors;
  *     : FRAGMENT? TOKEN_REF {@link OptionsSpec}? COLON {@link LexerRuleBlock} SEMI
  *     ;
  * }
+ * The whole rule is a single token, so its subtree is derived with a muted
+ * {@link com.github.lombrozo.jsmith.antlr.Emitter}.
  * @since 0.1
  */
 public final class LexerRuleSpec implements Rule {
@@ -86,7 +91,19 @@ public final class LexerRuleSpec implements Rule {
 
     @Override
     public Node generate(final Context context) throws WrongPathException {
-        return new LeftToRight(this, this.list).generate(context);
+        context.probe().rule(this.alias);
+        try {
+            return new IntermediateNode(
+                Collections.singletonList(
+                    new LeftToRight(this, this.list).generate(
+                        context.withEmitter(context.emitter().muted())
+                    )
+                ),
+                new Labels(this).withToken(this.alias)
+            );
+        } finally {
+            context.probe().leave(this.alias);
+        }
     }
 
     @Override
@@ -24,7 +24,9 @@
 package com.github.lombrozo.jsmith.antlr.rules;
 
 import com.github.lombrozo.jsmith.antlr.Context;
+import com.github.lombrozo.jsmith.antlr.view.Labels;
 import com.github.lombrozo.jsmith.antlr.view.Node;
+import com.github.lombrozo.jsmith.antlr.view.PlainText;
 import com.github.lombrozo.jsmith.antlr.view.TerminalNode;
 import com.github.lombrozo.jsmith.random.Rand;
 
@@ -92,8 +94,10 @@ public final class Literal implements Rule, Negatable {
     @Override
     public Node generate(final Context context) {
         return new TerminalNode(
-            this,
-            new AntlrString(this.text).asString()
+            new PlainText(
+                new AntlrString(this.text).asString(),
+                new Labels(this).withToken(this.text)
+            )
         );
     }
 
@@ -89,10 +89,15 @@ public final class ParserRuleSpec implements Rule {
 
     @Override
     public Node generate(final Context context) throws WrongPathException {
-        return new IntermediateNode(
-            Collections.singletonList(new LeftToRight(this, this.list).generate(context)),
-            new Labels(this).withRule(this.rname)
-        );
+        context.probe().rule(this.rname);
+        try {
+            return new IntermediateNode(
+                Collections.singletonList(new LeftToRight(this, this.list).generate(context)),
+                new Labels(this).withRule(this.rname)
+            );
+        } finally {
+            context.probe().leave(this.rname);
+        }
     }
 
     @Override
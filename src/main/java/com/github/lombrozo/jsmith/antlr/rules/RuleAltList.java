@@ -39,7 +39,7 @@ import java.util.List;
  * }
  * @since 0.1
  */
-public final class RuleAltList implements Rule {
+public final class RuleAltList implements Rule, Choice {
 
     /**
      * Parent rule.
@@ -83,11 +83,18 @@ public final class RuleAltList implements Rule {
             this,
             new SeveralAttempts(
                 this.name(),
+                context,
+                this.alternatives,
                 () -> context.strategy().choose(this, this.alternatives).generate(context)
             ).choose()
         );
     }
 
+    @Override
+    public int options() {
+        return this.alternatives.size();
+    }
+
     @Override
     public void append(final Rule rule) {
         this.alternatives.add(rule);
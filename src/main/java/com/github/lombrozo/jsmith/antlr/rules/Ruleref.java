@@ -25,7 +25,8 @@ package com.github.lombrozo.jsmith.antlr.rules;
 
 import com.github.lombrozo.jsmith.antlr.Context;
 import com.github.lombrozo.jsmith.antlr.Unparser;
-import com.github.lombrozo.jsmith.antlr.view.Node;
+import com.github.lombrozo.jsmith.antlr.view.CapturedNode;
+import java.util.function.Supplier;
 
 /**
  * Parser rule reference.
@@ -76,8 +77,9 @@ public final class Ruleref implements Rule {
     }
 
     @Override
-    public Node generate(final Context context) throws WrongPathException {
-        return this.unparser.generate(this.ref, context);
+    public CapturedNode generate(final Context context) throws WrongPathException {
+        final Supplier<Context> snapshot = context.snapshot();
+        return new CapturedNode(this, snapshot, this.unparser.generate(this.ref, context));
     }
 
     @Override
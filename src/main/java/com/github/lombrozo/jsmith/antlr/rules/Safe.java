@@ -87,12 +87,12 @@ public final class Safe implements Rule, Suffix, Negatable {
     public Node generate(final Context context) throws WrongPathException {
         final List<Rule> path = context.path();
         if (path.size() >= this.limit) {
-            throw new WrongPathException(
-                String.format(
-                    "Long generation path! Most probably you have a recursion here: %s",
-                    new Trace(path).line()
-                )
+            final String cause = String.format(
+                "Long generation path! Most probably you have a recursion here: %s",
+                new Trace(path).line()
             );
+            context.probe().trial("recursion").failure(cause);
+            throw new WrongPathException(cause);
         }
         return this.original.generate(context);
     }
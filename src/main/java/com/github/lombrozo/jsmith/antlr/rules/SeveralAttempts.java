@@ -23,11 +23,21 @@
  */
 package com.github.lombrozo.jsmith.antlr.rules;
 
+import com.github.lombrozo.jsmith.antlr.Context;
+import com.github.lombrozo.jsmith.antlr.Emitter;
+import com.github.lombrozo.jsmith.antlr.Probe;
 import com.github.lombrozo.jsmith.antlr.view.Node;
-import com.jcabi.log.Logger;
+import com.github.lombrozo.jsmith.events.RetryEvent;
+import com.github.lombrozo.jsmith.trace.Tracer;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 
 /**
  * Attempt to generate output.
+ * Each attempt is a frame of the {@link Emitter}, so the tokens of a failed attempt
+ * are dropped. If the tokens already left the emitter, the attempt can't be
+ * repeated and the failure is passed further.
  * @since 0.1
  * @todo #92:90min Inefficient implementation of the SeveralAttempts class.
  *  We might spend a lot of time trying to generate output. We need to
@@ -62,6 +72,21 @@ public final class SeveralAttempts {
      */
     private final Attempt generator;
 
+    /**
+     * Observer of the attempts.
+     */
+    private final Probe probe;
+
+    /**
+     * Tracing of the attempts.
+     */
+    private final Tracer tracer;
+
+    /**
+     * Frames of the attempts.
+     */
+    private final Supplier<Emitter.Frame> frames;
+
     /**
      * Constructor.
      * @param author Author of the rule.
@@ -74,6 +99,30 @@ public final class SeveralAttempts {
         this(SeveralAttempts.DEFAULT_ATTEMPTS, author, generator);
     }
 
+    /**
+     * Constructor.
+     * @param author Author of the rule.
+     * @param context Context that observes, traces and emits the attempts.
+     * @param candidates Rules the attempts choose from.
+     * @param generator Original output generator.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public SeveralAttempts(
+        final String author,
+        final Context context,
+        final List<Rule> candidates,
+        final Attempt generator
+    ) {
+        this(
+            SeveralAttempts.DEFAULT_ATTEMPTS,
+            author,
+            context.probe(),
+            context.tracer(),
+            SeveralAttempts.frames(context.emitter(), candidates),
+            generator
+        );
+    }
+
     /**
      * Constructor.
      * @param attempts Maximum attempts to generate output.
@@ -84,9 +133,40 @@ public final class SeveralAttempts {
         final int attempts,
         final String author,
         final Attempt original
+    ) {
+        this(
+            attempts,
+            author,
+            new Probe.Idle(),
+            new Tracer.Off(),
+            Emitter.Off::new,
+            original
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param attempts Maximum attempts to generate output.
+     * @param author Author of the rule.
+     * @param probe Observer of the attempts.
+     * @param tracer Tracing of the attempts.
+     * @param frames Frames of the attempts.
+     * @param original Original output generator.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private SeveralAttempts(
+        final int attempts,
+        final String author,
+        final Probe probe,
+        final Tracer tracer,
+        final Supplier<Emitter.Frame> frames,
+        final Attempt original
     ) {
         this.max = attempts;
         this.author = author;
+        this.probe = probe;
+        this.tracer = tracer;
+        this.frames = frames;
         this.generator = original;
     }
 
@@ -99,10 +179,26 @@ public final class SeveralAttempts {
         int attempt = 0;
         WrongPathException origin = null;
         do {
+            final Probe.Trial trial = this.probe.trial("retry");
+            final Emitter.Frame frame = this.frames.get();
             try {
                 snippet = this.generator.make();
+                frame.keep();
+                trial.success();
             } catch (final WrongPathException exception) {
-                Logger.warn(this, exception.getMessage());
+                trial.failure(exception.getMessage());
+                if (this.tracer.enabled(Level.FINE)) {
+                    this.tracer.trace(Level.FINE, "rejected attempt", exception::getMessage);
+                }
+                final RetryEvent event = new RetryEvent(
+                    this.author, attempt + 1, exception.getMessage()
+                );
+                if (event.shouldCommit()) {
+                    event.commit();
+                }
+                if (!frame.drop()) {
+                    throw exception;
+                }
                 origin = exception;
             }
             attempt = attempt + 1;
@@ -120,6 +216,21 @@ public final class SeveralAttempts {
         return snippet;
     }
 
+    /**
+     * Frames of the attempts.
+     * The attempts hold their tokens only if the candidates might fail.
+     * @param emitter Receiver of the tokens.
+     * @param candidates Rules the attempts choose from.
+     * @return Frames.
+     */
+    private static Supplier<Emitter.Frame> frames(
+        final Emitter emitter,
+        final List<Rule> candidates
+    ) {
+        final boolean hold = emitter.fallible(candidates);
+        return () -> emitter.frame(hold);
+    }
+
     /**
      * Attempt to generate output.
      * @since 0.1
@@ -37,6 +37,7 @@ import com.github.lombrozo.jsmith.antlr.view.TerminalNode;
  *     | STRING_LITERAL {@link ElementOptions}?
  *     ;
  * }
+ * Terminals aren't traced, so the token is reported to the emitter right here.
  * @since 0.1
  */
 public final class TerminalDef implements Rule {
@@ -97,7 +98,7 @@ public final class TerminalDef implements Rule {
                 .orElseGet(() -> new Literal(this.text))
                 .generate(context);
         }
-        return result;
+        return context.emitter().emit(result);
     }
 
     @Override
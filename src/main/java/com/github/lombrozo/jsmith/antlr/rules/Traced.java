@@ -31,6 +31,8 @@ import com.github.lombrozo.jsmith.random.Multiplier;
  * Traced rule.
  * This rule isn't ANTLR rule, it's a wrapper for the rule to trace it during generation process.
  * In other words, it's a decorator for a real rule.
+ * Each derived node is reported to the {@link com.github.lombrozo.jsmith.antlr.Emitter}
+ * of the context, so the tokens might be streamed while the derivation runs.
  * @since 0.1
  */
 public final class Traced implements Rule, Suffix, Negatable {
@@ -55,7 +57,7 @@ public final class Traced implements Rule, Suffix, Negatable {
 
     @Override
     public Node generate(final Context context) throws WrongPathException {
-        return this.original.generate(context.next(this.original));
+        return context.emitter().emit(this.original.generate(context.next(this.original)));
     }
 
     @Override
@@ -24,6 +24,7 @@
 package com.github.lombrozo.jsmith.antlr.semantic;
 
 import com.github.lombrozo.jsmith.antlr.Context;
+import com.github.lombrozo.jsmith.antlr.Probe;
 import com.github.lombrozo.jsmith.antlr.rules.Rule;
 import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
 import com.github.lombrozo.jsmith.antlr.view.Node;
@@ -71,12 +72,16 @@ public final class PredicateRule implements Rule {
         final Optional<String> opttype = context.attributes().currentType();
         if (opttype.isPresent()) {
             final String current = opttype.get();
+            final Probe.Trial trial = context.probe().trial(PredicateRule.COMMENT);
             if (current.equals(this.type)) {
+                trial.success();
                 res = this.origin.generate(context);
             } else {
-                throw new WrongPathException(
-                    String.format("Type mismatch, expected: %s, but got: %s", this.type, current)
+                final String cause = String.format(
+                    "Type mismatch, expected: %s, but got: %s", this.type, current
                 );
+                trial.failure(cause);
+                throw new WrongPathException(cause);
             }
         } else {
             res = this.origin.generate(context);
@@ -27,6 +27,7 @@ import com.github.lombrozo.jsmith.random.Rand;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.ToString;
@@ -94,6 +95,20 @@ public final class Scope {
         return String.valueOf(System.identityHashCode(this));
     }
 
+    /**
+     * Snapshot of the scope and all its parents.
+     * Each call of the returned supplier builds a new chain of scopes with
+     * the variables visible right now, so whatever is declared in the copy
+     * doesn't leak into this scope and the other way around.
+     * @return Source of fresh copies of the current scope.
+     */
+    public Supplier<Scope> snapshot() {
+        final Supplier<Variables> vars = this.variables.snapshot();
+        final Optional<Supplier<Scope>> up = Optional.ofNullable(this.parent)
+            .map(Scope::snapshot);
+        return () -> new Scope(up.map(Supplier::get).orElse(null), vars.get(), this.rand);
+    }
+
     /**
      * Declare a variable.
      * @param name Variable name.
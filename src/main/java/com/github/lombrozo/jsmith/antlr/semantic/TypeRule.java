@@ -30,6 +30,8 @@ import com.github.lombrozo.jsmith.antlr.view.Node;
 
 /**
  * Rule that adds type to the context.
+ * The type is the text of the subtree, so the subtree is derived with a muted
+ * {@link com.github.lombrozo.jsmith.antlr.Emitter} and emitted as a whole.
  * @since 0.1
  */
 public final class TypeRule implements Rule {
@@ -59,7 +61,9 @@ public final class TypeRule implements Rule {
 
     @Override
     public Node generate(final Context context) throws WrongPathException {
-        final Node snippet = this.origin.generate(context);
+        final Node snippet = this.origin.generate(
+            context.withEmitter(context.emitter().muted())
+        );
         return snippet.with(snippet.attributes().withType(snippet.text().output()));
     }
 
@@ -24,15 +24,21 @@
 package com.github.lombrozo.jsmith.antlr.semantic;
 
 import com.github.lombrozo.jsmith.antlr.Context;
+import com.github.lombrozo.jsmith.antlr.Emitter;
+import com.github.lombrozo.jsmith.antlr.Probe;
 import com.github.lombrozo.jsmith.antlr.rules.Rule;
 import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
 import com.github.lombrozo.jsmith.antlr.view.Node;
-import com.jcabi.log.Logger;
-import java.util.HashSet;
+import com.github.lombrozo.jsmith.events.CollisionEvent;
+import com.github.lombrozo.jsmith.trace.Tracer;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
 /**
  * Unique Rule.
+ * A colliding identifier is generated again, so the identifier is derived with
+ * a muted {@link Emitter} and emitted as a whole only when it turns out to be unique.
  * @since 0.1
  */
 public final class UniqueRule implements Rule {
@@ -49,6 +55,8 @@ public final class UniqueRule implements Rule {
 
     /**
      * All identifiers.
+     * Identifiers are reserved by a single atomic {@link Set#add(Object)} call,
+     * so the set must be thread-safe if the rule is used in parallel generation.
      */
     private final Set<String> all;
 
@@ -69,21 +77,38 @@ public final class UniqueRule implements Rule {
 
     @Override
     public Node generate(final Context context) throws WrongPathException {
-        final Node snippet = this.original.generate(context);
+        final Probe.Trial trial = context.probe().trial(UniqueRule.COMMENT);
+        final Node snippet;
+        try {
+            snippet = this.original.generate(context.withEmitter(context.emitter().muted()));
+        } catch (final WrongPathException exception) {
+            trial.failure(exception.getMessage());
+            throw exception;
+        }
         final Node result;
-        if (this.all.contains(snippet.text().output())) {
+        if (!this.all.add(snippet.text().output())) {
+            trial.failure("Collision of identifiers");
+            final CollisionEvent event = new CollisionEvent();
+            if (event.shouldCommit()) {
+                event.identifier(snippet.text().output());
+                event.commit();
+            }
             final Node reattempt = this.generate(context);
-            Logger.info(
-                this,
-                String.format(
-                    "Collision happened: identifier '%s' was already generated, regenerate it to the '%s'.",
-                    snippet.text().output(),
-                    reattempt.text().output()
-                )
-            );
+            final Tracer tracer = context.tracer();
+            if (tracer.enabled(Level.FINE)) {
+                tracer.trace(
+                    Level.FINE,
+                    "collision",
+                    () -> String.format(
+                        "identifier '%s' was already generated, regenerate it to the '%s'",
+                        snippet.text().output(),
+                        reattempt.text().output()
+                    )
+                );
+            }
             result = reattempt;
         } else {
-            this.all.add(snippet.text().output());
+            trial.success();
             result = snippet;
         }
         return result;
@@ -101,6 +126,6 @@ public final class UniqueRule implements Rule {
 
     @Override
     public Rule copy() {
-        return new UniqueRule(this.original.copy(), new HashSet<>(0));
+        return new UniqueRule(this.original.copy(), ConcurrentHashMap.newKeySet());
     }
 }
@@ -27,13 +27,18 @@ import com.github.lombrozo.jsmith.antlr.Attributes;
 import com.github.lombrozo.jsmith.antlr.Context;
 import com.github.lombrozo.jsmith.antlr.rules.Rule;
 import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
+import com.github.lombrozo.jsmith.antlr.view.Labels;
 import com.github.lombrozo.jsmith.antlr.view.Node;
+import com.github.lombrozo.jsmith.antlr.view.PlainText;
 import com.github.lombrozo.jsmith.antlr.view.TerminalNode;
+import com.github.lombrozo.jsmith.antlr.view.Text;
 import java.util.Optional;
 
 /**
  * Variable Declaration Semantic.
  * Adds variable declaration to the context.
+ * The declared name becomes a single token, so the element is derived
+ * with a muted {@link com.github.lombrozo.jsmith.antlr.Emitter}.
  * @since 0.1
  */
 public final class VariableDeclaration implements Rule {
@@ -64,7 +69,10 @@ public final class VariableDeclaration implements Rule {
     @Override
     public Node generate(final Context context) throws WrongPathException {
         final Node result;
-        final String output = this.origin.generate(context).text().output();
+        final Text text = this.origin.generate(
+            context.withEmitter(context.emitter().muted())
+        ).text();
+        final String output = text.output();
         final Optional<String> type = context.attributes().currentType();
         if (type.isPresent()) {
             context.scope().declare(output, type.get());
@@ -72,8 +80,12 @@ public final class VariableDeclaration implements Rule {
             context.scope().declare(output);
         }
         result = new TerminalNode(
-            this.name(),
-            output,
+            new PlainText(
+                output,
+                text.labels().token()
+                    .map(token -> new Labels(this).withToken(token))
+                    .orElseGet(() -> new Labels(this))
+            ),
             new Attributes().withTarget(output)
         );
         return result;
@@ -25,15 +25,19 @@ package com.github.lombrozo.jsmith.antlr.semantic;
 
 import com.github.lombrozo.jsmith.antlr.Attributes;
 import com.github.lombrozo.jsmith.antlr.Context;
+import com.github.lombrozo.jsmith.antlr.Probe;
 import com.github.lombrozo.jsmith.antlr.rules.Rule;
 import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
 import com.github.lombrozo.jsmith.antlr.view.Node;
+import com.github.lombrozo.jsmith.antlr.view.PlainText;
 import com.github.lombrozo.jsmith.antlr.view.TerminalNode;
 import java.util.Optional;
 
 /**
  * Variable Usage Semantic.
  * Adds variable usage to the context.
+ * The variable replaces the generated element, so the element is derived
+ * with a muted {@link com.github.lombrozo.jsmith.antlr.Emitter}.
  * @since 0.1
  */
 public final class VariableUsage implements Rule {
@@ -63,7 +67,14 @@ public final class VariableUsage implements Rule {
 
     @Override
     public Node generate(final Context context) throws WrongPathException {
-        final Node node = this.origin.generate(context);
+        final Probe.Trial trial = context.probe().trial(VariableUsage.COMMENT);
+        final Node node;
+        try {
+            node = this.origin.generate(context.withEmitter(context.emitter().muted()));
+        } catch (final WrongPathException exception) {
+            trial.failure(exception.getMessage());
+            throw exception;
+        }
         final Optional<String> initialized;
         final Attributes attributes = context.attributes();
         final Optional<String> type = attributes.currentType();
@@ -72,16 +83,16 @@ public final class VariableUsage implements Rule {
         } else {
             initialized = context.scope().initialized();
         }
-        return initialized
-            .map(output -> (Node) new TerminalNode(node.text().labels().author(), output))
-            .orElseThrow(
-                () -> new WrongPathException(
-                    String.format(
-                        "We cannot find any initialized variable in the scope '%s'",
-                        context.scope()
-                    )
-                )
+        if (initialized.isEmpty()) {
+            final String cause = String.format(
+                "We cannot find any initialized variable in the scope '%s'",
+                context.scope()
             );
+            trial.failure(cause);
+            throw new WrongPathException(cause);
+        }
+        trial.success();
+        return new TerminalNode(new PlainText(initialized.get(), node.text().labels()));
     }
 
     @Override
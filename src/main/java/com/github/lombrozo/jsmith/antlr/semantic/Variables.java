@@ -25,6 +25,7 @@ package com.github.lombrozo.jsmith.antlr.semantic;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.ToString;
@@ -107,6 +108,22 @@ public final class Variables {
         this.init.add(declared);
     }
 
+    /**
+     * Snapshot of the variables known right now.
+     * Variables are only ever added, so the first declared and assigned ones
+     * are exactly the variables of this moment, and the snapshot only remembers
+     * how many of them there are.
+     * @return Source of fresh copies of the current variables.
+     */
+    Supplier<Variables> snapshot() {
+        final int assigned = this.init.size();
+        final int declared = this.decl.size();
+        return () -> new Variables(
+            new ArrayList<>(this.init.subList(0, assigned)),
+            new ArrayList<>(this.decl.subList(0, declared))
+        );
+    }
+
     /**
      * Get all declared variables.
      * @return All declared variables.
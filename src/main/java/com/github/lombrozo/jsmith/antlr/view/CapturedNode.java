@@ -0,0 +1,312 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import com.github.lombrozo.jsmith.antlr.Attributes;
+import com.github.lombrozo.jsmith.antlr.Context;
+import com.github.lombrozo.jsmith.antlr.rules.Ruleref;
+import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
+import com.github.lombrozo.jsmith.random.ChoosingStrategy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Node produced by a parser rule reference together with the context it was generated in.
+ * Captured nodes are the points where a generated tree can be mutated:
+ * any of them might be regenerated under its original context, while the rest
+ * of the tree is shared with the original one.
+ * The text of a captured node is rendered only once, so after a mutation
+ * only the changed spine of the tree is rendered again.
+ * The context is captured as a snapshot taken right before the node was generated:
+ * a copy of the strategy and the variables visible at that moment. Each regeneration
+ * runs in a fresh context built from the snapshot, so it neither sees the variables
+ * declared later in the original tree nor leaks its own declarations into it.
+ * @since 0.2
+ */
+public final class CapturedNode implements Node {
+
+    /**
+     * Rule reference that produced the node.
+     */
+    private final Ruleref author;
+
+    /**
+     * Snapshot of the context the node was generated in.
+     */
+    private final Supplier<Context> context;
+
+    /**
+     * Generated node.
+     */
+    private final Node origin;
+
+    /**
+     * Rendered text.
+     */
+    private final Unchecked<Text> rendered;
+
+    /**
+     * Constructor.
+     * @param author Rule reference that produced the node.
+     * @param context Context the node was generated in.
+     * @param origin Generated node.
+     */
+    public CapturedNode(final Ruleref author, final Context context, final Node origin) {
+        this(author, context.snapshot(), origin);
+    }
+
+    /**
+     * Constructor.
+     * @param author Rule reference that produced the node.
+     * @param context Snapshot of the context the node was generated in.
+     * @param origin Generated node.
+     */
+    public CapturedNode(
+        final Ruleref author,
+        final Supplier<Context> context,
+        final Node origin
+    ) {
+        this.author = author;
+        this.context = context;
+        this.origin = origin;
+        this.rendered = new Unchecked<>(new Synced<>(new Sticky<>(origin::text)));
+    }
+
+    @Override
+    public Attributes attributes() {
+        return this.origin.attributes();
+    }
+
+    @Override
+    public Node with(final Attributes attributes) {
+        return new CapturedNode(this.author, this.context, this.origin.with(attributes));
+    }
+
+    @Override
+    public Text text() {
+        return this.rendered.value();
+    }
+
+    @Override
+    public boolean error() {
+        return this.origin.error();
+    }
+
+    /**
+     * The closest captured nodes under this one.
+     * These are the subtrees that might be addressed by the first index of a path.
+     * @return Captured subtrees in the original order.
+     */
+    public List<CapturedNode> subtrees() {
+        final List<CapturedNode> res = new ArrayList<>(0);
+        CapturedNode.collect(this.origin, res);
+        return Collections.unmodifiableList(res);
+    }
+
+    /**
+     * Regenerate the whole node under its original context.
+     * @return New node.
+     * @throws WrongPathException If the generation fails.
+     */
+    public CapturedNode regenerate() throws WrongPathException {
+        final Context fresh = this.context.get();
+        return fresh.siblings().root(() -> this.author.generate(fresh));
+    }
+
+    /**
+     * Regenerate the whole node under its original context, but with another strategy.
+     * @param strategy Strategy that chooses alternatives.
+     * @return New node.
+     * @throws WrongPathException If the generation fails.
+     */
+    public CapturedNode regenerate(final ChoosingStrategy strategy) throws WrongPathException {
+        final Context another = this.context.get().withStrategy(strategy);
+        return another.siblings().root(() -> this.author.generate(another));
+    }
+
+    /**
+     * Regenerate one of the subtrees.
+     * Each index of the path points to one of the {@link #subtrees()} of the previous node.
+     * All the subtrees outside the path are shared with this node.
+     * @param path Path to the subtree, empty path means this node.
+     * @return New node with the regenerated subtree.
+     * @throws WrongPathException If the generation fails.
+     */
+    public CapturedNode regenerate(final List<Integer> path) throws WrongPathException {
+        final CapturedNode result;
+        if (path.isEmpty()) {
+            result = this.regenerate();
+        } else {
+            final List<CapturedNode> subtrees = this.subtrees();
+            final int index = path.get(0);
+            if (index < 0 || index >= subtrees.size()) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Wrong path %s, '%s' has only %d subtrees",
+                        path,
+                        this.author.name(),
+                        subtrees.size()
+                    )
+                );
+            }
+            final CapturedNode target = subtrees.get(index);
+            result = new CapturedNode(
+                this.author,
+                this.context,
+                CapturedNode.swap(
+                    this.origin,
+                    target,
+                    target.regenerate(path.subList(1, path.size()))
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Generated node.
+     * @return Node without the captured context.
+     */
+    Node origin() {
+        return this.origin;
+    }
+
+    /**
+     * Name of the rule that produced the node.
+     * @return Rule name.
+     */
+    String rule() {
+        return this.author.name();
+    }
+
+    /**
+     * Copy of this node.
+     * The copy has the same subtrees, but it's a different node, so it might be
+     * placed into a tree where this node is already present.
+     * @return New node.
+     */
+    CapturedNode copy() {
+        return new CapturedNode(this.author, this.context, this.origin);
+    }
+
+    /**
+     * Replace captured nodes at any depth.
+     * Only the nodes between this node and the replaced ones are copied.
+     * @param replacements Nodes to replace and their replacements.
+     * @return This node if nothing was replaced, otherwise a new node.
+     */
+    CapturedNode replace(final Map<CapturedNode, CapturedNode> replacements) {
+        final CapturedNode result;
+        if (replacements.containsKey(this)) {
+            result = replacements.get(this);
+        } else {
+            final Node changed = CapturedNode.deep(this.origin, replacements);
+            if (changed == this.origin) {
+                result = this;
+            } else {
+                result = new CapturedNode(this.author, this.context, changed);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collect the closest captured nodes.
+     * @param node Node to look into.
+     * @param res Where to put found nodes.
+     */
+    private static void collect(final Node node, final List<CapturedNode> res) {
+        if (node instanceof CapturedNode) {
+            res.add((CapturedNode) node);
+        } else if (node instanceof IntermediateNode) {
+            for (final Node child : ((IntermediateNode) node).children()) {
+                CapturedNode.collect(child, res);
+            }
+        }
+    }
+
+    /**
+     * Replace captured nodes at any depth.
+     * @param node Node to look into.
+     * @param replacements Nodes to replace and their replacements.
+     * @return The same node if nothing was replaced, otherwise a new node.
+     */
+    private static Node deep(
+        final Node node,
+        final Map<CapturedNode, CapturedNode> replacements
+    ) {
+        final Node result;
+        if (node instanceof CapturedNode) {
+            result = ((CapturedNode) node).replace(replacements);
+        } else if (node instanceof IntermediateNode) {
+            final IntermediateNode inter = (IntermediateNode) node;
+            final List<Node> children = inter.children().stream()
+                .map(child -> CapturedNode.deep(child, replacements))
+                .collect(Collectors.toList());
+            if (children.equals(inter.children())) {
+                result = node;
+            } else {
+                result = inter.replace(children);
+            }
+        } else {
+            result = node;
+        }
+        return result;
+    }
+
+    /**
+     * Replace the target node.
+     * Only the nodes between the root and the target are copied.
+     * @param node Node to look into.
+     * @param target Node to replace.
+     * @param replacement New node.
+     * @return Node with the target replaced.
+     */
+    private static Node swap(final Node node, final Node target, final Node replacement) {
+        final Node result;
+        if (node == target) {
+            result = replacement;
+        } else if (node instanceof IntermediateNode) {
+            final IntermediateNode inter = (IntermediateNode) node;
+            final List<Node> children = inter.children().stream()
+                .map(child -> CapturedNode.swap(child, target, replacement))
+                .collect(Collectors.toList());
+            if (children.equals(inter.children())) {
+                result = node;
+            } else {
+                result = inter.replace(children);
+            }
+        } else {
+            result = node;
+        }
+        return result;
+    }
+}
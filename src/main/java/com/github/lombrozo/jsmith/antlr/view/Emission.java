@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import com.github.lombrozo.jsmith.antlr.Emitter;
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Tokens streamed right from the derivation.
+ * The tokens go to the sink as soon as they are derived. Only while an attempt
+ * that might fail is open, the tokens are held, since they might be dropped.
+ * Once the tokens of a node are taken, the node is replaced with an empty one
+ * that keeps only the attributes, so the derivation keeps only the nodes that
+ * aren't derived yet, instead of the whole tree. The same subtree is often
+ * reported by several nested grammar nodes, but only its first report has tokens.
+ * @since 0.2
+ */
+public final class Emission implements Emitter {
+
+    /**
+     * Text of the nodes which tokens are already taken.
+     */
+    private static final Text EMPTY = new PlainText("");
+
+    /**
+     * Might the rule fail because of semantic checks?
+     */
+    private final Predicate<Rule> checked;
+
+    /**
+     * Sink of the tokens.
+     */
+    private final Consumer<Lexeme> sink;
+
+    /**
+     * Held tokens.
+     */
+    private final List<Lexeme> pending;
+
+    /**
+     * Number of the tokens that already left.
+     */
+    private long flushed;
+
+    /**
+     * Number of the open attempts that hold the tokens.
+     */
+    private int holds;
+
+    /**
+     * Constructor.
+     * @param checked Might the rule fail because of semantic checks?
+     * @param sink Sink of the tokens.
+     */
+    public Emission(final Predicate<Rule> checked, final Consumer<Lexeme> sink) {
+        this.checked = checked;
+        this.sink = sink;
+        this.pending = new ArrayList<>(0);
+    }
+
+    @Override
+    public Node emit(final Node node) {
+        final Iterator<Lexeme> tokens = new Lexemes.Walk(node);
+        while (tokens.hasNext()) {
+            final Lexeme token = tokens.next();
+            if (this.holds > 0) {
+                this.pending.add(token);
+            } else {
+                this.sink.accept(token);
+                this.flushed = this.flushed + 1;
+            }
+        }
+        return new TerminalNode(Emission.EMPTY, node.attributes());
+    }
+
+    @Override
+    public boolean fallible(final List<Rule> candidates) {
+        return candidates.stream().anyMatch(this.checked);
+    }
+
+    @Override
+    public Frame frame(final boolean hold) {
+        if (hold) {
+            this.holds = this.holds + 1;
+        }
+        return new Attempt(this.flushed + this.pending.size(), hold);
+    }
+
+    @Override
+    public Emitter muted() {
+        return new Emitter.Off();
+    }
+
+    /**
+     * Let the held tokens through if nobody holds them anymore.
+     * @param hold Did the attempt hold the tokens?
+     */
+    private void release(final boolean hold) {
+        if (hold) {
+            this.holds = this.holds - 1;
+        }
+        if (this.holds == 0 && !this.pending.isEmpty()) {
+            this.pending.forEach(this.sink);
+            this.flushed = this.flushed + this.pending.size();
+            this.pending.clear();
+        }
+    }
+
+    /**
+     * Frame of a single attempt.
+     * @since 0.2
+     */
+    private final class Attempt implements Frame {
+
+        /**
+         * Number of the tokens emitted before the attempt.
+         */
+        private final long mark;
+
+        /**
+         * Does the attempt hold the tokens?
+         */
+        private final boolean hold;
+
+        /**
+         * Constructor.
+         * @param mark Number of the tokens emitted before the attempt.
+         * @param hold Does the attempt hold the tokens?
+         */
+        Attempt(final long mark, final boolean hold) {
+            this.mark = mark;
+            this.hold = hold;
+        }
+
+        @Override
+        public void keep() {
+            Emission.this.release(this.hold);
+        }
+
+        @Override
+        public boolean drop() {
+            final boolean res = this.mark >= Emission.this.flushed;
+            if (res) {
+                Emission.this.pending.subList(
+                    (int) (this.mark - Emission.this.flushed),
+                    Emission.this.pending.size()
+                ).clear();
+            }
+            Emission.this.release(this.hold);
+            return res;
+        }
+    }
+}
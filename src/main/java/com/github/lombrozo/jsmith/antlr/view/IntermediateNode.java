@@ -26,6 +26,7 @@ package com.github.lombrozo.jsmith.antlr.view;
 import com.github.lombrozo.jsmith.antlr.Attributes;
 import com.github.lombrozo.jsmith.antlr.rules.Rule;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -127,4 +128,31 @@ public final class IntermediateNode implements Node {
     public boolean error() {
         return this.snippets.stream().anyMatch(Node::error);
     }
+
+    /**
+     * Labels of this node.
+     * Unlike {@link #text()}, it doesn't render the children.
+     * @return Labels.
+     */
+    Labels labels() {
+        return this.labels;
+    }
+
+    /**
+     * Child snippets.
+     * @return Snippets in the original order.
+     */
+    List<Node> children() {
+        return Collections.unmodifiableList(this.snippets);
+    }
+
+    /**
+     * Copy of this node with other children.
+     * Labels and attributes are kept as they are.
+     * @param children New children.
+     * @return New node.
+     */
+    IntermediateNode replace(final List<Node> children) {
+        return new IntermediateNode(children, this.labels, this.attrs);
+    }
 }
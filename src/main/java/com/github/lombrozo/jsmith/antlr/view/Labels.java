@@ -49,6 +49,11 @@ public final class Labels {
      */
     private static final String AUTHOR = "$jsmith-author-label";
 
+    /**
+     * Token label.
+     */
+    private static final String TOKEN = "$jsmith-token-label";
+
     /**
      * Additional custom attributes.
      */
@@ -104,4 +109,24 @@ public final class Labels {
         copy.put(Labels.RULE, rule);
         return new Labels(copy);
     }
+
+    /**
+     * Token of the text.
+     * Either a lexer rule name or a literal in quotes, like in ANTLR vocabulary.
+     * @return Token name if the text is a single token.
+     */
+    public Optional<String> token() {
+        return Optional.ofNullable(this.properties.get(Labels.TOKEN));
+    }
+
+    /**
+     * With additional attribute - token.
+     * @param token Token name.
+     * @return Labels with the token.
+     */
+    public Labels withToken(final String token) {
+        final Map<String, String> copy = new HashMap<>(this.properties);
+        copy.put(Labels.TOKEN, token);
+        return new Labels(copy);
+    }
 }
@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Indented layout of generated tokens.
+ * It prints tokens right from the generated tree, without re-parsing the code:
+ * whitespace tokens, like {@code SPACE} or {@code NL}, become a single space or
+ * a line break, while curly braces open and close indented blocks.
+ * Line breaks also follow semicolons outside of parentheses.
+ * It suits C-like languages, where scopes are delimited by curly braces.
+ * @since 0.2
+ */
+public final class Layout {
+
+    /**
+     * Indentation of a single level.
+     */
+    private static final String INDENT = "    ";
+
+    /**
+     * Tokens to lay out.
+     */
+    private final Iterable<Lexeme> lexemes;
+
+    /**
+     * Line separator.
+     */
+    private final String separator;
+
+    /**
+     * Constructor.
+     * @param lexemes Tokens to lay out.
+     */
+    public Layout(final Iterable<Lexeme> lexemes) {
+        this(lexemes, System.lineSeparator());
+    }
+
+    /**
+     * Constructor.
+     * @param lexemes Tokens to lay out.
+     * @param separator Line separator.
+     */
+    public Layout(final Iterable<Lexeme> lexemes, final String separator) {
+        this.lexemes = lexemes;
+        this.separator = separator;
+    }
+
+    /**
+     * Laid out text.
+     * @return Text.
+     */
+    public String text() {
+        final StringBuilder res = new StringBuilder(0);
+        this.writeTo(res);
+        return res.toString();
+    }
+
+    /**
+     * Write laid out text.
+     * @param out Where to write.
+     */
+    public void writeTo(final Appendable out) {
+        try {
+            final Writer writer = new Writer(out, this.separator);
+            for (final Lexeme lexeme : this.lexemes) {
+                writer.write(lexeme.text());
+            }
+            writer.finish();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Can't write laid out tokens", exception);
+        }
+    }
+
+    /**
+     * Stateful writer of a single layout.
+     * @since 0.2
+     */
+    private static final class Writer {
+
+        /**
+         * Where to write.
+         */
+        private final Appendable out;
+
+        /**
+         * Line separator.
+         */
+        private final String separator;
+
+        /**
+         * Current indentation level.
+         */
+        private int depth;
+
+        /**
+         * Current depth of parentheses.
+         */
+        private int parens;
+
+        /**
+         * Whether the current line is empty.
+         */
+        private boolean fresh;
+
+        /**
+         * Whether a line break is requested before the next token.
+         */
+        private boolean breaking;
+
+        /**
+         * Whether a space is requested before the next token.
+         */
+        private boolean spacing;
+
+        /**
+         * Constructor.
+         * @param out Where to write.
+         * @param separator Line separator.
+         */
+        Writer(final Appendable out, final String separator) {
+            this.out = out;
+            this.separator = separator;
+            this.fresh = true;
+        }
+
+        /**
+         * Write a single token.
+         * @param text Token text.
+         * @throws IOException If writing fails.
+         */
+        void write(final String text) throws IOException {
+            if (text.isBlank()) {
+                if (text.indexOf('\n') >= 0) {
+                    this.breaking = true;
+                } else if (!text.isEmpty()) {
+                    this.spacing = true;
+                }
+            } else {
+                if ("}".equals(text)) {
+                    this.depth = Math.max(0, this.depth - 1);
+                    this.breaking = true;
+                }
+                this.flush(text);
+                this.out.append(text);
+                this.fresh = false;
+                this.after(text);
+            }
+        }
+
+        /**
+         * Finish the layout with a line break.
+         * @throws IOException If writing fails.
+         */
+        void finish() throws IOException {
+            if (!this.fresh) {
+                this.out.append(this.separator);
+            }
+        }
+
+        /**
+         * Write requested whitespace before the token.
+         * Line break is dropped before tokens that continue the statement.
+         * @param text Token text.
+         * @throws IOException If writing fails.
+         */
+        private void flush(final String text) throws IOException {
+            final boolean continues = ";".equals(text)
+                || ",".equals(text)
+                || ")".equals(text)
+                || ".".equals(text);
+            if (this.breaking && !this.fresh && !continues) {
+                this.out.append(this.separator);
+                this.fresh = true;
+            }
+            if (this.fresh) {
+                for (int level = 0; level < this.depth; ++level) {
+                    this.out.append(Layout.INDENT);
+                }
+            } else if (this.spacing) {
+                this.out.append(' ');
+            }
+            this.breaking = false;
+            this.spacing = false;
+        }
+
+        /**
+         * Update the state after the token.
+         * @param text Token text.
+         */
+        private void after(final String text) {
+            if ("{".equals(text)) {
+                this.depth += 1;
+                this.breaking = true;
+            } else if ("}".equals(text)) {
+                this.breaking = true;
+            } else if ("(".equals(text)) {
+                this.parens += 1;
+            } else if (")".equals(text)) {
+                this.parens = Math.max(0, this.parens - 1);
+            } else if (";".equals(text) && this.parens == 0) {
+                this.breaking = true;
+            }
+        }
+    }
+}
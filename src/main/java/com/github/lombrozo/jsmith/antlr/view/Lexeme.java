@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Single token of the generated program.
+ * @since 0.2
+ */
+@ToString
+@EqualsAndHashCode
+public final class Lexeme {
+
+    /**
+     * Token name, either a lexer rule name or a literal in quotes.
+     * Might be null if the token was produced by a semantic rule that doesn't know it.
+     */
+    private final String name;
+
+    /**
+     * Token text.
+     */
+    private final String txt;
+
+    /**
+     * Constructor.
+     * @param name Token name, either a lexer rule name or a literal in quotes.
+     * @param text Token text.
+     */
+    public Lexeme(final String name, final String text) {
+        this.name = name;
+        this.txt = text;
+    }
+
+    /**
+     * Token name.
+     * The name is the same as in ANTLR vocabulary: either a symbolic name, like
+     * {@code NUMBER}, or a literal name, like {@code '+'}.
+     * @return Token name if it's known.
+     */
+    public Optional<String> token() {
+        return Optional.ofNullable(this.name);
+    }
+
+    /**
+     * Token text.
+     * @return Text.
+     */
+    public String text() {
+        return this.txt;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Tokens of the generated program.
+ * Tokens are taken from left to right without building the {@link Text} tree
+ * and without concatenating intermediate strings, so they might be written
+ * to a sink as they go. The tokens either come right from the derivation,
+ * see {@link Emission}, or are taken from an already generated tree.
+ * @since 0.2
+ */
+public final class Lexemes implements Iterable<Lexeme> {
+
+    /**
+     * Size of the buffer used to write into a channel.
+     */
+    private static final int BUFFER = 8192;
+
+    /**
+     * Source of the tokens.
+     */
+    private final Source source;
+
+    /**
+     * Constructor.
+     * @param tree Generated tree.
+     */
+    public Lexemes(final Node tree) {
+        this(sink -> new Walk(tree).forEachRemaining(sink));
+    }
+
+    /**
+     * Constructor.
+     * @param source Source of the tokens.
+     */
+    public Lexemes(final Source source) {
+        this.source = source;
+    }
+
+    /**
+     * All the tokens.
+     * The iterator doesn't stream: it collects all the tokens of the source
+     * before the first one is returned. Use {@link #writeTo(Appendable)} or
+     * {@link #writeTo(WritableByteChannel)} to pass the tokens to a sink as they come.
+     * @return Iterator over the tokens.
+     */
+    @Override
+    public Iterator<Lexeme> iterator() {
+        final List<Lexeme> all = new ArrayList<>(0);
+        this.source.emit(all::add);
+        return all.iterator();
+    }
+
+    /**
+     * Write all the tokens to a character sink.
+     * @param sink Sink.
+     * @throws IOException If the sink fails.
+     */
+    public void writeTo(final Appendable sink) throws IOException {
+        try {
+            this.source.emit(
+                lexeme -> {
+                    try {
+                        sink.append(lexeme.text());
+                    } catch (final IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+                }
+            );
+        } catch (final UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Write all the tokens to a byte channel in UTF-8.
+     * @param channel Channel.
+     * @throws IOException If the channel fails.
+     */
+    public void writeTo(final WritableByteChannel channel) throws IOException {
+        final StringBuilder chunk = new StringBuilder(Lexemes.BUFFER);
+        try {
+            this.source.emit(
+                lexeme -> {
+                    chunk.append(lexeme.text());
+                    if (chunk.length() >= Lexemes.BUFFER) {
+                        Lexemes.flushUnchecked(chunk, channel);
+                    }
+                }
+            );
+        } catch (final UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        Lexemes.flush(chunk, channel);
+    }
+
+    /**
+     * Write the buffered characters to the channel.
+     * @param chunk Buffered characters, emptied after writing.
+     * @param channel Channel.
+     */
+    private static void flushUnchecked(
+        final StringBuilder chunk,
+        final WritableByteChannel channel
+    ) {
+        try {
+            Lexemes.flush(chunk, channel);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Write the buffered characters to the channel.
+     * @param chunk Buffered characters, emptied after writing.
+     * @param channel Channel.
+     * @throws IOException If the channel fails.
+     */
+    private static void flush(
+        final StringBuilder chunk,
+        final WritableByteChannel channel
+    ) throws IOException {
+        final ByteBuffer bytes = StandardCharsets.UTF_8.encode(chunk.toString());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        chunk.setLength(0);
+    }
+
+    /**
+     * Source of the tokens.
+     * @since 0.2
+     */
+    @FunctionalInterface
+    public interface Source {
+
+        /**
+         * Pass all the tokens to the sink from left to right.
+         * @param sink Sink.
+         */
+        void emit(Consumer<Lexeme> sink);
+    }
+
+    /**
+     * Depth-first walk over the tree that stops at tokens.
+     * @since 0.2
+     */
+    static final class Walk implements Iterator<Lexeme> {
+
+        /**
+         * Nodes to visit, the next one is on the top.
+         */
+        private final Deque<Node> stack;
+
+        /**
+         * Next token, null if it isn't found yet.
+         */
+        private Lexeme ahead;
+
+        /**
+         * Constructor.
+         * @param root Root of the tree.
+         */
+        Walk(final Node root) {
+            this.stack = new ArrayDeque<>(0);
+            this.stack.push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.ahead == null && !this.stack.isEmpty()) {
+                this.ahead = this.visit(this.stack.pop());
+            }
+            return this.ahead != null;
+        }
+
+        @Override
+        public Lexeme next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("There are no more tokens");
+            }
+            final Lexeme res = this.ahead;
+            this.ahead = null;
+            return res;
+        }
+
+        /**
+         * Visit a node.
+         * @param node Node.
+         * @return Token if the node is a token, null if we need to go deeper.
+         */
+        private Lexeme visit(final Node node) {
+            Lexeme res = null;
+            if (node instanceof CapturedNode) {
+                this.stack.push(((CapturedNode) node).origin());
+            } else if (node instanceof IntermediateNode) {
+                final IntermediateNode inter = (IntermediateNode) node;
+                if (inter.labels().token().isPresent()) {
+                    res = Walk.token(node.text());
+                } else {
+                    final List<Node> children = inter.children();
+                    for (int idx = children.size() - 1; idx >= 0; idx = idx - 1) {
+                        this.stack.push(children.get(idx));
+                    }
+                }
+            } else {
+                res = Walk.token(node.text());
+            }
+            return res;
+        }
+
+        /**
+         * Token of the text.
+         * @param text Text.
+         * @return Token, null if the text is empty.
+         */
+        private static Lexeme token(final Text text) {
+            final String output = text.output();
+            final Lexeme res;
+            if (output.isEmpty()) {
+                res = null;
+            } else {
+                res = new Lexeme(text.labels().token().orElse(null), output);
+            }
+            return res;
+        }
+    }
+}
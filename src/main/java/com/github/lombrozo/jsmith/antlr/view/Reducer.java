@@ -0,0 +1,360 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
+import com.github.lombrozo.jsmith.random.ConvergenceStrategy;
+import com.github.lombrozo.jsmith.random.Rand;
+import com.jcabi.log.Logger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Hierarchical reducer of the generated trees.
+ * The reducer goes through the tree level by level, from the root to the leaves,
+ * and tries to replace each subtree with the smallest subtree of the same rule.
+ * Candidates are taken from the tree itself and from the grammar: each rule of
+ * the tree is derived again a few times with a strongly converging strategy, and
+ * the shortest derivation is used if it's smaller than any subtree of the tree.
+ * Rules don't expose their structure, so the shortest expansion is sampled
+ * rather than computed; the samples are seeded, so the reduction is repeatable.
+ * All the candidates of one level are checked in parallel against the
+ * interestingness predicate, so the predicate must be thread-safe.
+ * If several of them stay interesting, the reducer tries to apply them all at once,
+ * and falls back to the best single one otherwise.
+ * Since whole subtrees are replaced, the result always follows the grammar,
+ * and the number of checks is bounded by the tree structure rather than by the length of the text.
+ * @since 0.2
+ */
+public final class Reducer {
+
+    /**
+     * Number of derivations sampled for the shortest expansion of a rule.
+     */
+    private static final int SAMPLES = 8;
+
+    /**
+     * Seed of the sampled derivations.
+     */
+    private static final long SEED = 42L;
+
+    /**
+     * Factor of convergence of the sampled derivations.
+     */
+    private static final double FACTOR = 0.1d;
+
+    /**
+     * Interestingness predicate.
+     * Usually it checks that the program still triggers the same failure.
+     * It's called from several threads at once.
+     */
+    private final Predicate<Text> interesting;
+
+    /**
+     * Number of threads used to check candidates.
+     */
+    private final int threads;
+
+    /**
+     * Constructor.
+     * @param interesting Interestingness predicate, it must be thread-safe.
+     */
+    public Reducer(final Predicate<Text> interesting) {
+        this(interesting, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     * @param interesting Interestingness predicate, it must be thread-safe
+     *  unless there is a single thread.
+     * @param threads Number of threads used to check candidates.
+     */
+    public Reducer(final Predicate<Text> interesting, final int threads) {
+        this.interesting = interesting;
+        this.threads = threads;
+    }
+
+    /**
+     * Reduce the tree.
+     * @param tree Interesting tree.
+     * @return The smallest interesting tree found.
+     */
+    public CapturedNode reduce(final CapturedNode tree) {
+        if (!this.interesting.test(tree.text())) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The tree to reduce isn't interesting: '%s'",
+                    tree.text().output()
+                )
+            );
+        }
+        final AtomicInteger checks = new AtomicInteger(1);
+        final Map<String, Optional<CapturedNode>> shortest = new HashMap<>(0);
+        final ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+        try {
+            CapturedNode current = tree;
+            CapturedNode previous;
+            do {
+                previous = current;
+                int depth = 1;
+                while (!Reducer.level(current, depth).isEmpty()) {
+                    current = this.reduce(current, depth, shortest, pool, checks);
+                    depth = depth + 1;
+                }
+            } while (current != previous);
+            Logger.debug(
+                this,
+                "Reduced %d chars to %d chars in %d checks",
+                tree.text().output().length(),
+                current.text().output().length(),
+                checks.get()
+            );
+            return current;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Reduce a single level of the tree.
+     * @param tree Interesting tree.
+     * @param depth Depth of the level.
+     * @param shortest The shortest derivations of the rules.
+     * @param pool Thread pool to check candidates.
+     * @param checks Number of checks made so far.
+     * @return Reduced interesting tree.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private CapturedNode reduce(
+        final CapturedNode tree,
+        final int depth,
+        final Map<String, Optional<CapturedNode>> shortest,
+        final ExecutorService pool,
+        final AtomicInteger checks
+    ) {
+        CapturedNode current = tree;
+        boolean progress = true;
+        while (progress) {
+            final Map<CapturedNode, Integer> sizes = Reducer.sizes(current);
+            final Map<String, CapturedNode> minimal = Reducer.minimal(sizes);
+            Reducer.derived(minimal, sizes, shortest);
+            final CapturedNode base = current;
+            final List<CapturedNode> targets = Reducer.level(current, depth).stream()
+                .filter(node -> sizes.get(minimal.get(node.rule())) < sizes.get(node))
+                .collect(Collectors.toList());
+            final List<CompletableFuture<Boolean>> futures = targets.stream()
+                .map(
+                    node -> CompletableFuture.supplyAsync(
+                        () -> this.check(
+                            base.replace(Reducer.edit(node, minimal.get(node.rule()))),
+                            checks
+                        ),
+                        pool
+                    )
+                )
+                .collect(Collectors.toList());
+            final List<CapturedNode> successes = new ArrayList<>(targets.size());
+            for (int idx = 0; idx < targets.size(); idx = idx + 1) {
+                if (futures.get(idx).join()) {
+                    successes.add(targets.get(idx));
+                }
+            }
+            progress = !successes.isEmpty();
+            if (progress) {
+                final Map<CapturedNode, CapturedNode> all = new IdentityHashMap<>(0);
+                successes.forEach(node -> all.putAll(Reducer.edit(node, minimal.get(node.rule()))));
+                final CapturedNode combined = current.replace(all);
+                if (successes.size() > 1 && this.check(combined, checks)) {
+                    current = combined;
+                } else {
+                    final CapturedNode best = successes.stream()
+                        .max(
+                            Comparator.comparingInt(
+                                node -> sizes.get(node) - sizes.get(minimal.get(node.rule()))
+                            )
+                        )
+                        .orElseThrow();
+                    current = current.replace(Reducer.edit(best, minimal.get(best.rule())));
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Check whether the candidate is interesting.
+     * @param candidate Candidate tree.
+     * @param checks Number of checks made so far.
+     * @return True if the candidate is interesting.
+     */
+    private boolean check(final CapturedNode candidate, final AtomicInteger checks) {
+        checks.incrementAndGet();
+        return this.interesting.test(candidate.text());
+    }
+
+    /**
+     * Single replacement.
+     * @param node Node to replace.
+     * @param minimal The smallest node of the same rule.
+     * @return Replacement.
+     */
+    private static Map<CapturedNode, CapturedNode> edit(
+        final CapturedNode node,
+        final CapturedNode minimal
+    ) {
+        final Map<CapturedNode, CapturedNode> res = new IdentityHashMap<>(1);
+        res.put(node, minimal.copy());
+        return res;
+    }
+
+    /**
+     * The smallest node of each rule.
+     * @param sizes Sizes of all the nodes.
+     * @return The smallest node of each rule.
+     */
+    private static Map<String, CapturedNode> minimal(final Map<CapturedNode, Integer> sizes) {
+        final Map<String, CapturedNode> res = new HashMap<>(0);
+        sizes.forEach(
+            (node, size) -> res.merge(
+                node.rule(),
+                node,
+                (prev, next) -> {
+                    final CapturedNode smaller;
+                    if (sizes.get(next) < sizes.get(prev)) {
+                        smaller = next;
+                    } else {
+                        smaller = prev;
+                    }
+                    return smaller;
+                }
+            )
+        );
+        return res;
+    }
+
+    /**
+     * Replace the smallest nodes of the tree with the shortest derivations of their rules,
+     * if the derivations are smaller.
+     * @param minimal The smallest node of each rule, updated in place.
+     * @param sizes Sizes of the nodes, sizes of the derivations are added to them.
+     * @param shortest The shortest derivations of the rules found so far.
+     */
+    private static void derived(
+        final Map<String, CapturedNode> minimal,
+        final Map<CapturedNode, Integer> sizes,
+        final Map<String, Optional<CapturedNode>> shortest
+    ) {
+        for (final Map.Entry<String, CapturedNode> entry : minimal.entrySet()) {
+            final Optional<CapturedNode> derivation = shortest.computeIfAbsent(
+                entry.getKey(), rule -> Reducer.shortest(entry.getValue())
+            );
+            if (derivation.isPresent()) {
+                final int size = derivation.get().text().output().length();
+                if (size < sizes.get(entry.getValue())) {
+                    sizes.put(derivation.get(), size);
+                    entry.setValue(derivation.get());
+                }
+            }
+        }
+    }
+
+    /**
+     * The shortest of the sampled derivations of the node rule.
+     * @param node Node to derive again.
+     * @return The shortest derivation, or empty if all of them failed.
+     */
+    private static Optional<CapturedNode> shortest(final CapturedNode node) {
+        final Rand rand = new Rand(Reducer.SEED);
+        CapturedNode res = null;
+        for (int sample = 0; sample < Reducer.SAMPLES; sample = sample + 1) {
+            try {
+                final CapturedNode next = node.regenerate(
+                    new ConvergenceStrategy(Reducer.FACTOR, rand)
+                );
+                if (res == null
+                    || next.text().output().length() < res.text().output().length()) {
+                    res = next;
+                }
+            } catch (final WrongPathException exception) {
+                Logger.debug(
+                    Reducer.class,
+                    "Can't derive '%s' again: %s",
+                    node.rule(),
+                    exception.getMessage()
+                );
+            }
+        }
+        return Optional.ofNullable(res);
+    }
+
+    /**
+     * Output sizes of all the captured nodes of the tree.
+     * @param tree Tree.
+     * @return Sizes of all the nodes.
+     */
+    private static Map<CapturedNode, Integer> sizes(final CapturedNode tree) {
+        final Map<CapturedNode, Integer> res = new IdentityHashMap<>(0);
+        Reducer.sizes(tree, res);
+        return res;
+    }
+
+    /**
+     * Output sizes of all the captured nodes of the tree.
+     * @param tree Tree.
+     * @param res Where to put the sizes.
+     */
+    private static void sizes(final CapturedNode tree, final Map<CapturedNode, Integer> res) {
+        res.put(tree, tree.text().output().length());
+        tree.subtrees().forEach(node -> Reducer.sizes(node, res));
+    }
+
+    /**
+     * All the captured nodes at the given depth.
+     * @param tree Tree.
+     * @param depth Depth, zero is the root.
+     * @return Nodes from left to right.
+     */
+    private static List<CapturedNode> level(final CapturedNode tree, final int depth) {
+        final List<CapturedNode> res;
+        if (depth == 0) {
+            res = List.of(tree);
+        } else {
+            res = tree.subtrees().stream()
+                .flatMap(node -> Reducer.level(node, depth - 1).stream())
+                .collect(Collectors.toList());
+        }
+        return res;
+    }
+}
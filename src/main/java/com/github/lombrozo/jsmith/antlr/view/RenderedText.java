@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import com.github.lombrozo.jsmith.events.RenderEvent;
+import java.util.List;
+
+/**
+ * Text that reports its rendering to the flight recorder.
+ * Only the top text is wrapped, so a program is reported once,
+ * not once per node.
+ * @since 0.2
+ */
+public final class RenderedText implements Text {
+
+    /**
+     * Original text.
+     */
+    private final Text origin;
+
+    /**
+     * Constructor.
+     * @param origin Original text.
+     */
+    public RenderedText(final Text origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public List<Text> children() {
+        return this.origin.children();
+    }
+
+    @Override
+    public String output() {
+        final RenderEvent event = new RenderEvent();
+        event.begin();
+        final String res = this.origin.output();
+        if (event.shouldCommit()) {
+            event.length(res.length());
+            event.commit();
+        }
+        return res;
+    }
+
+    @Override
+    public Labels labels() {
+        return this.origin.labels();
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+}
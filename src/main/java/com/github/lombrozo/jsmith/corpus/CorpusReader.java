@@ -0,0 +1,232 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.corpus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reader of a corpus written by {@link CorpusWriter}.
+ * It loads indexes of all the segments at once and maps segment files into memory,
+ * so any program can be read by its seed without scanning the corpus.
+ * If the same seed was written several times, the last program wins.
+ * The reader isn't thread-safe.
+ * @since 0.2
+ */
+public final class CorpusReader implements AutoCloseable {
+
+    /**
+     * Mapped segments.
+     */
+    private final List<MappedByteBuffer> segments;
+
+    /**
+     * Programs by seeds.
+     */
+    private final Map<Long, Location> index;
+
+    /**
+     * Inflater.
+     */
+    private final Inflater inflater;
+
+    /**
+     * Shared dictionary.
+     */
+    private final byte[] dictionary;
+
+    /**
+     * Constructor.
+     * Use it for corpora stored without a dictionary.
+     * @param dir Corpus directory.
+     * @throws IOException If the corpus can't be opened.
+     */
+    public CorpusReader(final Path dir) throws IOException {
+        this(dir, new byte[0]);
+    }
+
+    /**
+     * Constructor.
+     * @param dir Corpus directory.
+     * @param dictionary Shared dictionary the corpus was deflated with.
+     * @throws IOException If the corpus can't be opened.
+     */
+    public CorpusReader(final Path dir, final byte[] dictionary) throws IOException {
+        this.segments = new ArrayList<>(0);
+        this.index = new HashMap<>(0);
+        this.inflater = new Inflater();
+        this.dictionary = Arrays.copyOf(dictionary, dictionary.length);
+        for (final int number : Segments.all(dir)) {
+            this.open(dir, number);
+        }
+    }
+
+    /**
+     * Read the program.
+     * @param seed Seed of the program.
+     * @return Program text or empty if there is no program with the seed.
+     */
+    public Optional<String> read(final long seed) {
+        final Optional<String> res;
+        final Location location = this.index.get(seed);
+        if (location == null) {
+            res = Optional.empty();
+        } else {
+            res = Optional.of(this.read(location));
+        }
+        return res;
+    }
+
+    /**
+     * All the seeds in the corpus.
+     * @return Seeds.
+     */
+    public Set<Long> seeds() {
+        return Collections.unmodifiableSet(this.index.keySet());
+    }
+
+    @Override
+    public void close() {
+        this.inflater.end();
+        this.segments.clear();
+        this.index.clear();
+    }
+
+    /**
+     * Read the program by its location.
+     * @param location Location of the program.
+     * @return Program text.
+     */
+    private String read(final Location location) {
+        final Entry entry = location.entry;
+        final ByteBuffer stored = this.segments.get(location.segment).duplicate();
+        stored.position(Math.toIntExact(entry.offset()));
+        stored.limit(stored.position() + entry.stored());
+        final ByteBuffer bytes;
+        if (entry.deflated()) {
+            bytes = this.inflate(stored, entry.original());
+        } else {
+            bytes = stored;
+        }
+        return StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+
+    /**
+     * Inflate the program.
+     * @param stored Deflated program.
+     * @param original Original length of the program.
+     * @return Inflated program.
+     */
+    private ByteBuffer inflate(final ByteBuffer stored, final int original) {
+        final byte[] input = new byte[stored.remaining()];
+        stored.get(input);
+        final byte[] output = new byte[original];
+        this.inflater.reset();
+        this.inflater.setInput(input);
+        try {
+            int length = this.inflater.inflate(output);
+            if (this.inflater.needsDictionary()) {
+                this.inflater.setDictionary(this.dictionary);
+                length += this.inflater.inflate(output, length, original - length);
+            }
+            if (length != original) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Corrupted program: expected %d bytes, but inflated %d",
+                        original,
+                        length
+                    )
+                );
+            }
+        } catch (final DataFormatException exception) {
+            throw new IllegalStateException(
+                "Can't inflate the program, probably the dictionary is wrong",
+                exception
+            );
+        }
+        return ByteBuffer.wrap(output);
+    }
+
+    /**
+     * Map the segment and load its index.
+     * @param dir Corpus directory.
+     * @param number Number of the segment.
+     * @throws IOException If the segment can't be read.
+     */
+    private void open(final Path dir, final int number) throws IOException {
+        final int position = this.segments.size();
+        try (FileChannel data = FileChannel.open(Segments.data(dir, number))) {
+            this.segments.add(data.map(FileChannel.MapMode.READ_ONLY, 0L, data.size()));
+        }
+        final ByteBuffer entries = ByteBuffer.wrap(
+            Files.readAllBytes(Segments.index(dir, number))
+        );
+        while (entries.remaining() >= Entry.SIZE) {
+            final Entry entry = Entry.read(entries);
+            this.index.put(entry.seed(), new Location(position, entry));
+        }
+    }
+
+    /**
+     * Location of a program in the corpus.
+     * @since 0.2
+     */
+    private static final class Location {
+
+        /**
+         * Position of the segment in the list of mapped segments.
+         */
+        private final int segment;
+
+        /**
+         * Index entry.
+         */
+        private final Entry entry;
+
+        /**
+         * Constructor.
+         * @param segment Position of the segment.
+         * @param entry Index entry.
+         */
+        private Location(final int segment, final Entry entry) {
+            this.segment = segment;
+            this.entry = entry;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.corpus;
+
+import com.github.lombrozo.jsmith.antlr.view.Lexemes;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * Writer of a corpus of generated programs.
+ * Programs are appended to large segment files through a file channel,
+ * while each segment has its own index file with the offsets of programs by seeds.
+ * When a segment grows over the limit, the writer starts the next one.
+ * Programs might be deflated with a shared dictionary, which should contain
+ * the most common fragments of programs, like keywords.
+ * The same dictionary must be passed to {@link CorpusReader} later.
+ * The writer isn't thread-safe.
+ * @since 0.2
+ */
+public final class CorpusWriter implements AutoCloseable {
+
+    /**
+     * Default segment size, 64 MiB.
+     */
+    private static final long SEGMENT = 64L * 1024L * 1024L;
+
+    /**
+     * Corpus directory.
+     */
+    private final Path dir;
+
+    /**
+     * Segment size limit, in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Deflater, or null if programs are stored as is.
+     */
+    private final Deflater deflater;
+
+    /**
+     * Dictionary of the deflater.
+     */
+    private final byte[] dictionary;
+
+    /**
+     * Buffer for program text.
+     */
+    private final StringBuilder text;
+
+    /**
+     * Buffer for index entries.
+     */
+    private final ByteBuffer entry;
+
+    /**
+     * Buffer for compressed programs.
+     */
+    private byte[] compressed;
+
+    /**
+     * Number of the current segment.
+     */
+    private int number;
+
+    /**
+     * Current segment, or null if not opened yet.
+     */
+    private FileChannel segment;
+
+    /**
+     * Index of the current segment.
+     */
+    private FileChannel index;
+
+    /**
+     * Constructor.
+     * Programs are stored as is.
+     * @param dir Corpus directory.
+     */
+    public CorpusWriter(final Path dir) {
+        this(dir, CorpusWriter.SEGMENT, null);
+    }
+
+    /**
+     * Constructor.
+     * Programs are deflated with the shared dictionary.
+     * @param dir Corpus directory.
+     * @param dictionary Shared deflate dictionary.
+     */
+    public CorpusWriter(final Path dir, final byte[] dictionary) {
+        this(dir, CorpusWriter.SEGMENT, dictionary);
+    }
+
+    /**
+     * Constructor.
+     * @param dir Corpus directory.
+     * @param limit Segment size limit, in bytes.
+     * @param dictionary Shared deflate dictionary, empty to deflate without a dictionary,
+     *  or null to store programs as is.
+     */
+    public CorpusWriter(final Path dir, final long limit, final byte[] dictionary) {
+        this.dir = dir;
+        this.limit = limit;
+        if (dictionary == null) {
+            this.deflater = null;
+            this.dictionary = new byte[0];
+        } else {
+            this.deflater = new Deflater(Deflater.BEST_SPEED);
+            this.dictionary = Arrays.copyOf(dictionary, dictionary.length);
+        }
+        this.text = new StringBuilder(0);
+        this.entry = ByteBuffer.allocate(Entry.SIZE);
+        this.compressed = new byte[0];
+        this.number = -1;
+    }
+
+    /**
+     * Write the program.
+     * @param seed Seed of the program.
+     * @param program Program text.
+     * @throws IOException If writing fails.
+     */
+    public void write(final long seed, final CharSequence program) throws IOException {
+        final ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(program));
+        final int original = bytes.remaining();
+        final ByteBuffer stored;
+        if (this.deflater == null) {
+            stored = bytes;
+        } else {
+            stored = this.deflate(bytes);
+        }
+        this.append(seed, stored, original);
+    }
+
+    /**
+     * Write the program right from the generated tokens.
+     * @param seed Seed of the program.
+     * @param program Program tokens.
+     * @throws IOException If writing fails.
+     */
+    public void write(final long seed, final Lexemes program) throws IOException {
+        this.text.setLength(0);
+        program.writeTo(this.text);
+        this.write(seed, this.text);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closeSegment();
+        if (this.deflater != null) {
+            this.deflater.end();
+        }
+    }
+
+    /**
+     * Append the stored program and its index entry.
+     * @param seed Seed of the program.
+     * @param stored Stored program.
+     * @param original Original length of the program in UTF-8.
+     * @throws IOException If writing fails.
+     */
+    private void append(
+        final long seed, final ByteBuffer stored, final int original
+    ) throws IOException {
+        if (this.segment == null || this.segment.position() >= this.limit) {
+            this.nextSegment();
+        }
+        final Entry located = new Entry(
+            seed, this.segment.position(), stored.remaining(), original, this.deflater != null
+        );
+        while (stored.hasRemaining()) {
+            this.segment.write(stored);
+        }
+        this.entry.clear();
+        located.write(this.entry);
+        this.entry.flip();
+        while (this.entry.hasRemaining()) {
+            this.index.write(this.entry);
+        }
+    }
+
+    /**
+     * Deflate the program.
+     * @param bytes Program in UTF-8.
+     * @return Deflated program.
+     */
+    private ByteBuffer deflate(final ByteBuffer bytes) {
+        this.deflater.reset();
+        if (this.dictionary.length > 0) {
+            this.deflater.setDictionary(this.dictionary);
+        }
+        this.deflater.setInput(
+            bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining()
+        );
+        this.deflater.finish();
+        final int bound = bytes.remaining() + bytes.remaining() / 1000 + 64;
+        if (this.compressed.length < bound) {
+            this.compressed = new byte[bound];
+        }
+        int length = 0;
+        while (!this.deflater.finished()) {
+            if (length == this.compressed.length) {
+                this.compressed = Arrays.copyOf(this.compressed, this.compressed.length * 2);
+            }
+            length += this.deflater.deflate(
+                this.compressed, length, this.compressed.length - length
+            );
+        }
+        return ByteBuffer.wrap(this.compressed, 0, length);
+    }
+
+    /**
+     * Start the next segment.
+     * Existing segments are never overwritten.
+     * @throws IOException If the segment can't be created.
+     */
+    private void nextSegment() throws IOException {
+        this.closeSegment();
+        Files.createDirectories(this.dir);
+        if (this.number < 0) {
+            this.number = Segments.last(this.dir);
+        }
+        this.number += 1;
+        this.segment = FileChannel.open(
+            Segments.data(this.dir, this.number),
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE
+        );
+        this.index = FileChannel.open(
+            Segments.index(this.dir, this.number),
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE
+        );
+    }
+
+    /**
+     * Close the current segment.
+     * @throws IOException If closing fails.
+     */
+    private void closeSegment() throws IOException {
+        if (this.segment != null) {
+            this.segment.close();
+            this.index.close();
+            this.segment = null;
+            this.index = null;
+        }
+    }
+}
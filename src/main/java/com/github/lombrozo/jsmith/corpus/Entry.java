@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.corpus;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Entry of the segment index.
+ * It points to a single program in the segment file.
+ * @since 0.2
+ */
+final class Entry {
+
+    /**
+     * Size of the entry in the index file, in bytes.
+     */
+    static final int SIZE = Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES + 1;
+
+    /**
+     * Seed of the program.
+     */
+    private final long seed;
+
+    /**
+     * Offset of the program in the segment.
+     */
+    private final long offset;
+
+    /**
+     * Stored length of the program, in bytes.
+     */
+    private final int stored;
+
+    /**
+     * Original length of the program in UTF-8, in bytes.
+     */
+    private final int original;
+
+    /**
+     * Whether the program is deflated.
+     */
+    private final boolean deflated;
+
+    /**
+     * Constructor.
+     * @param seed Seed of the program.
+     * @param offset Offset of the program in the segment.
+     * @param stored Stored length of the program.
+     * @param original Original length of the program.
+     * @param deflated Whether the program is deflated.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Entry(
+        final long seed,
+        final long offset,
+        final int stored,
+        final int original,
+        final boolean deflated
+    ) {
+        this.seed = seed;
+        this.offset = offset;
+        this.stored = stored;
+        this.original = original;
+        this.deflated = deflated;
+    }
+
+    /**
+     * Read the entry.
+     * @param buffer Buffer positioned at the entry.
+     * @return Entry.
+     */
+    static Entry read(final ByteBuffer buffer) {
+        return new Entry(
+            buffer.getLong(),
+            buffer.getLong(),
+            buffer.getInt(),
+            buffer.getInt(),
+            buffer.get() != 0
+        );
+    }
+
+    /**
+     * Write the entry.
+     * @param buffer Buffer to write to.
+     */
+    void write(final ByteBuffer buffer) {
+        buffer.putLong(this.seed)
+            .putLong(this.offset)
+            .putInt(this.stored)
+            .putInt(this.original)
+            .put((byte) (this.deflated ? 1 : 0));
+    }
+
+    /**
+     * Seed of the program.
+     * @return Seed.
+     */
+    long seed() {
+        return this.seed;
+    }
+
+    /**
+     * Offset of the program in the segment.
+     * @return Offset.
+     */
+    long offset() {
+        return this.offset;
+    }
+
+    /**
+     * Stored length of the program.
+     * @return Length in bytes.
+     */
+    int stored() {
+        return this.stored;
+    }
+
+    /**
+     * Original length of the program.
+     * @return Length in bytes.
+     */
+    int original() {
+        return this.original;
+    }
+
+    /**
+     * Whether the program is deflated.
+     * @return True if deflated.
+     */
+    boolean deflated() {
+        return this.deflated;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.corpus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Naming of segment files of the corpus.
+ * Each segment consists of the data file 'segment-00001.dat'
+ * and the index file 'segment-00001.idx'.
+ * @since 0.2
+ */
+final class Segments {
+
+    /**
+     * Pattern of the data file name.
+     */
+    private static final Pattern DATA = Pattern.compile("segment-(\\d+)\\.dat");
+
+    /**
+     * Private constructor.
+     */
+    private Segments() {
+        // Utility class
+    }
+
+    /**
+     * Data file of the segment.
+     * @param dir Corpus directory.
+     * @param number Number of the segment.
+     * @return Path to the data file.
+     */
+    static Path data(final Path dir, final int number) {
+        return dir.resolve(String.format("segment-%05d.dat", number));
+    }
+
+    /**
+     * Index file of the segment.
+     * @param dir Corpus directory.
+     * @param number Number of the segment.
+     * @return Path to the index file.
+     */
+    static Path index(final Path dir, final int number) {
+        return dir.resolve(String.format("segment-%05d.idx", number));
+    }
+
+    /**
+     * Numbers of all the segments, in ascending order.
+     * @param dir Corpus directory.
+     * @return Numbers of the segments.
+     * @throws IOException If the directory can't be listed.
+     */
+    static List<Integer> all(final Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(file -> Segments.DATA.matcher(file.getFileName().toString()))
+                .filter(Matcher::matches)
+                .map(matcher -> Integer.parseInt(matcher.group(1)))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Number of the last segment.
+     * @param dir Corpus directory.
+     * @return Number of the last segment, or 0 if there are no segments.
+     * @throws IOException If the directory can't be listed.
+     */
+    static int last(final Path dir) throws IOException {
+        final List<Integer> all = Segments.all(dir);
+        final int res;
+        if (all.isEmpty()) {
+            res = 0;
+        } else {
+            res = all.get(all.size() - 1);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.coverage;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the grammar coverage.
+ * @since 0.2
+ */
+public final class CoverageSnapshot {
+
+    /**
+     * Default number of hot rules in the report.
+     */
+    private static final int HOT = 10;
+
+    /**
+     * Hits of grammar rules by rule names.
+     */
+    private final Map<String, Long> derived;
+
+    /**
+     * Hits of alternatives by their addresses, like 'expr/3#1'.
+     */
+    private final Map<String, Long> chosen;
+
+    /**
+     * Constructor.
+     * @param rules Hits of grammar rules by rule names.
+     * @param alternatives Hits of alternatives by their addresses.
+     */
+    CoverageSnapshot(final Map<String, Long> rules, final Map<String, Long> alternatives) {
+        this.derived = Collections.unmodifiableMap(rules);
+        this.chosen = Collections.unmodifiableMap(alternatives);
+    }
+
+    /**
+     * Hits of grammar rules.
+     * @return Hits by rule names.
+     */
+    public Map<String, Long> rules() {
+        return this.derived;
+    }
+
+    /**
+     * Hits of alternatives.
+     * @return Hits by alternative addresses, like 'expr/3#1'.
+     */
+    public Map<String, Long> alternatives() {
+        return this.chosen;
+    }
+
+    /**
+     * Number of rules derived at least once.
+     * @return Number of covered rules.
+     */
+    public int coveredRules() {
+        return CoverageSnapshot.covered(this.derived);
+    }
+
+    /**
+     * Number of alternatives chosen at least once.
+     * @return Number of covered alternatives.
+     */
+    public int coveredAlternatives() {
+        return CoverageSnapshot.covered(this.chosen);
+    }
+
+    /**
+     * Rules that were never derived.
+     * @return Names of the rules.
+     */
+    public List<String> ruleHoles() {
+        return CoverageSnapshot.holes(this.derived);
+    }
+
+    /**
+     * Alternatives that were never chosen.
+     * @return Addresses of the alternatives.
+     */
+    public List<String> alternativeHoles() {
+        return CoverageSnapshot.holes(this.chosen);
+    }
+
+    /**
+     * The most derived rules.
+     * @param limit Maximum number of rules.
+     * @return Rule names with hits, the hottest first.
+     */
+    public List<Map.Entry<String, Long>> hot(final int limit) {
+        return this.derived.entrySet().stream()
+            .filter(entry -> entry.getValue() > 0L)
+            .sorted(
+                Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey())
+            )
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Human-readable report with totals, hot rules and coverage holes.
+     * @return Report.
+     */
+    public String text() {
+        final StringBuilder res = new StringBuilder(0)
+            .append(CoverageSnapshot.total("Rules", this.coveredRules(), this.derived.size()))
+            .append(
+                CoverageSnapshot.total(
+                    "Alternatives", this.coveredAlternatives(), this.chosen.size()
+                )
+            )
+            .append("Hot rules:\n");
+        this.hot(CoverageSnapshot.HOT).forEach(
+            entry -> res.append(String.format("  %s %d\n", entry.getKey(), entry.getValue()))
+        );
+        res.append("Rule holes:\n");
+        this.ruleHoles().forEach(name -> res.append(String.format("  %s\n", name)));
+        res.append("Alternative holes:\n");
+        this.alternativeHoles().forEach(name -> res.append(String.format("  %s\n", name)));
+        return res.toString();
+    }
+
+    /**
+     * Coverage in CSV format with the 'kind,name,hits' header.
+     * @return CSV.
+     */
+    public String csv() {
+        final StringBuilder res = new StringBuilder("kind,name,hits\n");
+        this.derived.forEach(
+            (name, hits) -> res.append(
+                String.format("rule,%s,%d\n", CoverageSnapshot.escaped(name), hits)
+            )
+        );
+        this.chosen.forEach(
+            (name, hits) -> res.append(
+                String.format("alternative,%s,%d\n", CoverageSnapshot.escaped(name), hits)
+            )
+        );
+        return res.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d of %d rules and %d of %d alternatives covered",
+            this.coveredRules(),
+            this.derived.size(),
+            this.coveredAlternatives(),
+            this.chosen.size()
+        );
+    }
+
+    /**
+     * Total line of the report.
+     * @param title Title of the line.
+     * @param covered Number of covered items.
+     * @param all Number of all items.
+     * @return Line.
+     */
+    private static String total(final String title, final int covered, final int all) {
+        final double percent;
+        if (all == 0) {
+            percent = 0.0;
+        } else {
+            percent = covered * 100.0 / all;
+        }
+        return String.format("%s: %d of %d covered (%.2f%%)\n", title, covered, all, percent);
+    }
+
+    /**
+     * Number of items with hits.
+     * @param hits Hits by names.
+     * @return Number of covered items.
+     */
+    private static int covered(final Map<String, Long> hits) {
+        return (int) hits.values().stream().filter(value -> value > 0L).count();
+    }
+
+    /**
+     * Items without hits.
+     * @param hits Hits by names.
+     * @return Names of the items.
+     */
+    private static List<String> holes(final Map<String, Long> hits) {
+        return hits.entrySet().stream()
+            .filter(entry -> entry.getValue() == 0L)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Escape a CSV field.
+     * @param field Field.
+     * @return Escaped field.
+     */
+    private static String escaped(final String field) {
+        final String res;
+        if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0) {
+            res = String.format("\"%s\"", field.replace("\"", "\"\""));
+        } else {
+            res = field;
+        }
+        return res;
+    }
+}
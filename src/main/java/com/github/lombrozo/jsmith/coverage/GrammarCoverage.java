@@ -0,0 +1,338 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.coverage;
+
+import com.github.lombrozo.jsmith.antlr.Probe;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Coverage of grammar rules and alternatives.
+ * Counts how many times each rule was derived and each alternative was chosen.
+ * Counters are striped per thread and merged only when they are read,
+ * so many generating threads can share the same coverage without contention.
+ * Rules and choice points of the grammar are declared before the generation, so the rules
+ * and the alternatives that were never derived are visible as holes.
+ * Alternatives are keyed by the stable address of their choice point and their index,
+ * like 'expr/3#1'.
+ * Only the kept work is covered: hits inside a trial are buffered and counted only
+ * if the trial succeeds, so rules and alternatives of rejected attempts are dropped.
+ * Trials are tracked per thread, so subtrees generated in parallel by
+ * {@code Params.concurrently()} are counted even if the trial around them is rejected.
+ * @since 0.2
+ */
+public final class GrammarCoverage implements Probe, GrammarCoverageMBean {
+
+    /**
+     * Hits of grammar rules.
+     */
+    private final Map<String, LongAdder> rules;
+
+    /**
+     * Hits of alternatives by the choice point address.
+     */
+    private final Map<String, LongAdder[]> points;
+
+    /**
+     * Open trials of the current thread, the innermost first.
+     */
+    private final ThreadLocal<Deque<Pending>> trials;
+
+    /**
+     * Constructor.
+     */
+    public GrammarCoverage() {
+        this.rules = new ConcurrentHashMap<>(0);
+        this.points = new ConcurrentHashMap<>(0);
+        this.trials = ThreadLocal.withInitial(ArrayDeque::new);
+    }
+
+    @Override
+    public void grammar(final Set<String> names, final Map<String, Integer> choices) {
+        names.forEach(name -> this.rules.computeIfAbsent(name, key -> new LongAdder()));
+        choices.forEach(
+            (point, options) -> this.points.computeIfAbsent(
+                point, key -> GrammarCoverage.adders(options)
+            )
+        );
+    }
+
+    @Override
+    public void rule(final String name) {
+        final Deque<Pending> open = this.trials.get();
+        if (open.isEmpty()) {
+            this.derived(name);
+        } else {
+            open.peek().derived.add(name);
+        }
+    }
+
+    @Override
+    public void leave(final String name) {
+        // Only entered rules are counted
+    }
+
+    @Override
+    public Probe.Trial trial(final String kind) {
+        final Deque<Pending> open = this.trials.get();
+        final Pending res = new Pending(open);
+        open.push(res);
+        return res;
+    }
+
+    @Override
+    public void alternative(final String point, final int index, final int options) {
+        final Deque<Pending> open = this.trials.get();
+        if (open.isEmpty()) {
+            this.chosen(point, index, options);
+        } else {
+            open.peek().chosen.add(new Pick(point, index, options));
+        }
+    }
+
+    /**
+     * Merge all the counters into an immutable snapshot.
+     * @return Snapshot of the coverage.
+     */
+    public CoverageSnapshot snapshot() {
+        final Map<String, Long> derived = new TreeMap<>();
+        this.rules.forEach((name, hits) -> derived.put(name, hits.sum()));
+        final Map<String, Long> chosen = new TreeMap<>();
+        this.points.forEach(
+            (point, adders) -> {
+                for (int idx = 0; idx < adders.length; ++idx) {
+                    chosen.put(String.format("%s#%d", point, idx), adders[idx].sum());
+                }
+            }
+        );
+        return new CoverageSnapshot(derived, chosen);
+    }
+
+    /**
+     * Register the coverage in the platform MBean server.
+     * @param name Name of the coverage, like the name of the campaign.
+     * @return Object name of the registered MBean.
+     */
+    public ObjectName register(final String name) {
+        try {
+            final ObjectName object = new ObjectName(
+                String.format(
+                    "com.github.lombrozo.jsmith:type=GrammarCoverage,name=%s",
+                    ObjectName.quote(name)
+                )
+            );
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, object);
+            return object;
+        } catch (final JMException exception) {
+            throw new IllegalStateException(
+                String.format("Can't register grammar coverage '%s'", name),
+                exception
+            );
+        }
+    }
+
+    @Override
+    public int getRules() {
+        return this.rules.size();
+    }
+
+    @Override
+    public int getCoveredRules() {
+        return this.snapshot().coveredRules();
+    }
+
+    @Override
+    public int getAlternatives() {
+        return this.snapshot().alternatives().size();
+    }
+
+    @Override
+    public int getCoveredAlternatives() {
+        return this.snapshot().coveredAlternatives();
+    }
+
+    @Override
+    public String getReport() {
+        return this.snapshot().text();
+    }
+
+    @Override
+    public String getCsv() {
+        return this.snapshot().csv();
+    }
+
+    @Override
+    public String toString() {
+        return this.snapshot().toString();
+    }
+
+    /**
+     * Count the derived rule.
+     * @param name Rule name.
+     */
+    private void derived(final String name) {
+        this.rules.computeIfAbsent(name, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Count the chosen alternative.
+     * @param point Stable address of the choice point.
+     * @param index Index of the chosen alternative.
+     * @param options Number of alternatives.
+     */
+    private void chosen(final String point, final int index, final int options) {
+        final LongAdder[] adders = this.points.computeIfAbsent(
+            point, key -> GrammarCoverage.adders(options)
+        );
+        if (index >= 0 && index < adders.length) {
+            adders[index].increment();
+        }
+    }
+
+    /**
+     * Counters of alternatives.
+     * @param options Number of alternatives.
+     * @return Counters.
+     */
+    private static LongAdder[] adders(final int options) {
+        final LongAdder[] res = new LongAdder[options];
+        for (int idx = 0; idx < options; ++idx) {
+            res[idx] = new LongAdder();
+        }
+        return res;
+    }
+
+    /**
+     * Chosen alternative that isn't counted yet.
+     * @since 0.2
+     */
+    private static final class Pick {
+
+        /**
+         * Stable address of the choice point.
+         */
+        private final String point;
+
+        /**
+         * Index of the chosen alternative.
+         */
+        private final int index;
+
+        /**
+         * Number of alternatives.
+         */
+        private final int options;
+
+        /**
+         * Constructor.
+         * @param point Stable address of the choice point.
+         * @param index Index of the chosen alternative.
+         * @param options Number of alternatives.
+         */
+        Pick(final String point, final int index, final int options) {
+            this.point = point;
+            this.index = index;
+            this.options = options;
+        }
+    }
+
+    /**
+     * Open trial with the hits that aren't counted yet.
+     * @since 0.2
+     */
+    private final class Pending implements Probe.Trial {
+
+        /**
+         * Open trials of the thread that started the trial.
+         */
+        private final Deque<Pending> open;
+
+        /**
+         * Rules derived inside the trial.
+         */
+        private final List<String> derived;
+
+        /**
+         * Alternatives chosen inside the trial.
+         */
+        private final List<Pick> chosen;
+
+        /**
+         * Constructor.
+         * @param open Open trials of the current thread.
+         */
+        Pending(final Deque<Pending> open) {
+            this.open = open;
+            this.derived = new ArrayList<>(0);
+            this.chosen = new ArrayList<>(0);
+        }
+
+        @Override
+        public void success() {
+            if (this.close()) {
+                if (this.open.isEmpty()) {
+                    this.derived.forEach(GrammarCoverage.this::derived);
+                    this.chosen.forEach(
+                        pick -> GrammarCoverage.this.chosen(pick.point, pick.index, pick.options)
+                    );
+                } else {
+                    final Pending outer = this.open.peek();
+                    outer.derived.addAll(this.derived);
+                    outer.chosen.addAll(this.chosen);
+                }
+            }
+        }
+
+        @Override
+        public void failure(final String cause) {
+            this.close();
+        }
+
+        /**
+         * Remove the trial from the open trials.
+         * Nested trials that weren't reported are closed together with this one.
+         * @return True if the trial was open.
+         */
+        private boolean close() {
+            final boolean res = this.open.contains(this);
+            if (res) {
+                Pending top = this.open.pop();
+                while (top != this) {
+                    top = this.open.pop();
+                }
+            }
+            return res;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.coverage;
+
+/**
+ * Management interface of the grammar coverage.
+ * @since 0.2
+ */
+public interface GrammarCoverageMBean {
+
+    /**
+     * Number of known grammar rules.
+     * @return Number of rules.
+     */
+    int getRules();
+
+    /**
+     * Number of grammar rules derived at least once.
+     * @return Number of covered rules.
+     */
+    int getCoveredRules();
+
+    /**
+     * Number of known alternatives at all choice points.
+     * @return Number of alternatives.
+     */
+    int getAlternatives();
+
+    /**
+     * Number of alternatives chosen at least once.
+     * @return Number of covered alternatives.
+     */
+    int getCoveredAlternatives();
+
+    /**
+     * Human-readable coverage report.
+     * @return Report.
+     */
+    String getReport();
+
+    /**
+     * Coverage in CSV format.
+     * @return CSV.
+     */
+    String getCsv();
+}
@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.dedup;
+
+import com.github.lombrozo.jsmith.antlr.view.Lexemes;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Deduplication stage of generated programs.
+ * Small grammars often produce the same program again and again, so it's worth
+ * dropping duplicates right after generation, before formatting, verification and
+ * compilation. Programs are compared by their 128-bit fingerprints, computed while
+ * tokens are written; the set of seen fingerprints is either exact, for small runs,
+ * or a Bloom filter with a fixed memory budget.
+ * The stage is thread-safe.
+ * @since 0.2
+ */
+public final class Dedup {
+
+    /**
+     * Default expected number of programs.
+     */
+    private static final long EXPECTED = 1_000_000L;
+
+    /**
+     * Default memory budget, 16 MiB.
+     */
+    private static final long BUDGET = 16L * 1024L * 1024L;
+
+    /**
+     * Seen fingerprints.
+     */
+    private final Seen seen;
+
+    /**
+     * Number of checked programs.
+     */
+    private final AtomicLong total;
+
+    /**
+     * Number of dropped duplicates.
+     */
+    private final AtomicLong duplicates;
+
+    /**
+     * Constructor.
+     */
+    public Dedup() {
+        this(Dedup.EXPECTED, Dedup.BUDGET);
+    }
+
+    /**
+     * Constructor.
+     * If the exact set of the expected number of programs fits into the budget,
+     * it's used, otherwise a Bloom filter of the budget size is used.
+     * @param expected Expected number of programs.
+     * @param budget Memory budget, in bytes.
+     */
+    public Dedup(final long expected, final long budget) {
+        this(Dedup.seen(expected, budget));
+    }
+
+    /**
+     * Constructor.
+     * @param seen Set of seen fingerprints.
+     */
+    public Dedup(final Seen seen) {
+        this.seen = seen;
+        this.total = new AtomicLong(0L);
+        this.duplicates = new AtomicLong(0L);
+    }
+
+    /**
+     * Write the program text if the program wasn't seen before.
+     * The text and the fingerprint are produced in a single pass over the tokens.
+     * @param program Program tokens.
+     * @return Program text, or empty if the program is a duplicate.
+     */
+    public Optional<String> unique(final Lexemes program) {
+        final StringBuilder text = new StringBuilder(0);
+        final Fingerprint fingerprint = new Fingerprint(text);
+        try {
+            program.writeTo(fingerprint);
+        } catch (final IOException exception) {
+            throw new IllegalStateException("Can't write tokens to memory", exception);
+        }
+        final Optional<String> res;
+        if (this.unique(fingerprint)) {
+            res = Optional.of(text.toString());
+        } else {
+            res = Optional.empty();
+        }
+        return res;
+    }
+
+    /**
+     * Check whether the program wasn't seen before.
+     * @param program Program text.
+     * @return True if the program is unique.
+     */
+    public boolean unique(final CharSequence program) {
+        final Fingerprint fingerprint = new Fingerprint();
+        try {
+            fingerprint.append(program);
+        } catch (final IOException exception) {
+            throw new IllegalStateException("Can't fingerprint the program", exception);
+        }
+        return this.unique(fingerprint);
+    }
+
+    /**
+     * Check whether the fingerprint wasn't seen before.
+     * @param fingerprint Fingerprint of the program.
+     * @return True if the program is unique.
+     */
+    public boolean unique(final Fingerprint fingerprint) {
+        this.total.incrementAndGet();
+        final boolean res = this.seen.add(fingerprint.high(), fingerprint.low());
+        if (!res) {
+            this.duplicates.incrementAndGet();
+        }
+        return res;
+    }
+
+    /**
+     * Texts of unique programs.
+     * @param programs Program tokens.
+     * @return Texts of programs that weren't seen before, in the same order.
+     */
+    public Stream<String> distinct(final Stream<Lexemes> programs) {
+        return programs.map(this::unique).flatMap(Optional::stream);
+    }
+
+    /**
+     * Number of checked programs.
+     * @return Number of programs.
+     */
+    public long total() {
+        return this.total.get();
+    }
+
+    /**
+     * Number of dropped duplicates.
+     * @return Number of duplicates.
+     */
+    public long duplicates() {
+        return this.duplicates.get();
+    }
+
+    /**
+     * Share of duplicates among checked programs.
+     * @return Duplicate rate, from 0 to 1.
+     */
+    public double rate() {
+        final long all = this.total.get();
+        final double res;
+        if (all == 0L) {
+            res = 0.0;
+        } else {
+            res = (double) this.duplicates.get() / all;
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d duplicates of %d programs (%.2f%%)",
+            this.duplicates(),
+            this.total(),
+            this.rate() * 100.0
+        );
+    }
+
+    /**
+     * Set of seen fingerprints that fits into the budget.
+     * @param expected Expected number of programs.
+     * @param budget Memory budget, in bytes.
+     * @return Exact set for small runs, Bloom filter otherwise.
+     */
+    private static Seen seen(final long expected, final long budget) {
+        final Seen res;
+        if (expected <= budget / Seen.Exact.COST) {
+            res = new Seen.Exact();
+        } else {
+            res = new Seen.Bloom(budget, expected);
+        }
+        return res;
+    }
+}
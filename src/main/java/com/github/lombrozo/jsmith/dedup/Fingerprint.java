@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.dedup;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 128-bit fingerprint of a program.
+ * The fingerprint is a character sink: it's computed while tokens are written,
+ * and, optionally, passes the characters further, so a program text and its
+ * fingerprint are produced in a single pass over the tokens.
+ * Two independent 64-bit lanes are updated per character and mixed at the end.
+ * The fingerprint isn't thread-safe.
+ * @since 0.2
+ */
+public final class Fingerprint implements Appendable {
+
+    /**
+     * FNV-1a 64-bit prime.
+     */
+    private static final long PRIME = 0x100000001b3L;
+
+    /**
+     * Golden ratio multiplier.
+     */
+    private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Second lane multiplier.
+     */
+    private static final long MIX = 0xc2b2ae3d27d4eb4fL;
+
+    /**
+     * Sink the characters are passed to.
+     */
+    private final Appendable origin;
+
+    /**
+     * First lane.
+     */
+    private long first;
+
+    /**
+     * Second lane.
+     */
+    private long second;
+
+    /**
+     * Number of consumed characters.
+     */
+    private long length;
+
+    /**
+     * Constructor.
+     * Characters are only hashed.
+     */
+    public Fingerprint() {
+        this(Writer.nullWriter());
+    }
+
+    /**
+     * Constructor.
+     * @param origin Sink the characters are passed to.
+     */
+    public Fingerprint(final Appendable origin) {
+        this.origin = origin;
+        this.first = 0xcbf29ce484222325L;
+        this.second = Fingerprint.GOLDEN;
+    }
+
+    @Override
+    public Fingerprint append(final CharSequence text) throws IOException {
+        return this.append(text, 0, text.length());
+    }
+
+    @Override
+    public Fingerprint append(
+        final CharSequence text, final int start, final int end
+    ) throws IOException {
+        for (int idx = start; idx < end; ++idx) {
+            this.hash(text.charAt(idx));
+        }
+        this.origin.append(text, start, end);
+        return this;
+    }
+
+    @Override
+    public Fingerprint append(final char character) throws IOException {
+        this.hash(character);
+        this.origin.append(character);
+        return this;
+    }
+
+    /**
+     * Upper 64 bits of the fingerprint.
+     * @return Upper bits.
+     */
+    public long high() {
+        return Fingerprint.avalanche(this.first ^ this.length);
+    }
+
+    /**
+     * Lower 64 bits of the fingerprint.
+     * @return Lower bits.
+     */
+    public long low() {
+        return Fingerprint.avalanche(this.second + this.length * Fingerprint.GOLDEN);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", this.high(), this.low());
+    }
+
+    /**
+     * Update both lanes with the character.
+     * @param character Character.
+     */
+    private void hash(final char character) {
+        this.first = (this.first ^ character) * Fingerprint.PRIME;
+        this.second = Long.rotateLeft(this.second ^ character * Fingerprint.MIX, 31)
+            * Fingerprint.GOLDEN;
+        this.length += 1;
+    }
+
+    /**
+     * Final mix of a lane, so every input bit affects every output bit.
+     * @param lane Lane.
+     * @return Mixed lane.
+     */
+    private static long avalanche(final long lane) {
+        long res = lane;
+        res ^= res >>> 33;
+        res *= 0xff51afd7ed558ccdL;
+        res ^= res >>> 33;
+        res *= 0xc4ceb9fe1a85ec53L;
+        res ^= res >>> 33;
+        return res;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.dedup;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Set of already seen fingerprints.
+ * All implementations are thread-safe.
+ * @since 0.2
+ */
+public interface Seen {
+
+    /**
+     * Remember the fingerprint.
+     * @param high Upper bits of the fingerprint.
+     * @param low Lower bits of the fingerprint.
+     * @return True if the fingerprint wasn't seen before.
+     */
+    boolean add(long high, long low);
+
+    /**
+     * Exact set of fingerprints.
+     * It never drops a unique program, but its memory grows with the number of programs,
+     * so it suits small runs.
+     * @since 0.2
+     */
+    final class Exact implements Seen {
+
+        /**
+         * Approximate memory cost of a single fingerprint, in bytes.
+         */
+        static final long COST = 64L;
+
+        /**
+         * Seen fingerprints.
+         */
+        private final Set<Key> keys;
+
+        /**
+         * Constructor.
+         */
+        public Exact() {
+            this.keys = ConcurrentHashMap.newKeySet();
+        }
+
+        @Override
+        public boolean add(final long high, final long low) {
+            return this.keys.add(new Key(high, low));
+        }
+
+        /**
+         * Fingerprint as a set element.
+         * @since 0.2
+         */
+        @EqualsAndHashCode
+        private static final class Key {
+
+            /**
+             * Upper bits.
+             */
+            private final long high;
+
+            /**
+             * Lower bits.
+             */
+            private final long low;
+
+            /**
+             * Constructor.
+             * @param high Upper bits.
+             * @param low Lower bits.
+             */
+            private Key(final long high, final long low) {
+                this.high = high;
+                this.low = low;
+            }
+        }
+    }
+
+    /**
+     * Bloom filter of fingerprints.
+     * Its memory is fixed, but it might take a unique program for a duplicate
+     * with a small probability, which grows as the filter fills up.
+     * Bits are set with atomic operations, so the filter is lock-free.
+     * @since 0.2
+     */
+    final class Bloom implements Seen {
+
+        /**
+         * Bits of the filter.
+         */
+        private final AtomicLongArray bits;
+
+        /**
+         * Mask of a bit index, the number of bits is a power of two.
+         */
+        private final long mask;
+
+        /**
+         * Number of bits set per fingerprint.
+         */
+        private final int hashes;
+
+        /**
+         * Constructor.
+         * @param budget Memory budget, in bytes.
+         * @param expected Expected number of programs.
+         */
+        public Bloom(final long budget, final long expected) {
+            this(Bloom.words(budget), Bloom.hashes(Bloom.words(budget), expected));
+        }
+
+        /**
+         * Constructor.
+         * @param words Number of 64-bit words, a power of two.
+         * @param hashes Number of bits set per fingerprint.
+         */
+        private Bloom(final int words, final int hashes) {
+            this.bits = new AtomicLongArray(words);
+            this.mask = (long) words * Long.SIZE - 1L;
+            this.hashes = hashes;
+        }
+
+        @Override
+        public boolean add(final long high, final long low) {
+            boolean fresh = false;
+            for (int idx = 0; idx < this.hashes; ++idx) {
+                final long bit = (high + idx * low) & this.mask;
+                final long flag = 1L << (bit & (Long.SIZE - 1));
+                final long before = this.bits.getAndAccumulate(
+                    (int) (bit >>> 6), flag, (prev, next) -> prev | next
+                );
+                fresh |= (before & flag) == 0L;
+            }
+            return fresh;
+        }
+
+        /**
+         * Number of 64-bit words that fit into the budget.
+         * @param budget Memory budget, in bytes.
+         * @return The largest power of two that fits, at least one.
+         */
+        private static int words(final long budget) {
+            final long fit = Math.max(1L, Math.min(budget / Long.BYTES, 1L << 30));
+            return (int) Long.highestOneBit(fit);
+        }
+
+        /**
+         * Optimal number of hashes: bits per program times ln 2.
+         * @param words Number of 64-bit words.
+         * @param expected Expected number of programs.
+         * @return Number of hashes, from 1 to 16.
+         */
+        private static int hashes(final int words, final long expected) {
+            final double per = (double) words * Long.SIZE / Math.max(1L, expected);
+            return (int) Math.max(1L, Math.min(16L, Math.round(per * Math.log(2.0))));
+        }
+    }
+}
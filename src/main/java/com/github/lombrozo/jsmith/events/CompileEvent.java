@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Generated sources are compiled in memory.
+ * @since 0.2
+ */
+@Name("com.github.lombrozo.jsmith.Compilation")
+@Label("Compilation")
+@Category({"jsmith", "Guard"})
+@Description("Generated sources are compiled in memory")
+@StackTrace(false)
+public final class CompileEvent extends Event {
+
+    /**
+     * Number of compilation units.
+     */
+    @Label("Units")
+    private final int units;
+
+    /**
+     * Did the compilation succeed?
+     */
+    @Label("Success")
+    private boolean success;
+
+    /**
+     * Constructor.
+     * @param units Number of compilation units.
+     */
+    public CompileEvent(final int units) {
+        super();
+        this.units = units;
+    }
+
+    /**
+     * Set the compilation result.
+     * @param compiled Did the compilation succeed?
+     */
+    public void success(final boolean compiled) {
+        this.success = compiled;
+    }
+}
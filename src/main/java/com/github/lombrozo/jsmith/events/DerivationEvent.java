@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A program tree is derived from the start rule.
+ * @since 0.2
+ */
+@Name("com.github.lombrozo.jsmith.Derivation")
+@Label("Derivation")
+@Category({"jsmith", "Generation"})
+@Description("A program tree is derived from the start rule")
+@StackTrace(false)
+public final class DerivationEvent extends Event {
+
+    /**
+     * Start rule.
+     */
+    @Label("Rule")
+    private final String rule;
+
+    /**
+     * Number of derived rule references.
+     */
+    @Label("Nodes")
+    private int nodes;
+
+    /**
+     * Depth of the derived tree.
+     */
+    @Label("Depth")
+    private int depth;
+
+    /**
+     * Constructor.
+     * @param rule Start rule.
+     */
+    public DerivationEvent(final String rule) {
+        super();
+        this.rule = rule;
+    }
+
+    /**
+     * Set the size of the derived tree.
+     * @param count Number of derived rule references.
+     * @param levels Depth of the derived tree.
+     */
+    public void size(final int count, final int levels) {
+        this.nodes = count;
+        this.depth = levels;
+    }
+}
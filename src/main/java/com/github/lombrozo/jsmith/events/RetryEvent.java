@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A rule failed to generate output and is going to be attempted again.
+ * @since 0.2
+ */
+@Name("com.github.lombrozo.jsmith.Retry")
+@Label("Retry")
+@Category({"jsmith", "Generation"})
+@Description("A rule failed to generate output and is attempted again")
+@StackTrace(false)
+public final class RetryEvent extends Event {
+
+    /**
+     * Rule that makes attempts.
+     */
+    @Label("Rule")
+    private final String rule;
+
+    /**
+     * Number of the failed attempt, starting from one.
+     */
+    @Label("Attempt")
+    private final int attempt;
+
+    /**
+     * Cause of the failure.
+     */
+    @Label("Cause")
+    private final String cause;
+
+    /**
+     * Constructor.
+     * @param rule Rule that makes attempts.
+     * @param attempt Number of the failed attempt, starting from one.
+     * @param cause Cause of the failure.
+     */
+    public RetryEvent(final String rule, final int attempt, final String cause) {
+        super();
+        this.rule = rule;
+        this.attempt = attempt;
+        this.cause = cause;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Generated program is parsed by the original grammar to verify its syntax.
+ * @since 0.2
+ */
+@Name("com.github.lombrozo.jsmith.Verification")
+@Label("Syntax Verification")
+@Category({"jsmith", "Guard"})
+@Description("Generated program is parsed by the original grammar")
+@StackTrace(false)
+public final class VerifyEvent extends Event {
+
+    /**
+     * Top rule of the grammar.
+     */
+    @Label("Rule")
+    private final String rule;
+
+    /**
+     * Is the syntax correct?
+     */
+    @Label("Valid")
+    private boolean valid;
+
+    /**
+     * Constructor.
+     * @param rule Top rule of the grammar.
+     */
+    public VerifyEvent(final String rule) {
+        super();
+        this.rule = rule;
+    }
+
+    /**
+     * Set the verification result.
+     * @param correct Is the syntax correct?
+     */
+    public void valid(final boolean correct) {
+        this.valid = correct;
+    }
+}
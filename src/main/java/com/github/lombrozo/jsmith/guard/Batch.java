@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Batch of compiled programs that share one class loader.
+ * When the batch is closed, it drops its loader, so the loader and all its
+ * classes might be collected as soon as nobody else refers to them.
+ * Don't keep references to the loaded classes after closing the batch,
+ * otherwise they stay in metaspace.
+ * Programs usually have the same class names, like 'Main', while a class loader
+ * can't define the same class twice. So when a program reuses a class name
+ * that is already taken, the batch switches to a new loader, and the classes
+ * loaded before stay in the previous one.
+ * @since 0.2
+ */
+public final class Batch implements AutoCloseable {
+
+    /**
+     * Class loader of the batch, or null if the batch is closed.
+     */
+    private final AtomicReference<BatchLoader> loader;
+
+    /**
+     * Source of new class loaders.
+     */
+    private final Supplier<BatchLoader> loaders;
+
+    /**
+     * Previous class loaders of the batch, released together with the batch.
+     */
+    private final Queue<BatchLoader> previous;
+
+    /**
+     * Compiler.
+     */
+    private final InMemoryCompiler compiler;
+
+    /**
+     * Constructor.
+     * @param loaders Source of new class loaders.
+     * @param compiler Compiler.
+     */
+    Batch(final Supplier<BatchLoader> loaders, final InMemoryCompiler compiler) {
+        this.loader = new AtomicReference<>(loaders.get());
+        this.loaders = loaders;
+        this.previous = new ConcurrentLinkedQueue<>();
+        this.compiler = compiler;
+    }
+
+    /**
+     * Compile the program and load its class.
+     * @param src Source code of the program.
+     * @return Loaded class.
+     */
+    public Class<?> load(final String src) {
+        final InMemoryCompiler.CompilationUnit unit = new InMemoryCompiler.CompilationUnit(src);
+        final Compilation compilation = this.compiler.check(unit);
+        if (!compilation.accepted()) {
+            throw new IllegalArgumentException(
+                String.format("Program can't be compiled: %s", compilation.errors())
+            );
+        }
+        final BatchLoader current = this.accept(compilation.bytecode());
+        try {
+            return current.loadClass(unit.fullName());
+        } catch (final ClassNotFoundException exception) {
+            throw new IllegalStateException(
+                String.format("Class '%s' isn't found among compiled ones", unit.fullName()),
+                exception
+            );
+        }
+    }
+
+    @Override
+    public void close() {
+        final BatchLoader current = this.loader.getAndSet(null);
+        if (current != null) {
+            current.release();
+        }
+        BatchLoader old = this.previous.poll();
+        while (old != null) {
+            old.release();
+            old = this.previous.poll();
+        }
+    }
+
+    /**
+     * Add the bytecode to the current loader, or to a new one if the class names are taken.
+     * @param bytecode Bytecode by binary names of the classes.
+     * @return Loader that accepted the bytecode.
+     */
+    private BatchLoader accept(final Map<String, byte[]> bytecode) {
+        BatchLoader current = this.loader.get();
+        while (current != null && !current.add(bytecode)) {
+            final BatchLoader next = this.loaders.get();
+            if (this.loader.compareAndSet(current, next)) {
+                this.previous.add(current);
+            } else {
+                next.release();
+            }
+            current = this.loader.get();
+        }
+        if (current == null) {
+            throw new IllegalStateException("The batch is already closed");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class loader of a single batch of programs.
+ * Unlike the loader of {@link MemoryJavaFileManager}, it accepts bytecode of new
+ * programs until it is released. Bytecode is dropped as soon as the class is
+ * defined, so the loader keeps only classes that were actually loaded.
+ * @since 0.2
+ */
+final class BatchLoader extends ClassLoader {
+
+    /**
+     * Bytecode of not yet defined classes by their binary names.
+     */
+    private final Map<String, byte[]> pending;
+
+    /**
+     * Number of classes defined by this loader.
+     */
+    private final AtomicLong defined;
+
+    /**
+     * Number of classes defined by all loaders.
+     */
+    private final AtomicLong total;
+
+    /**
+     * Whether the loader is released.
+     */
+    private final AtomicBoolean released;
+
+    /**
+     * Constructor.
+     * @param defined Number of classes defined by this loader.
+     * @param total Number of classes defined by all loaders.
+     */
+    BatchLoader(final AtomicLong defined, final AtomicLong total) {
+        this.pending = new ConcurrentHashMap<>(0);
+        this.defined = defined;
+        this.total = total;
+        this.released = new AtomicBoolean(false);
+    }
+
+    /**
+     * Add bytecode of new classes.
+     * A loader can't define two classes with the same name, so the bytecode
+     * is rejected as a whole if any of its classes is already known to the loader.
+     * @param bytecode Bytecode by binary names of the classes.
+     * @return True if the bytecode is added, false if some class names are already taken.
+     */
+    synchronized boolean add(final Map<String, byte[]> bytecode) {
+        if (this.released.get()) {
+            throw new IllegalStateException("The batch of classes is already released");
+        }
+        boolean fresh = true;
+        for (final String name : bytecode.keySet()) {
+            if (this.pending.containsKey(name) || this.findLoadedClass(name) != null) {
+                fresh = false;
+                break;
+            }
+        }
+        if (fresh) {
+            this.pending.putAll(bytecode);
+        }
+        return fresh;
+    }
+
+    /**
+     * Release the loader.
+     * All not yet defined classes are dropped and no new classes are accepted.
+     */
+    void release() {
+        this.released.set(true);
+        this.pending.clear();
+    }
+
+    @Override
+    protected Class<?> findClass(final String name) throws ClassNotFoundException {
+        final byte[] bytes = this.pending.remove(name);
+        if (bytes == null) {
+            throw new ClassNotFoundException(name);
+        }
+        final Class<?> res = this.defineClass(name, bytes, 0, bytes.length);
+        this.defined.incrementAndGet();
+        this.total.incrementAndGet();
+        return res;
+    }
+}
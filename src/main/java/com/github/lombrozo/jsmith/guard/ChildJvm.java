@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Long-lived child JVM that executes compiled programs.
+ * It is started by {@link JvmPool} and reads programs from the standard input:
+ * the bytecode of all classes, the main class and the timeout. Each program
+ * is loaded by its own class loader and runs in a separate thread, while its
+ * standard output and error are captured. The result is written back to the
+ * standard output of the process.
+ * If the program doesn't finish in time, the JVM reports the timeout and exits,
+ * since there is no safe way to stop the thread.
+ * @since 0.2
+ */
+public final class ChildJvm {
+
+    /**
+     * Requests from the parent.
+     */
+    private final DataInputStream requests;
+
+    /**
+     * Responses to the parent.
+     */
+    private final DataOutputStream responses;
+
+    /**
+     * Constructor.
+     * @param requests Requests from the parent.
+     * @param responses Responses to the parent.
+     */
+    ChildJvm(final DataInputStream requests, final DataOutputStream responses) {
+        this.requests = requests;
+        this.responses = responses;
+    }
+
+    /**
+     * Entry point of the child JVM.
+     * @param args Command line arguments, ignored.
+     * @throws IOException If the pipe to the parent is broken.
+     */
+    public static void main(final String... args) throws IOException {
+        new ChildJvm(
+            new DataInputStream(new BufferedInputStream(new FileInputStream(FileDescriptor.in))),
+            new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)))
+        ).serve();
+    }
+
+    /**
+     * Serve programs until the parent closes the pipe.
+     * Before the first program, the child runs an empty one through the same
+     * path to load and link everything the execution needs, so the timeout of
+     * the first real program doesn't pay for the warm-up of a fresh JVM.
+     * @throws IOException If the pipe to the parent is broken.
+     */
+    void serve() throws IOException {
+        final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        final PrintStream capture = new PrintStream(captured, true, StandardCharsets.UTF_8);
+        System.setOut(capture);
+        System.setErr(capture);
+        ChildJvm.execute(Collections.emptyMap(), ChildJvm.Idle.class.getName(), 0L);
+        while (true) {
+            final int count;
+            try {
+                count = this.requests.readInt();
+            } catch (final EOFException exception) {
+                break;
+            }
+            final Map<String, byte[]> classes = new HashMap<>(count);
+            for (int idx = 0; idx < count; ++idx) {
+                final String name = this.requests.readUTF();
+                final byte[] bytes = new byte[this.requests.readInt()];
+                this.requests.readFully(bytes);
+                classes.put(name, bytes);
+            }
+            final String main = this.requests.readUTF();
+            final long timeout = this.requests.readLong();
+            captured.reset();
+            final String status = ChildJvm.execute(classes, main, timeout);
+            capture.flush();
+            final byte[] output = captured.toByteArray();
+            this.responses.writeUTF(status);
+            this.responses.writeInt(output.length);
+            this.responses.write(output);
+            this.responses.flush();
+            if (Execution.TIMEOUT.equals(status)) {
+                Runtime.getRuntime().halt(0);
+            }
+        }
+    }
+
+    /**
+     * Execute the program.
+     * @param classes Bytecode by binary names of the classes.
+     * @param main Name of the class with the 'main' method.
+     * @param timeout Timeout in milliseconds.
+     * @return Execution status.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static String execute(
+        final Map<String, byte[]> classes,
+        final String main,
+        final long timeout
+    ) {
+        final AtomicReference<String> status = new AtomicReference<>(Execution.FAILED);
+        final Thread thread = new Thread(
+            () -> {
+                try {
+                    final Method method = MemoryJavaFileManager.loader(classes)
+                        .loadClass(main)
+                        .getMethod("main", String[].class);
+                    method.invoke(null, (Object) new String[0]);
+                    status.set(Execution.FINISHED);
+                } catch (final InvocationTargetException exception) {
+                    System.out.println(exception.getCause());
+                    status.set(Execution.FAILED);
+                // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final ReflectiveOperationException | RuntimeException | LinkageError exception) {
+                    System.out.println(exception);
+                    status.set(Execution.FAILED);
+                }
+            },
+            "jsmith-program"
+        );
+        thread.setDaemon(true);
+        thread.start();
+        try {
+            thread.join(timeout);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        final String res;
+        if (thread.isAlive()) {
+            res = Execution.TIMEOUT;
+        } else {
+            res = status.get();
+        }
+        return res;
+    }
+
+    /**
+     * Empty program to warm up the child JVM.
+     * @since 0.2
+     */
+    public static final class Idle {
+
+        /**
+         * Private constructor.
+         */
+        private Idle() {
+            // Entry point only
+        }
+
+        /**
+         * Entry point of the empty program.
+         * @param args Command line arguments, ignored.
+         */
+        public static void main(final String... args) {
+            // Nothing to do
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IBinaryField;
+import org.eclipse.jdt.internal.compiler.env.IBinaryMethod;
+
+/**
+ * Result of a single compilation.
+ * It is used in {@link Differential} to compare compilers with each other.
+ * @since 0.2
+ */
+final class Compilation {
+
+    /**
+     * Line and kind of an error, like '3: syntax'.
+     */
+    private static final Pattern FAULT = Pattern.compile("^(\\d+: \\w+) error:");
+
+    /**
+     * Compiler name.
+     */
+    private final String compiler;
+
+    /**
+     * Whether the source code was accepted.
+     */
+    private final boolean accepted;
+
+    /**
+     * Compilation errors.
+     */
+    private final List<String> errors;
+
+    /**
+     * Bytecode by binary names of the classes.
+     */
+    private final Map<String, byte[]> bytecode;
+
+    /**
+     * Constructor.
+     * @param compiler Compiler name.
+     * @param accepted Whether the source code was accepted.
+     * @param errors Compilation errors.
+     * @param bytecode Bytecode by binary names of the classes.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Compilation(
+        final String compiler,
+        final boolean accepted,
+        final List<String> errors,
+        final Map<String, byte[]> bytecode
+    ) {
+        this.compiler = compiler;
+        this.accepted = accepted;
+        this.errors = Collections.unmodifiableList(errors);
+        this.bytecode = Collections.unmodifiableMap(bytecode);
+    }
+
+    /**
+     * Compiler name.
+     * @return Compiler name.
+     */
+    String compiler() {
+        return this.compiler;
+    }
+
+    /**
+     * Whether the source code was accepted.
+     * @return True if there were no compilation errors.
+     */
+    boolean accepted() {
+        return this.accepted;
+    }
+
+    /**
+     * Compilation errors.
+     * @return Errors with line numbers.
+     */
+    List<String> errors() {
+        return this.errors;
+    }
+
+    /**
+     * Lines and kinds of the errors, without messages.
+     * Messages of different compilers never match, so only the lines
+     * and the kinds of the errors are comparable.
+     * @return Faults, like '3: syntax'.
+     */
+    SortedSet<String> faults() {
+        final SortedSet<String> res = new TreeSet<>();
+        for (final String error : this.errors) {
+            final Matcher matcher = Compilation.FAULT.matcher(error);
+            if (matcher.find()) {
+                res.add(matcher.group(1));
+            } else {
+                res.add(error);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Faults of the given kind.
+     * @param kind Kind of the errors, like 'syntax'.
+     * @return Faults of the kind, like '3: syntax'.
+     */
+    SortedSet<String> faults(final String kind) {
+        final String suffix = String.format(": %s", kind);
+        final SortedSet<String> res = new TreeSet<>();
+        for (final String fault : this.faults()) {
+            if (fault.endsWith(suffix)) {
+                res.add(fault);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Bytecode of the compiled classes.
+     * @return Bytecode by binary names of the classes.
+     */
+    Map<String, byte[]> bytecode() {
+        return this.bytecode;
+    }
+
+    /**
+     * Shape of the compiled classes.
+     * Bytecode of different compilers never matches byte to byte, so we compare
+     * only declared classes with their non-synthetic fields and methods.
+     * @return Member signatures by binary names of the classes.
+     */
+    SortedMap<String, SortedSet<String>> shape() {
+        final SortedMap<String, SortedSet<String>> res = new TreeMap<>();
+        for (final Map.Entry<String, byte[]> clazz : this.bytecode.entrySet()) {
+            res.put(clazz.getKey(), Compilation.members(clazz.getKey(), clazz.getValue()));
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s %s %s", this.compiler, this.accepted ? "accepted" : "rejected", this.errors
+        );
+    }
+
+    /**
+     * Non-synthetic members of the class.
+     * @param name Binary name of the class.
+     * @param bytes Bytecode of the class.
+     * @return Member signatures.
+     */
+    private static SortedSet<String> members(final String name, final byte[] bytes) {
+        final ClassFileReader reader;
+        try {
+            reader = new ClassFileReader(bytes, name.toCharArray());
+        } catch (final ClassFormatException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read bytecode of '%s' class", name),
+                exception
+            );
+        }
+        final SortedSet<String> res = new TreeSet<>();
+        final IBinaryField[] fields = reader.getFields();
+        if (fields != null) {
+            for (final IBinaryField field : fields) {
+                if ((field.getModifiers() & ClassFileConstants.AccSynthetic) == 0) {
+                    res.add(
+                        String.format(
+                            "%s %s", new String(field.getName()), new String(field.getTypeName())
+                        )
+                    );
+                }
+            }
+        }
+        final IBinaryMethod[] methods = reader.getMethods();
+        if (methods != null) {
+            for (final IBinaryMethod method : methods) {
+                if ((method.getModifiers() & ClassFileConstants.AccSynthetic) == 0) {
+                    res.add(
+                        String.format(
+                            "%s%s",
+                            new String(method.getSelector()),
+                            new String(method.getMethodDescriptor())
+                        )
+                    );
+                }
+            }
+        }
+        return res;
+    }
+}
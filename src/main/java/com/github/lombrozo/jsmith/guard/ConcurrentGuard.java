@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import com.github.lombrozo.jsmith.antlr.view.Lexemes;
+import com.github.lombrozo.jsmith.antlr.view.Node;
+import com.github.lombrozo.jsmith.antlr.view.Text;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Concurrent syntax verification.
+ * Programs are verified by a fixed pool of workers. Each worker keeps its own
+ * lexer and parser of the {@link SyntaxGuard}, while all of them share the DFA
+ * cache of the compiled recognizers.
+ * Each program gets its own result: the future completes with the program itself
+ * if it's correct, or exceptionally with {@link IllegalTextException} otherwise.
+ * @since 0.2
+ */
+public final class ConcurrentGuard implements AutoCloseable {
+
+    /**
+     * Syntax guard.
+     */
+    private final SyntaxGuard guard;
+
+    /**
+     * Workers.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Constructor.
+     * Uses as many workers as there are available processors.
+     * @param guard Syntax guard.
+     */
+    public ConcurrentGuard(final SyntaxGuard guard) {
+        this(guard, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     * @param guard Syntax guard.
+     * @param threads Number of workers.
+     */
+    public ConcurrentGuard(final SyntaxGuard guard, final int threads) {
+        this(
+            guard,
+            Executors.newFixedThreadPool(
+                threads,
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "jsmith-guard");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            )
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param guard Syntax guard.
+     * @param workers Workers.
+     */
+    private ConcurrentGuard(final SyntaxGuard guard, final ExecutorService workers) {
+        this.guard = guard;
+        this.workers = workers;
+    }
+
+    /**
+     * Verify the generated code asynchronously.
+     * @param code Generated code.
+     * @return Future of the verified code.
+     */
+    public CompletableFuture<Text> verify(final Text code) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    this.guard.verify(code.output());
+                    return code;
+                } catch (final InvalidSyntax exception) {
+                    throw ConcurrentGuard.illegal(code, exception);
+                }
+            },
+            this.workers
+        );
+    }
+
+    /**
+     * Verify the generated tree asynchronously.
+     * Tokens are taken right from the tree, see {@link SyntaxGuard#verifySilently(Node)}.
+     * @param tree Generated tree.
+     * @return Future of the verified tree.
+     */
+    public CompletableFuture<Node> verify(final Node tree) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    this.guard.verify(new Lexemes(tree));
+                    return tree;
+                } catch (final InvalidSyntax exception) {
+                    throw ConcurrentGuard.illegal(tree.text(), exception);
+                }
+            },
+            this.workers
+        );
+    }
+
+    /**
+     * Verify a batch of generated programs asynchronously.
+     * @param codes Generated programs.
+     * @return Futures of the verified programs, in the same order.
+     */
+    public List<CompletableFuture<Text>> verifyAll(final Collection<? extends Text> codes) {
+        return codes.stream().map(this::verify).collect(Collectors.toList());
+    }
+
+    @Override
+    public void close() {
+        this.workers.shutdownNow();
+    }
+
+    /**
+     * Exception for the wrong code.
+     * @param code Wrong code.
+     * @param exception Syntax error.
+     * @return Exception.
+     */
+    private static IllegalTextException illegal(final Text code, final InvalidSyntax exception) {
+        return new IllegalTextException(
+            String.format("Generated code '%s' is wrong", code.output()),
+            code,
+            exception
+        );
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Differential compilation: javac vs Eclipse compiler.
+ * Each program is compiled in-process by both compilers in parallel, then
+ * the results are compared: acceptance, diagnostics and the shape of the
+ * produced classes. Both compilers target Java 8, since it's the latest
+ * version supported by the bundled Eclipse compiler.
+ * Programs are compiled by a fixed pool of workers, so no processes are forked.
+ * @since 0.2
+ */
+public final class Differential implements AutoCloseable {
+
+    /**
+     * Javac.
+     */
+    private final InMemoryCompiler javac;
+
+    /**
+     * Eclipse compiler.
+     */
+    private final Ecj ecj;
+
+    /**
+     * Workers.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Constructor.
+     * Uses as many workers as there are available processors.
+     */
+    public Differential() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     * @param threads Number of workers.
+     */
+    public Differential(final int threads) {
+        this(
+            new InMemoryCompiler(),
+            new Ecj(),
+            Executors.newFixedThreadPool(
+                threads,
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "jsmith-differential");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            )
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param javac Javac.
+     * @param ecj Eclipse compiler.
+     * @param workers Workers.
+     */
+    private Differential(
+        final InMemoryCompiler javac,
+        final Ecj ecj,
+        final ExecutorService workers
+    ) {
+        this.javac = javac;
+        this.ecj = ecj;
+        this.workers = workers;
+    }
+
+    /**
+     * Compile the program by both compilers and compare the results.
+     * @param src Source code of the program.
+     * @return Future verdict.
+     */
+    public CompletableFuture<Verdict> compare(final String src) {
+        final InMemoryCompiler.CompilationUnit unit = new InMemoryCompiler.CompilationUnit(src);
+        return CompletableFuture.supplyAsync(
+            () -> this.javac.check(unit, "--release", "8"),
+            this.workers
+        ).thenCombine(
+            CompletableFuture.supplyAsync(() -> this.ecj.check(unit), this.workers),
+            (first, second) -> new Verdict(src, first, second)
+        );
+    }
+
+    /**
+     * Compile a batch of programs by both compilers and compare the results.
+     * @param sources Source code of the programs.
+     * @return Future verdicts, in the same order.
+     */
+    public List<CompletableFuture<Verdict>> compareAll(final Collection<String> sources) {
+        return sources.stream().map(this::compare).collect(Collectors.toList());
+    }
+
+    @Override
+    public void close() {
+        this.workers.shutdownNow();
+    }
+}
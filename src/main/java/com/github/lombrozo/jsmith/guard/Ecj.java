@@ -0,0 +1,295 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
+import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+
+/**
+ * In-memory Eclipse compiler for Java (ECJ).
+ * The ECJ that comes with 'org.eclipse.jdt.core' supports Java up to 8 and can't
+ * read class files of the modern JDK. So the Java 8 platform API is taken from
+ * 'lib/ct.sym' of the running JDK, the same way as 'javac --release 8' does.
+ * The platform is read only once and shared between all compilations.
+ * @since 0.2
+ */
+final class Ecj {
+
+    /**
+     * Java release.
+     */
+    private static final String RELEASE = "8";
+
+    /**
+     * Java 8 platform API.
+     */
+    private final Unchecked<Platform> platform;
+
+    /**
+     * Constructor.
+     */
+    Ecj() {
+        this(Paths.get(System.getProperty("java.home"), "lib", "ct.sym"));
+    }
+
+    /**
+     * Constructor.
+     * @param symbols Path to 'ct.sym' file.
+     */
+    Ecj(final Path symbols) {
+        this.platform = new Unchecked<>(new Sticky<>(new Synced<>(() -> new Platform(symbols))));
+    }
+
+    /**
+     * Compile source code without throwing on errors.
+     * @param unit Compilation unit.
+     * @return Compilation result with diagnostics and bytecode.
+     */
+    Compilation check(final InMemoryCompiler.CompilationUnit unit) {
+        final Map<String, String> options = new HashMap<>(0);
+        options.put(CompilerOptions.OPTION_Source, "1.8");
+        options.put(CompilerOptions.OPTION_Compliance, "1.8");
+        options.put(CompilerOptions.OPTION_TargetPlatform, "1.8");
+        final List<CompilationResult> results = new ArrayList<>(1);
+        new Compiler(
+            this.platform.value(),
+            DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+            new CompilerOptions(options),
+            results::add,
+            new DefaultProblemFactory(Locale.ENGLISH)
+        ).compile(
+            new ICompilationUnit[]{
+                new CompilationUnit(
+                    unit.code().toCharArray(), unit.path(), StandardCharsets.UTF_8.name()
+                ),
+            }
+        );
+        final List<String> errors = new ArrayList<>(0);
+        final Map<String, byte[]> bytecode = new HashMap<>(0);
+        for (final CompilationResult result : results) {
+            final IProblem[] problems = result.getProblems();
+            if (problems != null) {
+                for (final IProblem problem : problems) {
+                    if (problem.isError()) {
+                        errors.add(
+                            String.format(
+                                "%d: %s error: %s",
+                                problem.getSourceLineNumber(),
+                                Ecj.kind(problem),
+                                problem.getMessage()
+                            )
+                        );
+                    }
+                }
+            }
+            for (final ClassFile clazz : result.getClassFiles()) {
+                bytecode.put(
+                    CharOperation.toString(clazz.getCompoundName()),
+                    clazz.getBytes()
+                );
+            }
+        }
+        return new Compilation("ecj", errors.isEmpty(), errors, bytecode);
+    }
+
+    /**
+     * Kind of the ecj error.
+     * @param problem Reported problem.
+     * @return Either 'syntax' or 'semantic'.
+     */
+    private static String kind(final IProblem problem) {
+        final String res;
+        if ((problem.getID() & IProblem.Syntax) == 0) {
+            res = "semantic";
+        } else {
+            res = "syntax";
+        }
+        return res;
+    }
+
+    /**
+     * Java platform API read from 'ct.sym' file.
+     * @since 0.2
+     */
+    private static final class Platform implements INameEnvironment {
+
+        /**
+         * Class signatures by binary names.
+         */
+        private final Map<String, byte[]> types;
+
+        /**
+         * All packages, including parent ones.
+         */
+        private final Set<String> packages;
+
+        /**
+         * Constructor.
+         * @param symbols Path to 'ct.sym' file.
+         * @throws IOException If the file can't be read.
+         */
+        Platform(final Path symbols) throws IOException {
+            this(new HashMap<>(0), new HashSet<>(0));
+            try (ZipFile zip = new ZipFile(symbols.toFile())) {
+                for (final ZipEntry entry : Collections.list(zip.entries())) {
+                    this.read(zip, entry);
+                }
+            }
+        }
+
+        /**
+         * Constructor.
+         * @param types Class signatures by binary names.
+         * @param packages All packages.
+         */
+        private Platform(final Map<String, byte[]> types, final Set<String> packages) {
+            this.types = types;
+            this.packages = packages;
+        }
+
+        @Override
+        public NameEnvironmentAnswer findType(final char[][] name) {
+            return this.find(CharOperation.toString(name));
+        }
+
+        @Override
+        public NameEnvironmentAnswer findType(final char[] name, final char[][] pckg) {
+            final NameEnvironmentAnswer res;
+            if (pckg == null || pckg.length == 0) {
+                res = this.find(new String(name));
+            } else {
+                res = this.find(
+                    String.format("%s.%s", CharOperation.toString(pckg), new String(name))
+                );
+            }
+            return res;
+        }
+
+        @Override
+        public boolean isPackage(final char[][] parent, final char[] name) {
+            final boolean res;
+            if (parent == null || parent.length == 0) {
+                res = this.packages.contains(new String(name));
+            } else {
+                res = this.packages.contains(
+                    String.format("%s.%s", CharOperation.toString(parent), new String(name))
+                );
+            }
+            return res;
+        }
+
+        @Override
+        public void cleanup() {
+            // Nothing to clean up, the platform is shared
+        }
+
+        /**
+         * Find the class.
+         * @param name Binary name of the class.
+         * @return Answer or null if there is no such class.
+         */
+        private NameEnvironmentAnswer find(final String name) {
+            final byte[] bytes = this.types.get(name);
+            final NameEnvironmentAnswer res;
+            if (bytes == null) {
+                res = null;
+            } else {
+                try {
+                    res = new NameEnvironmentAnswer(
+                        new ClassFileReader(bytes, name.toCharArray()),
+                        null
+                    );
+                } catch (final ClassFormatException exception) {
+                    throw new IllegalStateException(
+                        String.format("Can't read signature of '%s' class", name),
+                        exception
+                    );
+                }
+            }
+            return res;
+        }
+
+        /**
+         * Read the entry of 'ct.sym' file if it belongs to the release.
+         * Entries look like '789/java.base/java/lang/Object.sig', where the first
+         * segment lists all the releases that share the same signature.
+         * @param zip The 'ct.sym' file.
+         * @param entry Entry of the file.
+         * @throws IOException If the entry can't be read.
+         */
+        private void read(final ZipFile zip, final ZipEntry entry) throws IOException {
+            final String[] segments = entry.getName().split("/");
+            if (segments.length > 2
+                && segments[0].contains(Ecj.RELEASE)
+                && entry.getName().endsWith(".sig")) {
+                final StringBuilder name = new StringBuilder(0);
+                for (int idx = 2; idx < segments.length - 1; ++idx) {
+                    if (name.length() > 0) {
+                        name.append('.');
+                    }
+                    name.append(segments[idx]);
+                    this.packages.add(name.toString());
+                }
+                final String last = segments[segments.length - 1];
+                if (name.length() > 0) {
+                    name.append('.');
+                }
+                name.append(last, 0, last.length() - ".sig".length());
+                try (InputStream input = zip.getInputStream(entry)) {
+                    this.types.put(name.toString(), input.readAllBytes());
+                }
+            }
+        }
+    }
+}
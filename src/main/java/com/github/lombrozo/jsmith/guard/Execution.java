@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Result of a single program execution in a child JVM.
+ * Two executions are equal if they end with the same status and print the same output.
+ * @since 0.2
+ */
+@ToString
+@EqualsAndHashCode
+public final class Execution {
+
+    /**
+     * The program finished normally.
+     */
+    static final String FINISHED = "FINISHED";
+
+    /**
+     * The program threw an exception.
+     */
+    static final String FAILED = "FAILED";
+
+    /**
+     * The program didn't finish in time.
+     */
+    static final String TIMEOUT = "TIMEOUT";
+
+    /**
+     * The child JVM died during the execution.
+     */
+    static final String CRASHED = "CRASHED";
+
+    /**
+     * Execution status.
+     */
+    private final String status;
+
+    /**
+     * Captured standard output and error.
+     */
+    private final String output;
+
+    /**
+     * Constructor.
+     * @param status Execution status.
+     * @param output Captured standard output and error.
+     */
+    Execution(final String status, final String output) {
+        this.status = status;
+        this.output = output;
+    }
+
+    /**
+     * Execution status.
+     * @return One of 'FINISHED', 'FAILED', 'TIMEOUT' or 'CRASHED'.
+     */
+    public String status() {
+        return this.status;
+    }
+
+    /**
+     * Captured standard output and error.
+     * @return Output.
+     */
+    public String output() {
+        return this.output;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.antlr.v4.tool.ANTLRMessage;
+import org.antlr.v4.tool.ANTLRToolListener;
+
+/**
+ * ANTLR grammar error listener.
+ * This listener is used in {@link SyntaxGuard} when grammars are loaded in memory.
+ * It collects all grammar errors and throws an exception if any errors are found.
+ * @since 0.2
+ */
+final class GrammarErrors implements ANTLRToolListener {
+
+    /**
+     * All grammar errors.
+     */
+    private final List<String> errors;
+
+    /**
+     * Constructor.
+     */
+    GrammarErrors() {
+        this(new ArrayList<>(0));
+    }
+
+    /**
+     * Constructor.
+     * @param errors All grammar errors.
+     */
+    private GrammarErrors(final List<String> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public void info(final String msg) {
+        // We ignore info messages
+    }
+
+    @Override
+    public void error(final ANTLRMessage msg) {
+        this.errors.add(
+            String.format(
+                "%d:%d %s %s",
+                msg.line,
+                msg.charPosition,
+                msg.getErrorType(),
+                Arrays.toString(msg.getArgs())
+            )
+        );
+    }
+
+    @Override
+    public void warning(final ANTLRMessage msg) {
+        // We ignore warnings
+    }
+
+    /**
+     * Report all grammar errors.
+     * @throws IllegalStateException If any grammar errors are found.
+     */
+    void report() {
+        if (!this.errors.isEmpty()) {
+            throw new IllegalStateException(
+                String.format("Grammar contains errors: %s", String.join("; ", this.errors))
+            );
+        }
+    }
+}
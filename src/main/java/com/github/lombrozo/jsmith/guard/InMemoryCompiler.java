@@ -23,6 +23,7 @@
  */
 package com.github.lombrozo.jsmith.guard;
 
+import com.github.lombrozo.jsmith.events.CompileEvent;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -30,11 +31,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaFileObject;
 import javax.tools.SimpleJavaFileObject;
@@ -47,6 +54,15 @@ import lombok.ToString;
  */
 public final class InMemoryCompiler {
 
+    /**
+     * Codes of javac errors reported by its parser.
+     */
+    private static final Pattern SYNTAX = Pattern.compile(
+        "compiler\\.err\\.(expected|illegal\\.start|premature\\.eof|not\\.stmt|orphaned"
+            + "|else\\.without\\.if|illegal\\.char|unclosed|malformed|illegal\\.esc\\.char"
+            + "|class\\.interface|invalid\\.meth\\.decl|dot\\.class\\.expected)"
+    );
+
     /**
      * Java compiler.
      */
@@ -83,15 +99,41 @@ public final class InMemoryCompiler {
      * @throws IOException If an I/O error occurs
      */
     List<Class<?>> compile(final Path... files) throws IOException {
-        final int length = files.length;
-        final CompilationUnit[] units = new CompilationUnit[length];
-        for (int index = 0; index < length; ++index) {
-            final Path file = files[index];
-            final String name = file.getFileName().toString().replace(".java", "");
-            final String src = Files.readString(file);
-            units[index] = new CompilationUnit(name, src);
+        return this.compile(InMemoryCompiler.units(files));
+    }
+
+    /**
+     * Compile source code into bytecode without loading it.
+     * @param files Files with source code.
+     * @return Bytecode of all the compiled classes by their binary names.
+     * @throws IOException If an I/O error occurs
+     */
+    Map<String, byte[]> bytecode(final Path... files) throws IOException {
+        return this.manager(InMemoryCompiler.units(files)).bytecode();
+    }
+
+    /**
+     * Load top-level classes from bytecode.
+     * Nested classes are loaded on demand.
+     * @param bytecode Bytecode of classes by their binary names.
+     * @return Loaded top-level classes.
+     */
+    List<Class<?>> load(final Map<String, byte[]> bytecode) {
+        final ClassLoader loader = MemoryJavaFileManager.loader(bytecode);
+        final List<Class<?>> res = new ArrayList<>(0);
+        for (final String name : new TreeSet<>(bytecode.keySet())) {
+            if (name.indexOf('$') < 0) {
+                try {
+                    res.add(loader.loadClass(name));
+                } catch (final ClassNotFoundException exception) {
+                    throw new IllegalStateException(
+                        String.format("Class '%s' can't be loaded from bytecode", name),
+                        exception
+                    );
+                }
+            }
         }
-        return this.compile(units);
+        return res;
     }
 
     /**
@@ -123,6 +165,63 @@ public final class InMemoryCompiler {
         }
     }
 
+    /**
+     * Compile source code without throwing on errors.
+     * @param unit Compilation unit.
+     * @param options Compiler options, like '--release 8'.
+     * @return Compilation result with diagnostics and bytecode.
+     */
+    Compilation check(final CompilationUnit unit, final String... options) {
+        final MemoryJavaFileManager manager = new MemoryJavaFileManager(
+            this.compiler.getStandardFileManager(null, null, null)
+        );
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final CompileEvent event = new CompileEvent(1);
+        event.begin();
+        final boolean success = this.compiler.getTask(
+            null,
+            manager,
+            diagnostics,
+            Arrays.asList(options),
+            null,
+            Collections.singletonList(unit.source())
+        ).call();
+        event.success(success);
+        event.commit();
+        return new Compilation(
+            "javac",
+            success,
+            diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(
+                    diagnostic -> String.format(
+                        "%d: %s error: %s",
+                        diagnostic.getLineNumber(),
+                        InMemoryCompiler.kind(diagnostic.getCode()),
+                        diagnostic.getMessage(Locale.ENGLISH)
+                    )
+                )
+                .collect(Collectors.toList()),
+            manager.bytecode()
+        );
+    }
+
+    /**
+     * Kind of the javac error.
+     * Errors reported by the javac parser are syntax errors, all the others are semantic.
+     * @param code Diagnostic code, like 'compiler.err.expected'.
+     * @return Either 'syntax' or 'semantic'.
+     */
+    private static String kind(final String code) {
+        final String res;
+        if (code != null && InMemoryCompiler.SYNTAX.matcher(code).find()) {
+            res = "syntax";
+        } else {
+            res = "semantic";
+        }
+        return res;
+    }
+
     /**
      * Try to compile source code.
      * @param units Compilation units to compile.
@@ -133,9 +232,25 @@ public final class InMemoryCompiler {
     private List<Class<?>> tryCompile(
         final CompilationUnit... units
     ) throws IOException, ClassNotFoundException, MalformedURLException {
+        final ClassLoader loader = this.manager(units).loader();
+        final List<Class<?>> res = new ArrayList<>(0);
+        for (final CompilationUnit unit : units) {
+            res.add(loader.loadClass(unit.fullName()));
+        }
+        return res;
+    }
+
+    /**
+     * Compile source code in memory.
+     * @param units Compilation units to compile.
+     * @return File manager with compiled classes.
+     */
+    private MemoryJavaFileManager manager(final CompilationUnit... units) {
         final MemoryJavaFileManager manager = new MemoryJavaFileManager(
             this.compiler.getStandardFileManager(null, null, null)
         );
+        final CompileEvent event = new CompileEvent(units.length);
+        event.begin();
         final boolean success = this.compiler.getTask(
             null,
             manager,
@@ -144,17 +259,32 @@ public final class InMemoryCompiler {
             null,
             Arrays.stream(units).map(CompilationUnit::source).collect(Collectors.toList())
         ).call();
+        event.success(success);
+        event.commit();
         if (!success) {
             throw new IllegalStateException(
                 String.format("Compilation failed for units %s", Arrays.asList(units))
             );
         }
-        final ClassLoader loader = manager.loader();
-        final List<Class<?>> res = new ArrayList<>(0);
-        for (final CompilationUnit unit : units) {
-            res.add(loader.loadClass(unit.fullName()));
+        return manager;
+    }
+
+    /**
+     * Read compilation units from files.
+     * @param files Files with source code.
+     * @return Compilation units.
+     * @throws IOException If an I/O error occurs
+     */
+    private static CompilationUnit[] units(final Path... files) throws IOException {
+        final int length = files.length;
+        final CompilationUnit[] units = new CompilationUnit[length];
+        for (int index = 0; index < length; ++index) {
+            final Path file = files[index];
+            final String name = file.getFileName().toString().replace(".java", "");
+            final String src = Files.readString(file);
+            units[index] = new CompilationUnit(name, src);
         }
-        return res;
+        return units;
     }
 
     /**
@@ -162,7 +292,7 @@ public final class InMemoryCompiler {
      * @since 0.2
      */
     @ToString
-    private static final class CompilationUnit {
+    static final class CompilationUnit {
 
         /**
          * Package pattern.
@@ -193,7 +323,7 @@ public final class InMemoryCompiler {
          * Constructor.
          * @param src Source code.
          */
-        private CompilationUnit(final String src) {
+        CompilationUnit(final String src) {
             this(CompilationUnit.findName(src), src);
         }
 
@@ -218,6 +348,22 @@ public final class InMemoryCompiler {
                 .collect(Collectors.joining("."));
         }
 
+        /**
+         * Relative path of the source file.
+         * @return Path, like 'com/example/MyClass.java'.
+         */
+        String path() {
+            return String.format("%s.java", this.fullName().replace('.', '/'));
+        }
+
+        /**
+         * Source code.
+         * @return Source code.
+         */
+        String code() {
+            return this.src;
+        }
+
         /**
          * Convert to a Java file object.
          * @return Java file object.
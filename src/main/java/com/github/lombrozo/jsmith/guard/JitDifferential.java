@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Differential execution of programs in different JVM modes.
+ * Each program is compiled once and then executed in warm child JVMs of every
+ * mode: interpreter only, C1 only and C2 with eager compilation.
+ * If the outputs differ, one of the JIT compilers likely miscompiled the program.
+ * @since 0.2
+ */
+public final class JitDifferential implements AutoCloseable {
+
+    /**
+     * Pools of child JVMs by mode names.
+     */
+    private final Map<String, JvmPool> modes;
+
+    /**
+     * Compiler.
+     */
+    private final InMemoryCompiler compiler;
+
+    /**
+     * Constructor.
+     * @param size Number of child JVMs per mode.
+     */
+    public JitDifferential(final int size) {
+        this(JitDifferential.defaults(size));
+    }
+
+    /**
+     * Constructor.
+     * @param modes Pools of child JVMs by mode names.
+     */
+    public JitDifferential(final Map<String, JvmPool> modes) {
+        this.modes = Collections.unmodifiableMap(new LinkedHashMap<>(modes));
+        this.compiler = new InMemoryCompiler();
+    }
+
+    /**
+     * Execute the program in all the modes.
+     * The program should have a public static 'main' method.
+     * @param src Source code of the program.
+     * @return Future executions by mode names.
+     */
+    public CompletableFuture<Map<String, Execution>> compare(final String src) {
+        final InMemoryCompiler.CompilationUnit unit = new InMemoryCompiler.CompilationUnit(src);
+        final Compilation compilation = this.compiler.check(unit);
+        if (!compilation.accepted()) {
+            throw new IllegalArgumentException(
+                String.format("Program can't be compiled: %s", compilation.errors())
+            );
+        }
+        final Map<String, CompletableFuture<Execution>> futures = new LinkedHashMap<>(0);
+        this.modes.forEach(
+            (mode, pool) -> futures.put(
+                mode, pool.run(compilation.bytecode(), unit.fullName())
+            )
+        );
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+            .thenApply(
+                ignored -> {
+                    final Map<String, Execution> res = new LinkedHashMap<>(0);
+                    futures.forEach((mode, future) -> res.put(mode, future.join()));
+                    return res;
+                }
+            );
+    }
+
+    @Override
+    public void close() {
+        this.modes.values().forEach(JvmPool::close);
+    }
+
+    /**
+     * Default JVM modes.
+     * @param size Number of child JVMs per mode.
+     * @return Pools of child JVMs by mode names.
+     */
+    private static Map<String, JvmPool> defaults(final int size) {
+        final Map<String, JvmPool> res = new LinkedHashMap<>(0);
+        res.put("interpreter", new JvmPool(size, "-Xint"));
+        res.put("c1", new JvmPool(size, "-XX:TieredStopAtLevel=1"));
+        res.put("c2", new JvmPool(size, "-XX:-TieredCompilation", "-Xcomp"));
+        return res;
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import com.jcabi.log.Logger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pool of long-lived child JVMs that execute compiled programs.
+ * All the children of the pool are started with the same JVM options, for example
+ * '-Xint' or '-XX:TieredStopAtLevel=1', so the pool represents a single JVM mode.
+ * Each worker of the pool owns one child JVM and ships the bytecode of programs
+ * to it over the pipe, see {@link ChildJvm}. The child JVM starts only once,
+ * so the execution of a small program takes a few milliseconds instead of
+ * hundreds. A child that timed out or crashed is replaced with a new one.
+ * @since 0.2
+ */
+public final class JvmPool implements AutoCloseable {
+
+    /**
+     * Command to start a child JVM.
+     */
+    private final List<String> command;
+
+    /**
+     * Timeout of a single program.
+     */
+    private final Duration timeout;
+
+    /**
+     * Workers.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Child JVM of the current worker.
+     */
+    private final ThreadLocal<Child> child;
+
+    /**
+     * All the started child JVMs.
+     */
+    private final List<Child> started;
+
+    /**
+     * Compiler.
+     */
+    private final InMemoryCompiler compiler;
+
+    /**
+     * Constructor.
+     * @param size Number of child JVMs.
+     * @param options JVM options of the children, like '-Xint'.
+     */
+    public JvmPool(final int size, final String... options) {
+        this(size, Duration.ofSeconds(5), options);
+    }
+
+    /**
+     * Constructor.
+     * @param size Number of child JVMs.
+     * @param timeout Timeout of a single program.
+     * @param options JVM options of the children, like '-Xint'.
+     */
+    public JvmPool(final int size, final Duration timeout, final String... options) {
+        this(
+            JvmPool.command(options),
+            timeout,
+            Executors.newFixedThreadPool(
+                size,
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "jsmith-jvm-pool");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            )
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param command Command to start a child JVM.
+     * @param timeout Timeout of a single program.
+     * @param workers Workers.
+     */
+    private JvmPool(
+        final List<String> command,
+        final Duration timeout,
+        final ExecutorService workers
+    ) {
+        this.command = command;
+        this.timeout = timeout;
+        this.workers = workers;
+        this.child = new ThreadLocal<>();
+        this.started = new CopyOnWriteArrayList<>();
+        this.compiler = new InMemoryCompiler();
+    }
+
+    /**
+     * Compile the program and execute it in a child JVM.
+     * The program should have a public static 'main' method.
+     * @param src Source code of the program.
+     * @return Future execution result.
+     */
+    public CompletableFuture<Execution> run(final String src) {
+        final InMemoryCompiler.CompilationUnit unit = new InMemoryCompiler.CompilationUnit(src);
+        return CompletableFuture.supplyAsync(
+            () -> {
+                final Compilation compilation = this.compiler.check(unit);
+                if (!compilation.accepted()) {
+                    throw new IllegalArgumentException(
+                        String.format("Program can't be compiled: %s", compilation.errors())
+                    );
+                }
+                return this.execute(compilation.bytecode(), unit.fullName());
+            },
+            this.workers
+        );
+    }
+
+    /**
+     * Execute compiled program in a child JVM.
+     * @param classes Bytecode by binary names of the classes.
+     * @param main Name of the class with the 'main' method.
+     * @return Future execution result.
+     */
+    CompletableFuture<Execution> run(final Map<String, byte[]> classes, final String main) {
+        return CompletableFuture.supplyAsync(() -> this.execute(classes, main), this.workers);
+    }
+
+    @Override
+    public void close() {
+        this.workers.shutdownNow();
+        this.started.forEach(Child::close);
+    }
+
+    /**
+     * Execute the program in the child JVM of the current worker.
+     * A child that timed out halts itself right after the response, so it's
+     * dropped immediately instead of being reused while it's still dying.
+     * @param classes Bytecode by binary names of the classes.
+     * @param main Name of the class with the 'main' method.
+     * @return Execution result.
+     */
+    private Execution execute(final Map<String, byte[]> classes, final String main) {
+        Child current = this.child.get();
+        if (current == null || !current.alive()) {
+            if (current != null) {
+                current.close();
+                this.started.remove(current);
+            }
+            current = new Child(this.command);
+            this.started.add(current);
+            this.child.set(current);
+        }
+        final Execution res = current.execute(classes, main, this.timeout);
+        if (!Execution.FINISHED.equals(res.status()) && !Execution.FAILED.equals(res.status())) {
+            current.close();
+            this.started.remove(current);
+            this.child.remove();
+        }
+        return res;
+    }
+
+    /**
+     * Command to start a child JVM.
+     * @param options JVM options.
+     * @return Command.
+     */
+    private static List<String> command(final String... options) {
+        final List<String> res = new ArrayList<>(0);
+        res.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        res.addAll(Arrays.asList(options));
+        res.add("-cp");
+        res.add(System.getProperty("java.class.path"));
+        res.add(ChildJvm.class.getName());
+        return Collections.unmodifiableList(res);
+    }
+
+    /**
+     * Child JVM process.
+     * @since 0.2
+     */
+    private static final class Child {
+
+        /**
+         * Process.
+         */
+        private final Process process;
+
+        /**
+         * Requests to the child.
+         */
+        private final DataOutputStream requests;
+
+        /**
+         * Responses from the child.
+         */
+        private final DataInputStream responses;
+
+        /**
+         * Constructor.
+         * @param command Command to start the child.
+         */
+        Child(final List<String> command) {
+            this(Child.start(command));
+        }
+
+        /**
+         * Constructor.
+         * @param process Process.
+         */
+        private Child(final Process process) {
+            this.process = process;
+            this.requests = new DataOutputStream(
+                new BufferedOutputStream(process.getOutputStream())
+            );
+            this.responses = new DataInputStream(
+                new BufferedInputStream(process.getInputStream())
+            );
+        }
+
+        /**
+         * Execute the program.
+         * @param classes Bytecode by binary names of the classes.
+         * @param main Name of the class with the 'main' method.
+         * @param timeout Timeout of the program.
+         * @return Execution result.
+         */
+        Execution execute(
+            final Map<String, byte[]> classes,
+            final String main,
+            final Duration timeout
+        ) {
+            Execution res;
+            try {
+                this.requests.writeInt(classes.size());
+                for (final Map.Entry<String, byte[]> clazz : classes.entrySet()) {
+                    this.requests.writeUTF(clazz.getKey());
+                    this.requests.writeInt(clazz.getValue().length);
+                    this.requests.write(clazz.getValue());
+                }
+                this.requests.writeUTF(main);
+                this.requests.writeLong(timeout.toMillis());
+                this.requests.flush();
+                final String status = this.responses.readUTF();
+                final byte[] output = new byte[this.responses.readInt()];
+                this.responses.readFully(output);
+                res = new Execution(status, new String(output, StandardCharsets.UTF_8));
+            } catch (final IOException exception) {
+                Logger.debug(this, "Child JVM crashed: %[exception]s", exception);
+                this.close();
+                res = new Execution(Execution.CRASHED, exception.getMessage());
+            }
+            return res;
+        }
+
+        /**
+         * Whether the child JVM is still running.
+         * @return True if running.
+         */
+        boolean alive() {
+            return this.process.isAlive();
+        }
+
+        /**
+         * Stop the child JVM.
+         */
+        void close() {
+            this.process.destroyForcibly();
+        }
+
+        /**
+         * Start the child JVM.
+         * @param command Command.
+         * @return Process.
+         */
+        private static Process start(final List<String> command) {
+            try {
+                return new ProcessBuilder(command)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't start child JVM with %s", command),
+                    exception
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import com.github.lombrozo.jsmith.antlr.view.Lexeme;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.ActionTransition;
+import org.antlr.v4.runtime.atn.LexerAction;
+import org.antlr.v4.runtime.atn.LexerChannelAction;
+import org.antlr.v4.runtime.atn.LexerSkipAction;
+import org.antlr.v4.runtime.atn.Transition;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * ANTLR token source over generated tokens.
+ * Token types are taken from the vocabulary of the compiled grammar by token names,
+ * so the code isn't lexed again.
+ * Only tokens with unknown names, like identifiers produced by semantic rules,
+ * are passed through the real lexer.
+ * Named tokens follow the {@code -> skip} and {@code -> channel(...)} commands
+ * of their lexer rules, relexed tokens keep the channels assigned by the lexer.
+ * @since 0.2
+ */
+final class LexemeSource implements TokenSource {
+
+    /**
+     * Name of the source.
+     */
+    private static final String NAME = "jsmith";
+
+    /**
+     * Generated tokens.
+     */
+    private final Iterator<Lexeme> lexemes;
+
+    /**
+     * Token types by symbolic and literal names.
+     */
+    private final Map<String, Integer> types;
+
+    /**
+     * Channels of token types by lexer commands, {@link Lexer#SKIP} for skipped types.
+     */
+    private final Map<Integer, Integer> channels;
+
+    /**
+     * Lexer for tokens with unknown names.
+     */
+    private final Function<String, Lexer> relex;
+
+    /**
+     * Tokens produced by the lexer, but not consumed yet.
+     */
+    private final Deque<Token> pending;
+
+    /**
+     * Token factory.
+     */
+    private TokenFactory<?> factory;
+
+    /**
+     * Current line.
+     */
+    private int line;
+
+    /**
+     * Current position in the line.
+     */
+    private int column;
+
+    /**
+     * Current character index.
+     */
+    private int index;
+
+    /**
+     * Constructor.
+     * @param lexemes Generated tokens.
+     * @param vocabulary Vocabulary of the compiled grammar.
+     * @param atn Lexer ATN with lexer commands.
+     * @param relex Lexer for tokens with unknown names.
+     */
+    LexemeSource(
+        final Iterator<Lexeme> lexemes,
+        final Vocabulary vocabulary,
+        final ATN atn,
+        final Function<String, Lexer> relex
+    ) {
+        this.lexemes = lexemes;
+        this.types = LexemeSource.types(vocabulary);
+        this.channels = LexemeSource.channels(atn);
+        this.relex = relex;
+        this.pending = new ArrayDeque<>(0);
+        this.factory = CommonTokenFactory.DEFAULT;
+        this.line = 1;
+    }
+
+    @Override
+    public Token nextToken() {
+        while (this.pending.isEmpty() && this.lexemes.hasNext()) {
+            final Lexeme lexeme = this.lexemes.next();
+            final Optional<Integer> type = lexeme.token().map(this.types::get);
+            if (type.isPresent()) {
+                final int channel = this.channels.getOrDefault(
+                    type.get(), Token.DEFAULT_CHANNEL
+                );
+                if (channel != Lexer.SKIP) {
+                    this.pending.addLast(this.token(type.get(), channel, lexeme.text()));
+                }
+            } else {
+                this.lex(lexeme.text());
+            }
+        }
+        final Token result;
+        if (this.pending.isEmpty()) {
+            result = this.token(Token.EOF, Token.DEFAULT_CHANNEL, null);
+        } else {
+            result = this.pending.removeFirst();
+        }
+        return result;
+    }
+
+    @Override
+    public int getLine() {
+        return this.line;
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return this.column;
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return null;
+    }
+
+    @Override
+    public String getSourceName() {
+        return LexemeSource.NAME;
+    }
+
+    @Override
+    public void setTokenFactory(final TokenFactory<?> another) {
+        this.factory = another;
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return this.factory;
+    }
+
+    /**
+     * Pass the text through the real lexer.
+     * @param text Text of a single generated token.
+     */
+    private void lex(final String text) {
+        final Lexer lexer = this.relex.apply(text);
+        Token next = lexer.nextToken();
+        while (next.getType() != Token.EOF) {
+            this.pending.addLast(
+                this.token(next.getType(), next.getChannel(), next.getText())
+            );
+            next = lexer.nextToken();
+        }
+    }
+
+    /**
+     * Create a token and move the current position after it.
+     * @param type Token type.
+     * @param channel Token channel.
+     * @param text Token text, null for the end of file.
+     * @return Token.
+     */
+    private Token token(final int type, final int channel, final String text) {
+        final int length;
+        if (text == null) {
+            length = 0;
+        } else {
+            length = text.length();
+        }
+        final CommonToken token = new CommonToken(
+            new Pair<>(this, null),
+            type,
+            channel,
+            this.index,
+            this.index + length - 1
+        );
+        token.setText(text);
+        token.setLine(this.line);
+        token.setCharPositionInLine(this.column);
+        this.index = this.index + length;
+        for (int pos = 0; pos < length; pos = pos + 1) {
+            if (text.charAt(pos) == '\n') {
+                this.line = this.line + 1;
+                this.column = 0;
+            } else {
+                this.column = this.column + 1;
+            }
+        }
+        return token;
+    }
+
+    /**
+     * Channels of token types set by lexer commands.
+     * Commands are action transitions of lexer rules, so the channel of a token type
+     * is the {@code channel(...)} command of its rule, or {@link Lexer#SKIP}
+     * if any alternative of the rule skips its tokens.
+     * @param atn Lexer ATN.
+     * @return Channels by token types.
+     */
+    private static Map<Integer, Integer> channels(final ATN atn) {
+        final Map<Integer, Integer> res = new HashMap<>(0);
+        if (atn.lexerActions != null) {
+            for (final ATNState state : atn.states) {
+                if (state != null) {
+                    for (final Transition transition : state.getTransitions()) {
+                        if (transition instanceof ActionTransition) {
+                            LexemeSource.command(atn, (ActionTransition) transition, res);
+                        }
+                    }
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Apply a single lexer command to the channels of token types.
+     * @param atn Lexer ATN.
+     * @param action Action transition of a lexer rule.
+     * @param channels Channels by token types.
+     */
+    private static void command(
+        final ATN atn, final ActionTransition action, final Map<Integer, Integer> channels
+    ) {
+        final int type = atn.ruleToTokenType[action.ruleIndex];
+        if (type > 0 && action.actionIndex >= 0
+            && action.actionIndex < atn.lexerActions.length) {
+            final LexerAction command = atn.lexerActions[action.actionIndex];
+            if (command instanceof LexerSkipAction) {
+                channels.put(type, Lexer.SKIP);
+            } else if (command instanceof LexerChannelAction
+                && channels.getOrDefault(type, Token.DEFAULT_CHANNEL) != Lexer.SKIP) {
+                channels.put(type, ((LexerChannelAction) command).getChannel());
+            }
+        }
+    }
+
+    /**
+     * Token types by symbolic and literal names.
+     * @param vocabulary Vocabulary of the compiled grammar.
+     * @return Token types.
+     */
+    private static Map<String, Integer> types(final Vocabulary vocabulary) {
+        final Map<String, Integer> res = new HashMap<>(0);
+        for (int type = 1; type <= vocabulary.getMaxTokenType(); type = type + 1) {
+            final String symbolic = vocabulary.getSymbolicName(type);
+            if (symbolic != null) {
+                res.put(symbolic, type);
+            }
+            final String literal = vocabulary.getLiteralName(type);
+            if (literal != null) {
+                res.put(literal, type);
+            }
+        }
+        return res;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Managed class loading for long compile-and-run campaigns.
+ * Programs are loaded in batches, each batch has its own class loader that
+ * can be collected after the batch is closed. Loaders are tracked weakly,
+ * so this class never pins classes in metaspace, but it still counts how many
+ * classes were loaded and how many were unloaded together with their loaders.
+ * @since 0.2
+ */
+public final class Loaders {
+
+    /**
+     * Compiler.
+     */
+    private final InMemoryCompiler compiler;
+
+    /**
+     * Collected loaders.
+     */
+    private final ReferenceQueue<ClassLoader> collected;
+
+    /**
+     * Live loaders with the number of their classes.
+     */
+    private final Map<Reference<? extends ClassLoader>, AtomicLong> live;
+
+    /**
+     * Number of loaded classes.
+     */
+    private final AtomicLong loaded;
+
+    /**
+     * Number of unloaded classes.
+     */
+    private final AtomicLong unloaded;
+
+    /**
+     * Constructor.
+     */
+    public Loaders() {
+        this(new InMemoryCompiler());
+    }
+
+    /**
+     * Constructor.
+     * @param compiler Compiler.
+     */
+    private Loaders(final InMemoryCompiler compiler) {
+        this.compiler = compiler;
+        this.collected = new ReferenceQueue<>();
+        this.live = new ConcurrentHashMap<>(0);
+        this.loaded = new AtomicLong(0L);
+        this.unloaded = new AtomicLong(0L);
+    }
+
+    /**
+     * Open a new batch with its own class loader.
+     * @return Batch.
+     */
+    public Batch batch() {
+        this.expunge();
+        return new Batch(this::loader, this.compiler);
+    }
+
+    /**
+     * Number of loaded classes.
+     * @return Number of classes loaded by all batches.
+     */
+    public long loaded() {
+        return this.loaded.get();
+    }
+
+    /**
+     * Number of unloaded classes.
+     * @return Number of classes whose loaders were collected.
+     */
+    public long unloaded() {
+        this.expunge();
+        return this.unloaded.get();
+    }
+
+    /**
+     * Number of live class loaders.
+     * @return Number of loaders that are not collected yet.
+     */
+    public int live() {
+        this.expunge();
+        return this.live.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d classes loaded, %d unloaded, %d live loaders",
+            this.loaded(),
+            this.unloaded(),
+            this.live()
+        );
+    }
+
+    /**
+     * New tracked class loader.
+     * @return Class loader for a batch.
+     */
+    private BatchLoader loader() {
+        final AtomicLong classes = new AtomicLong(0L);
+        final BatchLoader res = new BatchLoader(classes, this.loaded);
+        this.live.put(new WeakReference<>(res, this.collected), classes);
+        return res;
+    }
+
+    /**
+     * Forget collected loaders and count their classes as unloaded.
+     */
+    private void expunge() {
+        Reference<? extends ClassLoader> ref = this.collected.poll();
+        while (ref != null) {
+            final AtomicLong classes = this.live.remove(ref);
+            if (classes != null) {
+                this.unloaded.addAndGet(classes.get());
+            }
+            ref = this.collected.poll();
+        }
+    }
+}
@@ -78,6 +78,24 @@ public final class MemoryJavaFileManager extends ForwardingJavaFileManager<JavaF
         return new MemoryClassLoader(this.compiled);
     }
 
+    /**
+     * Get the bytecode of the compiled classes.
+     * @return Bytecode by binary names of the classes.
+     */
+    Map<String, byte[]> bytecode() {
+        return this.compiled.stream()
+            .collect(Collectors.toMap(JavaClass::fullName, JavaClass::bytes));
+    }
+
+    /**
+     * Get the class loader of the previously compiled classes.
+     * @param bytecode Bytecode by binary names of the classes.
+     * @return The class loader.
+     */
+    static ClassLoader loader(final Map<String, byte[]> bytecode) {
+        return new MemoryClassLoader(bytecode);
+    }
+
     /**
      * A byte array class.
      * @since 0.1
@@ -140,7 +158,8 @@ public final class MemoryJavaFileManager extends ForwardingJavaFileManager<JavaF
     private static final class MemoryClassLoader extends ClassLoader {
 
         /**
-         * All the classes.
+         * Bytecode of the classes that are not defined yet.
+         * Bytecode is dropped right after the class is defined.
          */
         private final Map<String, byte[]> classes;
 
@@ -162,7 +181,7 @@ public final class MemoryJavaFileManager extends ForwardingJavaFileManager<JavaF
 
         @Override
         public Class<?> findClass(final String name) throws ClassNotFoundException {
-            final byte[] bytes = this.classes.get(name);
+            final byte[] bytes = this.classes.remove(name);
             final Class<?> result;
             if (Objects.nonNull(bytes)) {
                 result = this.defineClass(name, bytes, 0, bytes.length);
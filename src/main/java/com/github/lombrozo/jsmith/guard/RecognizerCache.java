@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.antlr.v4.runtime.RuntimeMetaData;
+import org.cactoos.Scalar;
+
+/**
+ * Persistent cache of compiled recognizers.
+ * The cache is content-addressed: the key is a hash of the grammar texts,
+ * the ANTLR version and the JDK version. Each entry is a directory with
+ * the bytecode of all the compiled classes, one '.class' file per class.
+ * Entries are written to a temporary directory first and then moved,
+ * so concurrent JVMs never see partially written entries.
+ * @since 0.2
+ */
+final class RecognizerCache {
+
+    /**
+     * Extension of the class files.
+     */
+    private static final String EXT = ".class";
+
+    /**
+     * Cache directory.
+     */
+    private final Path dir;
+
+    /**
+     * Constructor.
+     * @param dir Cache directory.
+     */
+    RecognizerCache(final Path dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Bytecode of the compiled recognizers.
+     * @param grammars ANTLR grammar texts.
+     * @param compile Compilation of the grammars, used on a cache miss.
+     * @return Bytecode by binary names of the classes.
+     * @throws Exception If compilation or I/O fails.
+     */
+    Map<String, byte[]> bytecode(
+        final List<String> grammars,
+        final Scalar<Map<String, byte[]>> compile
+    ) throws Exception {
+        final Path entry = this.dir.resolve(RecognizerCache.key(grammars));
+        final Map<String, byte[]> result;
+        if (Files.isDirectory(entry)) {
+            result = RecognizerCache.read(entry);
+            Logger.debug(this, "Recognizers are loaded from the cache '%s'", entry);
+        } else {
+            result = compile.value();
+            this.write(entry, result);
+            Logger.debug(this, "Recognizers are saved to the cache '%s'", entry);
+        }
+        return result;
+    }
+
+    /**
+     * Write the cache entry.
+     * @param entry Cache entry directory.
+     * @param bytecode Bytecode by binary names of the classes.
+     * @throws IOException If an I/O error occurs.
+     */
+    private void write(final Path entry, final Map<String, byte[]> bytecode) throws IOException {
+        Files.createDirectories(this.dir);
+        final Path tmp = Files.createTempDirectory(this.dir, "tmp");
+        for (final Map.Entry<String, byte[]> clazz : bytecode.entrySet()) {
+            Files.write(tmp.resolve(clazz.getKey() + RecognizerCache.EXT), clazz.getValue());
+        }
+        try {
+            Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final FileAlreadyExistsException exception) {
+            Logger.debug(this, "Cache entry '%s' was written concurrently", entry);
+            RecognizerCache.delete(tmp);
+        } catch (final IOException exception) {
+            RecognizerCache.delete(tmp);
+            if (!Files.isDirectory(entry)) {
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Read the cache entry.
+     * @param entry Cache entry directory.
+     * @return Bytecode by binary names of the classes.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static Map<String, byte[]> read(final Path entry) throws IOException {
+        final Map<String, byte[]> res = new HashMap<>(0);
+        try (Stream<Path> files = Files.list(entry)) {
+            for (final Path file : files.collect(Collectors.toList())) {
+                final String name = file.getFileName().toString();
+                if (name.endsWith(RecognizerCache.EXT)) {
+                    res.put(
+                        name.substring(0, name.length() - RecognizerCache.EXT.length()),
+                        Files.readAllBytes(file)
+                    );
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Delete the directory with all its files.
+     * @param tmp Directory.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static void delete(final Path tmp) throws IOException {
+        try (Stream<Path> files = Files.walk(tmp)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Cache key.
+     * @param grammars ANTLR grammar texts.
+     * @return Hex-encoded SHA-256 of the grammars, the ANTLR version and the JDK version.
+     * @throws NoSuchAlgorithmException If SHA-256 is not available.
+     */
+    private static String key(final List<String> grammars) throws NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(
+            String.format(
+                "antlr:%s%njdk:%s%n", RuntimeMetaData.VERSION, Runtime.version()
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        for (final String grammar : grammars) {
+            final byte[] bytes = grammar.getBytes(StandardCharsets.UTF_8);
+            digest.update(String.format("%d:", bytes.length).getBytes(StandardCharsets.UTF_8));
+            digest.update(bytes);
+        }
+        final StringBuilder hex = new StringBuilder(64);
+        for (final byte part : digest.digest()) {
+            hex.append(String.format("%02x", part));
+        }
+        return hex.toString();
+    }
+}
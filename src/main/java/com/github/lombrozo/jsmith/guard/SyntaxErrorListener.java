@@ -32,11 +32,14 @@ import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.atn.ATNConfigSet;
 import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 /**
  * ANTLR syntax error listener.
  * This listener is used in {@link SyntaxGuard}.
- * It collects all syntax errors and throws {@link InvalidSyntax} exception if any errors are found.
+ * It keeps the first syntax error and stops recognition right away, since a single
+ * error is enough to reject the code. Then {@link #report()} throws
+ * {@link InvalidSyntax} exception if the error is found.
  * @since 0.1
  */
 public final class SyntaxErrorListener implements ANTLRErrorListener {
@@ -71,6 +74,7 @@ public final class SyntaxErrorListener implements ANTLRErrorListener {
         final RecognitionException exception
     ) {
         this.errors.add(msg);
+        throw new ParseCancellationException(msg);
     }
 
     @Override
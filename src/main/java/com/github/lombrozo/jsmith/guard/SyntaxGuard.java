@@ -23,24 +23,52 @@
  */
 package com.github.lombrozo.jsmith.guard;
 
+import com.github.lombrozo.jsmith.antlr.view.Lexeme;
+import com.github.lombrozo.jsmith.antlr.view.Lexemes;
+import com.github.lombrozo.jsmith.antlr.view.Node;
 import com.github.lombrozo.jsmith.antlr.view.Text;
+import com.github.lombrozo.jsmith.events.VerifyEvent;
 import com.jcabi.log.Logger;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.antlr.v4.Tool;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.LexerInterpreter;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserInterpreter;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.TokenSource;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.tool.Grammar;
+import org.antlr.v4.tool.LexerGrammar;
+import org.antlr.v4.tool.Rule;
 import org.cactoos.Input;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Synced;
@@ -75,15 +103,37 @@ public final class SyntaxGuard {
      * @param grammars ANTLR grammar input.
      */
     public SyntaxGuard(final Path temp, final String top, final Input... grammars) {
-        this(
-            temp,
-            top,
-            Arrays.stream(grammars)
-                .map(TextOf::new)
-                .map(UncheckedText::new)
-                .map(UncheckedText::asString)
-                .collect(Collectors.toList())
-        );
+        this(temp, top, SyntaxGuard.texts(grammars));
+    }
+
+    /**
+     * Constructor.
+     * Compiled recognizers are kept in the persistent cache, so the next runs
+     * with the same grammars, ANTLR and JDK skip code generation and compilation.
+     *
+     * @param temp Temporary directory.
+     * @param cache Directory of the persistent cache.
+     * @param top Top rule name.
+     * @param grammars ANTLR grammar input.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public SyntaxGuard(
+        final Path temp, final Path cache, final String top, final Input... grammars
+    ) {
+        this(top, SyntaxGuard.cached(temp, cache, top, SyntaxGuard.texts(grammars)));
+    }
+
+    /**
+     * Constructor.
+     * Grammars are loaded in memory and interpreted, so neither sources are generated
+     * nor classes are compiled. It starts much faster than the compiled guard,
+     * though the interpreted recognizers are a bit slower.
+     *
+     * @param top Top rule name.
+     * @param grammars ANTLR grammar input.
+     */
+    public SyntaxGuard(final String top, final Input... grammars) {
+        this(top, SyntaxGuard.interpreters(top, SyntaxGuard.texts(grammars)));
     }
 
     /**
@@ -94,7 +144,7 @@ public final class SyntaxGuard {
      * @param grammar ANTLR grammar text.
      */
     SyntaxGuard(final Path temp, final String top, final List<String> grammar) {
-        this(top, SyntaxGuard.prestructor(temp, grammar));
+        this(top, SyntaxGuard.prestructor(temp, top, grammar));
     }
 
     /**
@@ -136,6 +186,37 @@ public final class SyntaxGuard {
         }
     }
 
+    /**
+     * Verify the generated tree.
+     * Tokens are taken right from the tree and passed to the parser,
+     * so the code is neither rendered nor lexed again.
+     * Only tokens that the generator can't name are passed through the lexer.
+     * Pay attention, that this check trusts token boundaries of the generator:
+     * it doesn't catch two adjacent tokens that the lexer would merge into one.
+     * Throws a runtime exception if the code contains syntax errors.
+     * @param tree Generated tree.
+     */
+    public void verifySilently(final Node tree) {
+        try {
+            this.verify(new Lexemes(tree));
+            Logger.debug(this, "Generated tokens are correct");
+        } catch (final InvalidSyntax exception) {
+            final Text code = tree.text();
+            Logger.error(
+                this,
+                String.format(
+                    "Generated code tree: '%n%s%n' is wrong",
+                    code.output()
+                )
+            );
+            throw new IllegalTextException(
+                String.format("Generated code '%s' is wrong", code.output()),
+                code,
+                exception
+            );
+        }
+    }
+
     /**
      * Verify the generated code.
      * @param code Generated code.
@@ -143,18 +224,55 @@ public final class SyntaxGuard {
      */
     void verify(final String code) throws InvalidSyntax {
         final Environment env = new Unchecked<>(this.environment).value();
-        final Lexer lexer = env.lexer(code);
-        final Parser parser = env.parser(lexer);
         final SyntaxErrorListener errors = new SyntaxErrorListener();
-        parser.addErrorListener(errors);
-        lexer.addErrorListener(errors);
-        env.parse(parser, this.top);
-        errors.report();
+        final VerifyEvent event = new VerifyEvent(this.top);
+        event.begin();
+        env.parse(env.parser(env.lexer(code, errors), errors));
+        SyntaxGuard.report(errors, event);
+    }
+
+    /**
+     * Verify the generated tokens.
+     * @param lexemes Generated tokens.
+     * @throws InvalidSyntax If the tokens contain syntax errors.
+     */
+    void verify(final Iterable<Lexeme> lexemes) throws InvalidSyntax {
+        final Environment env = new Unchecked<>(this.environment).value();
+        final SyntaxErrorListener errors = new SyntaxErrorListener();
+        final LexemeSource source = new LexemeSource(
+            lexemes.iterator(),
+            env.vocabulary(),
+            env.atn(),
+            text -> env.lexer(text, errors)
+        );
+        final VerifyEvent event = new VerifyEvent(this.top);
+        event.begin();
+        env.parse(env.parser(source, errors));
+        SyntaxGuard.report(errors, event);
+    }
+
+    /**
+     * Report syntax errors and the verification event.
+     * @param errors Collected syntax errors.
+     * @param event Started verification event.
+     * @throws InvalidSyntax If there are syntax errors.
+     */
+    private static void report(
+        final SyntaxErrorListener errors,
+        final VerifyEvent event
+    ) throws InvalidSyntax {
+        try {
+            errors.report();
+            event.valid(true);
+        } finally {
+            event.commit();
+        }
     }
 
     /**
      * Prepare environment.
      * @param temp Temporary directory where to store generated classes.
+     * @param top Top rule name.
      * @param grammars ANTLR grammar texts.
      * @return Environment that contains lexer and parser classes.
      * @todo #89:30min This method is overcomplicated because it uses ANTLR Tool.
@@ -162,28 +280,155 @@ public final class SyntaxGuard {
      *  If it is possible to create Parser and Lexer classes in memory, we should do it.
      *  But for now, it's not possible, so we need to save generated classes to the disk.
      */
-    private static Sticky<Environment> prestructor(final Path temp, final List<String> grammars) {
+    private static Sticky<Environment> prestructor(
+        final Path temp,
+        final String top,
+        final List<String> grammars
+    ) {
+        return new Sticky<>(
+            new Synced<>(
+                () -> {
+                    final InMemoryCompiler compiler = new InMemoryCompiler();
+                    return new Environment(
+                        compiler.load(SyntaxGuard.bytecode(compiler, temp, grammars)),
+                        top
+                    );
+                }
+            )
+        );
+    }
+
+    /**
+     * Prepare environment with persistent cache of compiled recognizers.
+     * ANTLR Tool and compiler are used only if the cache doesn't contain
+     * recognizers for the same grammars yet.
+     * @param temp Temporary directory where to store generated classes.
+     * @param cache Directory of the persistent cache.
+     * @param top Top rule name.
+     * @param grammars ANTLR grammar texts.
+     * @return Environment that contains lexer and parser classes.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static Sticky<Environment> cached(
+        final Path temp,
+        final Path cache,
+        final String top,
+        final List<String> grammars
+    ) {
         return new Sticky<>(
             new Synced<>(
                 () -> {
-                    new Tool(
-                        grammars.stream()
-                            .map(grammar -> SyntaxGuard.save(grammar, temp))
-                            .toArray(String[]::new)
-                    ).processGrammarsOnCommandLine();
+                    final InMemoryCompiler compiler = new InMemoryCompiler();
                     return new Environment(
-                        new InMemoryCompiler().compile(
-                            Files.list(temp)
-                                .filter(Files::isRegularFile)
-                                .filter(java -> java.getFileName().toString().endsWith(".java"))
-                                .toArray(Path[]::new)
-                        )
+                        compiler.load(
+                            new RecognizerCache(cache).bytecode(
+                                grammars,
+                                () -> SyntaxGuard.bytecode(compiler, temp, grammars)
+                            )
+                        ),
+                        top
                     );
                 }
             )
         );
     }
 
+    /**
+     * Generate recognizers by ANTLR Tool and compile them.
+     * @param compiler Compiler.
+     * @param temp Temporary directory where to store generated classes.
+     * @param grammars ANTLR grammar texts.
+     * @return Bytecode of the compiled recognizers by their binary names.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static Map<String, byte[]> bytecode(
+        final InMemoryCompiler compiler,
+        final Path temp,
+        final List<String> grammars
+    ) throws IOException {
+        new Tool(
+            grammars.stream()
+                .map(grammar -> SyntaxGuard.save(grammar, temp))
+                .toArray(String[]::new)
+        ).processGrammarsOnCommandLine();
+        try (Stream<Path> files = Files.list(temp)) {
+            return compiler.bytecode(
+                files.filter(Files::isRegularFile)
+                    .filter(java -> java.getFileName().toString().endsWith(".java"))
+                    .toArray(Path[]::new)
+            );
+        }
+    }
+
+    /**
+     * Interpreted environment.
+     * A combined grammar is interpreted alone, while a lexer grammar is used
+     * as a token vocabulary of the parser grammar. The 'tokenVocab' option of the
+     * parser grammar is dropped, since ANTLR would look for '.tokens' file on the disk.
+     * @param top Top rule name.
+     * @param grammars ANTLR grammar texts.
+     * @return Environment that contains lexer and parser interpreters.
+     */
+    private static Sticky<Environment> interpreters(
+        final String top,
+        final List<String> grammars
+    ) {
+        return new Sticky<>(
+            new Synced<>(
+                () -> {
+                    final GrammarErrors errors = new GrammarErrors();
+                    final Optional<String> lexer = grammars.stream()
+                        .filter(SyntaxGuard::isLexer)
+                        .findFirst();
+                    final String parser = grammars.stream()
+                        .filter(grammar -> !SyntaxGuard.isLexer(grammar))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("Parser grammar not found"));
+                    final Grammar tokens;
+                    final Grammar rules;
+                    if (lexer.isPresent()) {
+                        tokens = new LexerGrammar(lexer.get(), errors);
+                        rules = new Grammar(
+                            Grammar.GRAMMAR_FROM_STRING_NAME,
+                            parser.replaceAll("tokenVocab\\s*=\\s*\\w+\\s*;", ""),
+                            tokens,
+                            errors
+                        );
+                    } else {
+                        rules = new Grammar(
+                            Grammar.GRAMMAR_FROM_STRING_NAME, parser, null, errors
+                        );
+                        tokens = rules;
+                    }
+                    errors.report();
+                    return new Environment(tokens, rules, top);
+                }
+            )
+        );
+    }
+
+    /**
+     * Read grammar texts.
+     * @param grammars ANTLR grammar input.
+     * @return Grammar texts.
+     */
+    private static List<String> texts(final Input... grammars) {
+        return Arrays.stream(grammars)
+            .map(TextOf::new)
+            .map(UncheckedText::new)
+            .map(UncheckedText::asString)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Check if the grammar is a lexer grammar.
+     * @param grammar Grammar text.
+     * @return True if the grammar is a lexer grammar.
+     */
+    private static boolean isLexer(final String grammar) {
+        return Pattern.compile("lexer\\s+grammar\\s+\\w+;").matcher(grammar).find();
+    }
+
     /**
      * Save grammar to the file.
      * @param grammar Grammar text.
@@ -219,73 +464,254 @@ public final class SyntaxGuard {
     }
 
     /**
-     * Compiled lexer and parser classes.
+     * Lexer and parser, either compiled or interpreted.
      * This class encapsulates lexer and parser instances.
+     * All the reflective lookups are made only once, when the environment is created.
+     * Lexer and parser instances are reused by each thread, since ANTLR recognizers
+     * might be reset to a new input.
      * @since 0.1
      * @checkstyle IllegalCatchCheck (500 lines)
      */
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    private static class Environment {
+    private static final class Environment {
+
+        /**
+         * Lexer constructor, {@code (CharStream) -> Lexer}.
+         */
+        private final MethodHandle lexers;
+
+        /**
+         * Parser constructor, {@code (TokenStream) -> Parser}.
+         */
+        private final MethodHandle parsers;
+
+        /**
+         * Top rule of the parser, {@code (Parser) -> ParserRuleContext}.
+         */
+        private final MethodHandle start;
 
         /**
-         * All compiled classes.
+         * Vocabulary of the grammar.
          */
-        private final List<Class<?>> all;
+        private final Vocabulary vocab;
+
+        /**
+         * Lexer of the current thread.
+         */
+        private final ThreadLocal<Lexer> lexer;
+
+        /**
+         * Parser of the current thread.
+         */
+        private final ThreadLocal<Parser> parser;
 
         /**
          * Constructor.
          * @param all All compiled classes.
+         * @param top Top rule name.
          */
-        Environment(final List<Class<?>> all) {
-            this.all = all;
+        Environment(final List<Class<?>> all, final String top) {
+            this(Environment.find(all, "Lexer"), Environment.find(all, "Parser"), top);
         }
 
         /**
-         * Create lexer instance.
-         * @param code Code to parse.
+         * Constructor.
+         * @param lexer Lexer grammar, or combined grammar.
+         * @param parser Parser grammar, or combined grammar.
+         * @param top Top rule name.
+         */
+        Environment(final Grammar lexer, final Grammar parser, final String top) {
+            this(
+                Environment.interpreter(
+                    lexer, "createLexerInterpreter", LexerInterpreter.class,
+                    CharStream.class, Lexer.class
+                ),
+                Environment.interpreter(
+                    parser, "createParserInterpreter", ParserInterpreter.class,
+                    TokenStream.class, Parser.class
+                ),
+                Environment.rule(parser, top),
+                parser.getVocabulary()
+            );
+        }
+
+        /**
+         * Constructor.
+         * @param lexer Lexer class.
+         * @param parser Parser class.
+         * @param top Top rule name.
+         */
+        private Environment(final Class<?> lexer, final Class<?> parser, final String top) {
+            this(
+                Environment.constructor(lexer, CharStream.class, Lexer.class),
+                Environment.constructor(parser, TokenStream.class, Parser.class),
+                Environment.rule(parser, top),
+                Environment.vocabulary(parser)
+            );
+        }
+
+        /**
+         * Constructor.
+         * @param lexers Lexer constructor.
+         * @param parsers Parser constructor.
+         * @param start Top rule of the parser.
+         * @param vocab Vocabulary of the grammar.
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        private Environment(
+            final MethodHandle lexers,
+            final MethodHandle parsers,
+            final MethodHandle start,
+            final Vocabulary vocab
+        ) {
+            this.lexers = lexers;
+            this.parsers = parsers;
+            this.start = start;
+            this.vocab = vocab;
+            this.lexer = ThreadLocal.withInitial(this::newLexer);
+            this.parser = ThreadLocal.withInitial(this::newParser);
+        }
+
+        /**
+         * Lexer of the current thread, reset to the code.
+         * @param code Code to lex.
+         * @param errors Error listener.
          * @return Lexer instance.
-         * @checkstyle CascadeIndentationCheck (50 lines)
          */
-        Lexer lexer(final String code) {
+        Lexer lexer(final String code, final ANTLRErrorListener errors) {
+            final Lexer res = this.lexer.get();
+            res.setInputStream(CharStreams.fromString(code));
+            res.removeErrorListeners();
+            res.addErrorListener(ConsoleErrorListener.INSTANCE);
+            res.addErrorListener(errors);
+            return res;
+        }
+
+        /**
+         * Parser of the current thread, reset to the tokens.
+         * @param tokens Source of tokens, usually a lexer.
+         * @param errors Error listener.
+         * @return Parser instance.
+         */
+        Parser parser(final TokenSource tokens, final ANTLRErrorListener errors) {
+            final Parser res = this.parser.get();
+            res.setTokenStream(new CommonTokenStream(tokens));
+            res.removeErrorListeners();
+            res.addErrorListener(ConsoleErrorListener.INSTANCE);
+            res.addErrorListener(errors);
+            return res;
+        }
+
+        /**
+         * ATN of the lexer of the current thread.
+         * @return Lexer ATN.
+         */
+        ATN atn() {
+            return this.lexer.get().getATN();
+        }
+
+        /**
+         * Vocabulary of the compiled grammar.
+         * @return Vocabulary.
+         */
+        Vocabulary vocabulary() {
+            return this.vocab;
+        }
+
+        /**
+         * Parse the code by using top rule.
+         * Parsing stops at the first syntax error, which is kept by the error listener.
+         * @param target Parser instance.
+         */
+        void parse(final Parser target) {
             try {
-                return (Lexer) this.find("Lexer").getDeclaredConstructor(CharStream.class)
-                    .newInstance(CharStreams.fromString(code));
-            } catch (final Exception exception) {
+                Environment.twostage(target, this::top);
+            } catch (final ParseCancellationException stopped) {
+                Logger.debug(this, "Parsing stopped at the first error: %s", stopped);
+            }
+        }
+
+        /**
+         * Parse by using top rule of the parser.
+         * @param target Parser instance.
+         */
+        private void top(final Parser target) {
+            try {
+                final ParserRuleContext tree = (ParserRuleContext) this.start.invokeExact(target);
+                Logger.debug(this, "Parsed '%s' rule", tree.getClass().getSimpleName());
+            } catch (final ParseCancellationException stopped) {
+                throw stopped;
+            } catch (final Throwable exception) {
                 throw new IllegalStateException(
-                    "Something went wrong during lexer creation",
+                    "Something went wrong during parsing",
                     exception
                 );
             }
         }
 
         /**
-         * Create parser instance.
-         * @param lexer Lexer instance.
-         * @return Parser instance.
+         * Two-stage parsing.
+         * First, the faster SLL prediction is tried, which bails out on the first error.
+         * Since SLL might reject correct input, the full LL prediction is used only if
+         * SLL fails. Errors of the SLL stage aren't errors of the code yet, so the error
+         * listeners of the parser are detached during this stage and hear only
+         * the LL stage.
+         * @param target Parser instance.
+         * @param rule Parsing of the top rule.
          */
-        Parser parser(final Lexer lexer) {
+        private static void twostage(final Parser target, final Consumer<Parser> rule) {
+            final List<ANTLRErrorListener> listeners =
+                new ArrayList<>(target.getErrorListeners());
+            target.removeErrorListeners();
+            target.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            target.setErrorHandler(new BailErrorStrategy());
             try {
-                return (Parser) this.find("Parser").getDeclaredConstructor(TokenStream.class)
-                    .newInstance(new CommonTokenStream(lexer));
-            } catch (final Exception exception) {
+                rule.accept(target);
+            } catch (final ParseCancellationException bail) {
+                if (!(bail.getCause() instanceof RecognitionException)) {
+                    throw bail;
+                }
+                listeners.forEach(target::addErrorListener);
+                target.getInterpreter().setPredictionMode(PredictionMode.LL);
+                target.setErrorHandler(new DefaultErrorStrategy());
+                target.reset();
+                rule.accept(target);
+            } finally {
+                target.removeErrorListeners();
+                listeners.forEach(target::addErrorListener);
+            }
+        }
+
+        /**
+         * Create new lexer instance.
+         * @return Lexer instance.
+         */
+        private Lexer newLexer() {
+            try {
+                return (Lexer) this.lexers.invokeExact((CharStream) CharStreams.fromString(""));
+            } catch (final Throwable exception) {
                 throw new IllegalStateException(
-                    "Something went wrong during parser creation",
+                    "Something went wrong during lexer creation",
                     exception
                 );
             }
         }
 
         /**
-         * Parse the code by using top rule.
-         * @param parser Parser instance.
-         * @param top Top rule name.
+         * Create new parser instance.
+         * The parser doesn't build parse trees, since we need only syntax errors.
+         * @return Parser instance.
          */
-        void parse(final Parser parser, final String top) {
+        private Parser newParser() {
             try {
-                this.find("Parser").getMethod(top).invoke(parser);
-            } catch (final Exception exception) {
+                final Parser res = (Parser) this.parsers.invokeExact(
+                    (TokenStream) new CommonTokenStream(this.lexer.get())
+                );
+                res.setBuildParseTree(false);
+                return res;
+            } catch (final Throwable exception) {
                 throw new IllegalStateException(
-                    "Something went wrong during parsing",
+                    "Something went wrong during parser creation",
                     exception
                 );
             }
@@ -293,14 +719,139 @@ public final class SyntaxGuard {
 
         /**
          * Find class by suffix.
+         * @param all All compiled classes.
          * @param suffix Suffix.
          * @return Class.
          */
-        private Class<?> find(final String suffix) {
-            return this.all.stream()
+        private static Class<?> find(final List<Class<?>> all, final String suffix) {
+            return all.stream()
                 .filter(clazz -> clazz.getName().endsWith(suffix))
                 .findFirst()
-                .orElseThrow();
+                .orElseThrow(
+                    () -> new IllegalStateException(
+                        String.format("Can't find '%s' class among %s", suffix, all)
+                    )
+                );
+        }
+
+        /**
+         * Constructor handle with a single argument.
+         * @param clazz Class to construct.
+         * @param argument Type of the argument.
+         * @param base Base type of the created objects.
+         * @return Handle with the {@code (argument) -> base} type.
+         */
+        private static MethodHandle constructor(
+            final Class<?> clazz,
+            final Class<?> argument,
+            final Class<?> base
+        ) {
+            try {
+                return MethodHandles.publicLookup()
+                    .findConstructor(clazz, MethodType.methodType(void.class, argument))
+                    .asType(MethodType.methodType(base, argument));
+            } catch (final Exception exception) {
+                throw new IllegalStateException(
+                    String.format("Can't find constructor of %s", clazz),
+                    exception
+                );
+            }
+        }
+
+        /**
+         * Handle of the top rule method.
+         * @param parser Parser class.
+         * @param top Top rule name.
+         * @return Handle with the {@code (Parser) -> ParserRuleContext} type.
+         */
+        private static MethodHandle rule(final Class<?> parser, final String top) {
+            try {
+                return MethodHandles.publicLookup()
+                    .unreflect(parser.getMethod(top))
+                    .asType(MethodType.methodType(ParserRuleContext.class, Parser.class));
+            } catch (final Exception exception) {
+                throw new IllegalStateException(
+                    String.format("Can't find '%s' rule in %s", top, parser),
+                    exception
+                );
+            }
+        }
+
+        /**
+         * Handle of the interpreter factory of the grammar.
+         * @param grammar Grammar.
+         * @param method Factory method name.
+         * @param type Type of the created interpreter.
+         * @param argument Type of the argument.
+         * @param base Base type of the created interpreter.
+         * @return Handle with the {@code (argument) -> base} type.
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        private static MethodHandle interpreter(
+            final Grammar grammar,
+            final String method,
+            final Class<?> type,
+            final Class<?> argument,
+            final Class<?> base
+        ) {
+            try {
+                return MethodHandles.publicLookup()
+                    .findVirtual(Grammar.class, method, MethodType.methodType(type, argument))
+                    .bindTo(grammar)
+                    .asType(MethodType.methodType(base, argument));
+            } catch (final ReflectiveOperationException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't find '%s' method of the grammar", method),
+                    exception
+                );
+            }
+        }
+
+        /**
+         * Handle of the top rule of the interpreted grammar.
+         * @param parser Parser grammar.
+         * @param top Top rule name.
+         * @return Handle with the {@code (Parser) -> ParserRuleContext} type.
+         */
+        private static MethodHandle rule(final Grammar parser, final String top) {
+            final Rule rule = parser.getRule(top);
+            if (rule == null) {
+                throw new IllegalStateException(
+                    String.format("Can't find '%s' rule in the grammar", top)
+                );
+            }
+            try {
+                return MethodHandles.insertArguments(
+                    MethodHandles.publicLookup().findVirtual(
+                        ParserInterpreter.class,
+                        "parse",
+                        MethodType.methodType(ParserRuleContext.class, int.class)
+                    ),
+                    1,
+                    rule.index
+                ).asType(MethodType.methodType(ParserRuleContext.class, Parser.class));
+            } catch (final ReflectiveOperationException exception) {
+                throw new IllegalStateException(
+                    "Can't find 'parse' method of the interpreter",
+                    exception
+                );
+            }
+        }
+
+        /**
+         * Vocabulary of the compiled grammar.
+         * @param parser Parser class.
+         * @return Vocabulary.
+         */
+        private static Vocabulary vocabulary(final Class<?> parser) {
+            try {
+                return (Vocabulary) parser.getField("VOCABULARY").get(null);
+            } catch (final Exception exception) {
+                throw new IllegalStateException(
+                    "Something went wrong during vocabulary loading",
+                    exception
+                );
+            }
         }
     }
 }
@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+
+/**
+ * Verdict of the differential compilation.
+ * It tells whether two compilers agree on the same source code:
+ * both of them accept or reject it, and if accepted, both produce
+ * classes of the same shape.
+ * @since 0.2
+ */
+public final class Verdict {
+
+    /**
+     * Kind of the syntax errors.
+     */
+    private static final String SYNTAX = "syntax";
+
+    /**
+     * Source code.
+     */
+    private final String src;
+
+    /**
+     * Compilation by the first compiler.
+     */
+    private final Compilation first;
+
+    /**
+     * Compilation by the second compiler.
+     */
+    private final Compilation second;
+
+    /**
+     * Constructor.
+     * @param src Source code.
+     * @param first Compilation by the first compiler.
+     * @param second Compilation by the second compiler.
+     */
+    Verdict(final String src, final Compilation first, final Compilation second) {
+        this.src = src;
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Whether both compilers agree.
+     * Some compilers, like javac, stop right after syntax errors, while others,
+     * like ECJ, go on and report semantic errors too. So, if both compilers
+     * report syntax errors, only the syntax errors are compared.
+     * @return True if both compilers accept the code and produce the same class shapes,
+     *  or both reject it with errors of the same kinds on the same lines.
+     */
+    public boolean agree() {
+        final boolean res;
+        if (this.first.accepted() && this.second.accepted()) {
+            res = Objects.equals(this.first.shape(), this.second.shape());
+        } else if (!this.first.accepted() && !this.second.accepted()) {
+            final SortedSet<String> left = this.first.faults(Verdict.SYNTAX);
+            final SortedSet<String> right = this.second.faults(Verdict.SYNTAX);
+            if (left.isEmpty() || right.isEmpty()) {
+                res = Objects.equals(this.first.faults(), this.second.faults());
+            } else {
+                res = left.equals(right);
+            }
+        } else {
+            res = false;
+        }
+        return res;
+    }
+
+    /**
+     * Source code.
+     * @return Source code.
+     */
+    public String source() {
+        return this.src;
+    }
+
+    /**
+     * Errors of the first compiler.
+     * @return Errors with line numbers.
+     */
+    public List<String> firstErrors() {
+        return this.first.errors();
+    }
+
+    /**
+     * Errors of the second compiler.
+     * @return Errors with line numbers.
+     */
+    public List<String> secondErrors() {
+        return this.second.errors();
+    }
+
+    @Override
+    public String toString() {
+        final String res;
+        if (this.agree()) {
+            res = String.format("%s and %s agree", this.first.compiler(), this.second.compiler());
+        } else if (!this.first.accepted() && !this.second.accepted()) {
+            res = String.format(
+                "%s and %s reject the code for different reasons: %s vs %s",
+                this.first.compiler(),
+                this.second.compiler(),
+                this.first.errors(),
+                this.second.errors()
+            );
+        } else if (this.first.accepted() == this.second.accepted()) {
+            res = String.format(
+                "%s and %s produce different classes: %s vs %s",
+                this.first.compiler(),
+                this.second.compiler(),
+                this.first.shape(),
+                this.second.shape()
+            );
+        } else {
+            res = String.format("%s disagree with %s", this.first, this.second);
+        }
+        return res;
+    }
+}
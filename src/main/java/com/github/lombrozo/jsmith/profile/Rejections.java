@@ -0,0 +1,350 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.profile;
+
+import com.github.lombrozo.jsmith.antlr.Probe;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Profiler of backtracking and rejections.
+ * Counts, for each grammar rule and each kind of trial, how many attempts were made,
+ * how many of them were rejected and why, how many rules were derived and then thrown away,
+ * and how much time they took.
+ * Trials are attributed to the innermost grammar rule being derived on the current thread.
+ * Stacks of rules are kept per thread, so they are exact only for sequential generation:
+ * with {@code Params.concurrently()} a subtree forked to another thread starts its own stack,
+ * and trials before its first rule are attributed to '?', while a thread that executes
+ * stolen subtrees while joining counts their rules as derived by its own trials.
+ * Generate programs sequentially to get exact attribution.
+ * Nested trials are counted inclusively: if a retry is rejected, the waste of all
+ * the trials inside it is counted for the retry as well.
+ * Recursion limits are only counted when they reject a derivation.
+ * @since 0.2
+ */
+public final class Rejections implements Probe {
+
+    /**
+     * Number of ranked rows in the report.
+     */
+    private static final int TOP = 20;
+
+    /**
+     * Quoted parts of rejection causes.
+     */
+    private static final Pattern QUOTED = Pattern.compile("'[^']*'");
+
+    /**
+     * Statistics by the rule and the kind of trial.
+     */
+    private final Map<String, Stats> stats;
+
+    /**
+     * Derivations on the current thread.
+     */
+    private final ThreadLocal<Derivations> current;
+
+    /**
+     * Constructor.
+     */
+    public Rejections() {
+        this.stats = new ConcurrentHashMap<>(0);
+        this.current = ThreadLocal.withInitial(Derivations::new);
+    }
+
+    @Override
+    public void grammar(final Set<String> rules, final Map<String, Integer> points) {
+        // Rejections are counted only for derived rules
+    }
+
+    @Override
+    public void rule(final String name) {
+        final Derivations derivations = this.current.get();
+        derivations.rules.push(name);
+        derivations.derived += 1L;
+    }
+
+    @Override
+    public void leave(final String name) {
+        this.current.get().rules.pop();
+    }
+
+    @Override
+    public Probe.Trial trial(final String kind) {
+        final Derivations derivations = this.current.get();
+        final String rule;
+        if (derivations.rules.isEmpty()) {
+            rule = "?";
+        } else {
+            rule = derivations.rules.peek();
+        }
+        return new Attempt(
+            this.stats.computeIfAbsent(
+                String.format("%s %s", rule, kind), key -> new Stats(rule, kind)
+            ),
+            derivations
+        );
+    }
+
+    @Override
+    public void alternative(final String point, final int index, final int options) {
+        // Alternatives aren't rejections
+    }
+
+    /**
+     * All the statistics, ranked by wasted time.
+     * @return Statistics, the most wasteful first.
+     */
+    public List<Waste> ranked() {
+        return this.stats.values().stream()
+            .map(Stats::waste)
+            .sorted(
+                Comparator.comparingLong(Waste::nanos)
+                    .thenComparingLong(Waste::failures)
+                    .reversed()
+                    .thenComparing(Waste::rule)
+                    .thenComparing(Waste::kind)
+            )
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Ranked report of the rules and annotations that waste the most work.
+     * @return Report.
+     */
+    public String report() {
+        final StringBuilder res = new StringBuilder(
+            String.format(
+                "%-32s %-20s %10s %10s %10s %12s  %s\n",
+                "rule", "kind", "attempts", "failures", "discarded", "wasted(ms)", "top cause"
+            )
+        );
+        this.ranked().stream().limit(Rejections.TOP).forEach(
+            waste -> res.append(
+                String.format(
+                    "%-32s %-20s %10d %10d %10d %12.3f  %s\n",
+                    waste.rule(),
+                    waste.kind(),
+                    waste.attempts(),
+                    waste.failures(),
+                    waste.discarded(),
+                    waste.nanos() / 1_000_000.0,
+                    waste.cause()
+                )
+            )
+        );
+        return res.toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.report();
+    }
+
+    /**
+     * Cause of the rejection without the details that differ from one rejection to another.
+     * @param message Message of the rejection.
+     * @return Cause, like 'We cannot find any initialized variable in the scope'.
+     */
+    static String cause(final String message) {
+        final String res;
+        if (message == null) {
+            res = "unknown";
+        } else {
+            final String stripped = Rejections.QUOTED.matcher(message).replaceAll("'*'");
+            final int end = stripped.indexOf(':');
+            if (end < 0) {
+                res = stripped.trim();
+            } else {
+                res = stripped.substring(0, end).trim();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Statistics of trials of the same kind in the same rule.
+     * @since 0.2
+     */
+    private static final class Stats {
+
+        /**
+         * Grammar rule.
+         */
+        private final String rule;
+
+        /**
+         * Kind of the trials.
+         */
+        private final String kind;
+
+        /**
+         * Number of attempts.
+         */
+        private final LongAdder attempts;
+
+        /**
+         * Number of rejected attempts.
+         */
+        private final LongAdder failures;
+
+        /**
+         * Number of rules derived by the rejected attempts.
+         */
+        private final LongAdder discarded;
+
+        /**
+         * Time spent on the rejected attempts.
+         */
+        private final LongAdder nanos;
+
+        /**
+         * Number of rejections by their causes.
+         */
+        private final Map<String, LongAdder> causes;
+
+        /**
+         * Constructor.
+         * @param rule Grammar rule.
+         * @param kind Kind of the trials.
+         */
+        Stats(final String rule, final String kind) {
+            this.rule = rule;
+            this.kind = kind;
+            this.attempts = new LongAdder();
+            this.failures = new LongAdder();
+            this.discarded = new LongAdder();
+            this.nanos = new LongAdder();
+            this.causes = new ConcurrentHashMap<>(0);
+        }
+
+        /**
+         * Merge the counters.
+         * @return Waste of the trials.
+         */
+        Waste waste() {
+            return new Waste(
+                this.rule,
+                this.kind,
+                new long[] {
+                    this.attempts.sum(),
+                    this.failures.sum(),
+                    this.discarded.sum(),
+                    this.nanos.sum(),
+                },
+                this.causes.entrySet().stream()
+                    .max(Comparator.comparingLong(entry -> entry.getValue().sum()))
+                    .map(Map.Entry::getKey)
+                    .orElse("")
+            );
+        }
+    }
+
+    /**
+     * Derivations on a single thread.
+     * @since 0.2
+     */
+    private static final class Derivations {
+
+        /**
+         * Grammar rules being derived, the innermost first.
+         */
+        private final Deque<String> rules;
+
+        /**
+         * Number of derived rules so far.
+         */
+        private long derived;
+
+        /**
+         * Constructor.
+         */
+        Derivations() {
+            this.rules = new ArrayDeque<>(0);
+            this.derived = 0L;
+        }
+    }
+
+    /**
+     * A single trial.
+     * @since 0.2
+     */
+    private static final class Attempt implements Probe.Trial {
+
+        /**
+         * Statistics to update.
+         */
+        private final Stats stats;
+
+        /**
+         * Derivations on the thread of the trial.
+         */
+        private final Derivations derivations;
+
+        /**
+         * Number of rules derived on the thread before the trial.
+         */
+        private final long before;
+
+        /**
+         * Start of the trial.
+         */
+        private final long start;
+
+        /**
+         * Constructor.
+         * @param stats Statistics to update.
+         * @param derivations Derivations on the thread of the trial.
+         */
+        Attempt(final Stats stats, final Derivations derivations) {
+            this.stats = stats;
+            this.derivations = derivations;
+            this.before = derivations.derived;
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public void success() {
+            this.stats.attempts.increment();
+        }
+
+        @Override
+        public void failure(final String cause) {
+            this.stats.nanos.add(System.nanoTime() - this.start);
+            this.stats.discarded.add(this.derivations.derived - this.before);
+            this.stats.attempts.increment();
+            this.stats.failures.increment();
+            this.stats.causes.computeIfAbsent(Rejections.cause(cause), key -> new LongAdder())
+                .increment();
+        }
+    }
+}
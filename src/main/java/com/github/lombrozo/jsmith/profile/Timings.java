@@ -0,0 +1,330 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.profile;
+
+import com.github.lombrozo.jsmith.antlr.Probe;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Profiler of self and total time of grammar rules.
+ * Each derived grammar rule is a frame, and the chain of the rules being derived
+ * is a stack, the same as the chain of grammar rules in {@link
+ * com.github.lombrozo.jsmith.antlr.Context#path()}.
+ * Self time of a rule is its time without the time of the nested rules.
+ * Total time of a recursive rule is counted only for its outermost derivation.
+ * Stacks are kept per thread, so subtrees generated in parallel start their own stacks;
+ * generate programs sequentially to get a single flame graph.
+ * @since 0.2
+ */
+public final class Timings implements Probe {
+
+    /**
+     * Number of rules in the report.
+     */
+    private static final int TOP = 20;
+
+    /**
+     * Trials aren't timed.
+     */
+    private static final Probe.Trial IDLE = new Probe.Idle();
+
+    /**
+     * Self time by stacks, like 'compilationUnit;typeDeclaration'.
+     */
+    private final Map<String, LongAdder> stacks;
+
+    /**
+     * Times by grammar rules.
+     */
+    private final Map<String, Times> rules;
+
+    /**
+     * Frames of the current thread.
+     */
+    private final ThreadLocal<Frames> current;
+
+    /**
+     * Constructor.
+     */
+    public Timings() {
+        this.stacks = new ConcurrentHashMap<>(0);
+        this.rules = new ConcurrentHashMap<>(0);
+        this.current = ThreadLocal.withInitial(Frames::new);
+    }
+
+    @Override
+    public void grammar(final Set<String> names, final Map<String, Integer> points) {
+        // Only derived rules are timed
+    }
+
+    @Override
+    public void rule(final String name) {
+        this.current.get().enter(name);
+    }
+
+    @Override
+    public void leave(final String name) {
+        final Frames frames = this.current.get();
+        final Frame frame = frames.exit();
+        final long total = System.nanoTime() - frame.start;
+        final long self = total - frame.nested;
+        final Times times = this.rules.computeIfAbsent(name, key -> new Times());
+        times.calls.increment();
+        times.self.add(self);
+        if (frames.outermost(name)) {
+            times.total.add(total);
+        }
+        this.stacks.computeIfAbsent(frame.stack, key -> new LongAdder()).add(self);
+        frames.nested(total);
+    }
+
+    @Override
+    public Probe.Trial trial(final String kind) {
+        return Timings.IDLE;
+    }
+
+    @Override
+    public void alternative(final String point, final int index, final int options) {
+        // Alternatives aren't timed
+    }
+
+    /**
+     * Self time of stacks in the collapsed format of Brendan Gregg.
+     * Each line is a stack of grammar rules separated by semicolons and
+     * its self time in nanoseconds, like 'expr;number 1200'.
+     * The output might be rendered by 'flamegraph.pl' or any compatible tool.
+     * @return Collapsed stacks.
+     */
+    public String collapsed() {
+        final Map<String, Long> sorted = new TreeMap<>();
+        this.stacks.forEach((stack, nanos) -> sorted.put(stack, nanos.sum()));
+        final StringBuilder res = new StringBuilder(0);
+        sorted.forEach(
+            (stack, nanos) -> res.append(stack).append(' ').append(nanos).append('\n')
+        );
+        return res.toString();
+    }
+
+    /**
+     * Report of the rules with the highest self time.
+     * @return Report.
+     */
+    public String report() {
+        final StringBuilder res = new StringBuilder(
+            String.format(
+                "%-32s %10s %12s %12s\n", "rule", "calls", "self(ms)", "total(ms)"
+            )
+        );
+        this.rules.entrySet().stream()
+            .sorted(
+                Comparator.comparingLong(
+                    (Map.Entry<String, Times> entry) -> entry.getValue().self.sum()
+                ).reversed().thenComparing(Map.Entry::getKey)
+            )
+            .limit(Timings.TOP)
+            .forEach(
+                entry -> res.append(
+                    String.format(
+                        "%-32s %10d %12.3f %12.3f\n",
+                        entry.getKey(),
+                        entry.getValue().calls.sum(),
+                        entry.getValue().self.sum() / 1_000_000.0,
+                        entry.getValue().total.sum() / 1_000_000.0
+                    )
+                )
+            );
+        return res.toString();
+    }
+
+    /**
+     * Self time of the rule.
+     * @param rule Rule name.
+     * @return Nanoseconds.
+     */
+    public long self(final String rule) {
+        return this.times(rule).self.sum();
+    }
+
+    /**
+     * Total time of the rule, including the nested rules.
+     * @param rule Rule name.
+     * @return Nanoseconds.
+     */
+    public long total(final String rule) {
+        return this.times(rule).total.sum();
+    }
+
+    @Override
+    public String toString() {
+        return this.report();
+    }
+
+    /**
+     * Times of the rule.
+     * @param rule Rule name.
+     * @return Times, empty if the rule was never derived.
+     */
+    private Times times(final String rule) {
+        return this.rules.getOrDefault(rule, new Times());
+    }
+
+    /**
+     * Times of a grammar rule.
+     * @since 0.2
+     */
+    private static final class Times {
+
+        /**
+         * Number of derivations.
+         */
+        private final LongAdder calls;
+
+        /**
+         * Self time.
+         */
+        private final LongAdder self;
+
+        /**
+         * Total time of the outermost derivations.
+         */
+        private final LongAdder total;
+
+        /**
+         * Constructor.
+         */
+        Times() {
+            this.calls = new LongAdder();
+            this.self = new LongAdder();
+            this.total = new LongAdder();
+        }
+    }
+
+    /**
+     * Frames of a single thread.
+     * @since 0.2
+     */
+    private static final class Frames {
+
+        /**
+         * Frames, the innermost first.
+         */
+        private final Deque<Frame> frames;
+
+        /**
+         * Number of active frames by rule names.
+         */
+        private final Map<String, Integer> active;
+
+        /**
+         * Constructor.
+         */
+        Frames() {
+            this.frames = new ArrayDeque<>(0);
+            this.active = new HashMap<>(0);
+        }
+
+        /**
+         * Enter the rule.
+         * @param name Rule name.
+         */
+        void enter(final String name) {
+            final String stack;
+            if (this.frames.isEmpty()) {
+                stack = name;
+            } else {
+                stack = String.format("%s;%s", this.frames.peek().stack, name);
+            }
+            this.frames.push(new Frame(stack, System.nanoTime()));
+            this.active.merge(name, 1, Integer::sum);
+        }
+
+        /**
+         * Exit the innermost rule.
+         * @return Frame of the rule.
+         */
+        Frame exit() {
+            return this.frames.pop();
+        }
+
+        /**
+         * Is it the outermost derivation of the rule that has just exited?
+         * @param name Rule name.
+         * @return True if the rule isn't derived further up the stack.
+         */
+        boolean outermost(final String name) {
+            return this.active.merge(name, -1, Integer::sum) == 0;
+        }
+
+        /**
+         * Add the time of the exited rule to its parent.
+         * @param nanos Total time of the exited rule.
+         */
+        void nested(final long nanos) {
+            if (!this.frames.isEmpty()) {
+                this.frames.peek().nested += nanos;
+            }
+        }
+    }
+
+    /**
+     * Frame of a grammar rule.
+     * @since 0.2
+     */
+    private static final class Frame {
+
+        /**
+         * Stack of rule names, separated by semicolons.
+         */
+        private final String stack;
+
+        /**
+         * Start of the derivation.
+         */
+        private final long start;
+
+        /**
+         * Total time of the nested rules.
+         */
+        private long nested;
+
+        /**
+         * Constructor.
+         * @param stack Stack of rule names, separated by semicolons.
+         * @param start Start of the derivation.
+         */
+        Frame(final String stack, final long start) {
+            this.stack = stack;
+            this.start = start;
+            this.nested = 0L;
+        }
+    }
+}
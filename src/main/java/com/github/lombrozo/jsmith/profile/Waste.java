@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.profile;
+
+import lombok.ToString;
+
+/**
+ * Work wasted by rejected trials of the same kind in the same grammar rule.
+ * @since 0.2
+ */
+@ToString
+public final class Waste {
+
+    /**
+     * Grammar rule.
+     */
+    private final String grule;
+
+    /**
+     * Kind of the trials, like 'retry' or '$jsmith-unique'.
+     */
+    private final String tkind;
+
+    /**
+     * Counters: attempts, failures, discarded rules and wasted nanoseconds.
+     */
+    private final long[] counters;
+
+    /**
+     * The most frequent cause of rejections.
+     */
+    private final String top;
+
+    /**
+     * Constructor.
+     * @param rule Grammar rule.
+     * @param kind Kind of the trials.
+     * @param counters Attempts, failures, discarded rules and wasted nanoseconds.
+     * @param cause The most frequent cause of rejections.
+     */
+    Waste(final String rule, final String kind, final long[] counters, final String cause) {
+        this.grule = rule;
+        this.tkind = kind;
+        this.counters = counters.clone();
+        this.top = cause;
+    }
+
+    /**
+     * Grammar rule.
+     * @return Rule name.
+     */
+    public String rule() {
+        return this.grule;
+    }
+
+    /**
+     * Kind of the trials.
+     * @return Kind, like 'retry' or '$jsmith-unique'.
+     */
+    public String kind() {
+        return this.tkind;
+    }
+
+    /**
+     * Number of attempts.
+     * @return Attempts.
+     */
+    public long attempts() {
+        return this.counters[0];
+    }
+
+    /**
+     * Number of rejected attempts.
+     * @return Failures.
+     */
+    public long failures() {
+        return this.counters[1];
+    }
+
+    /**
+     * Number of grammar rules derived and then thrown away.
+     * @return Discarded rules.
+     */
+    public long discarded() {
+        return this.counters[2];
+    }
+
+    /**
+     * Time spent on the rejected attempts.
+     * @return Nanoseconds.
+     */
+    public long nanos() {
+        return this.counters[3];
+    }
+
+    /**
+     * The most frequent cause of rejections.
+     * @return Cause, or an empty string if nothing was rejected.
+     */
+    public String cause() {
+        return this.top;
+    }
+}
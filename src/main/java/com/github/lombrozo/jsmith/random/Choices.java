@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.random;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact trace of random choices made during a single generation.
+ * Each choice is an index: an alternative, a number of repetitions,
+ * a character from a range, or an item from a scope. Indexes are stored
+ * as unsigned varints, so most of them take a single byte; strings generated
+ * by regular expressions are stored as they are, prefixed with their length.
+ * The trace doesn't depend on the random generator, so it can be replayed
+ * even if the weights of alternatives or the seeding change.
+ * The trace isn't thread-safe.
+ * @since 0.2
+ */
+public final class Choices {
+
+    /**
+     * Encoded choices.
+     */
+    private byte[] bytes;
+
+    /**
+     * Number of written bytes.
+     */
+    private int size;
+
+    /**
+     * Position of the next byte to read.
+     */
+    private int cursor;
+
+    /**
+     * Constructor.
+     * Creates an empty trace to record choices into.
+     */
+    public Choices() {
+        this(new byte[0]);
+    }
+
+    /**
+     * Constructor.
+     * @param encoded Previously recorded choices, see {@link #bytes()}.
+     */
+    public Choices(final byte[] encoded) {
+        this.bytes = Arrays.copyOf(encoded, Math.max(encoded.length, 16));
+        this.size = encoded.length;
+        this.cursor = 0;
+    }
+
+    /**
+     * Encoded choices.
+     * @return Bytes that might be stored and passed to {@link #Choices(byte[])} later.
+     */
+    public byte[] bytes() {
+        return Arrays.copyOf(this.bytes, this.size);
+    }
+
+    /**
+     * Size of the encoded trace.
+     * @return Number of bytes.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d bytes of choices, %d read", this.size, this.cursor);
+    }
+
+    /**
+     * Append a choice.
+     * @param choice Non-negative index.
+     */
+    void write(final int choice) {
+        int rest = choice;
+        while ((rest & ~0x7f) != 0) {
+            this.put((byte) (rest & 0x7f | 0x80));
+            rest >>>= 7;
+        }
+        this.put((byte) rest);
+    }
+
+    /**
+     * Append a generated string.
+     * @param text String.
+     */
+    void write(final String text) {
+        final byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+        this.write(encoded.length);
+        for (final byte single : encoded) {
+            this.put(single);
+        }
+    }
+
+    /**
+     * Read the next choice.
+     * @return Non-negative index.
+     */
+    int read() {
+        int res = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = this.take();
+            res |= (current & 0x7f) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return res;
+    }
+
+    /**
+     * Read the next generated string.
+     * @return String.
+     */
+    String text() {
+        final int length = this.read();
+        if (this.cursor + length > this.size) {
+            throw new IllegalStateException(
+                String.format("Trace is exhausted, can't read a string of %d bytes", length)
+            );
+        }
+        final String res = new String(this.bytes, this.cursor, length, StandardCharsets.UTF_8);
+        this.cursor += length;
+        return res;
+    }
+
+    /**
+     * Append a single byte.
+     * @param single Byte.
+     */
+    private void put(final byte single) {
+        if (this.size == this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, this.bytes.length * 2);
+        }
+        this.bytes[this.size] = single;
+        this.size += 1;
+    }
+
+    /**
+     * Take the next byte.
+     * @return Byte.
+     */
+    private byte take() {
+        if (this.cursor >= this.size) {
+            throw new IllegalStateException(
+                String.format("Trace is exhausted after %d bytes", this.size)
+            );
+        }
+        final byte res = this.bytes[this.cursor];
+        this.cursor += 1;
+        return res;
+    }
+}
@@ -24,11 +24,13 @@
 package com.github.lombrozo.jsmith.random;
 
 import com.github.lombrozo.jsmith.Params;
+import com.github.lombrozo.jsmith.trace.Tracer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.logging.Logger;
+import java.util.function.ToDoubleFunction;
+import java.util.logging.Level;
 
 /**
  * This class allows randomly choosing one element among others by relative weights.
@@ -39,11 +41,6 @@ import java.util.logging.Logger;
  */
 final class Convergence<T> {
 
-    /**
-     * Logger.
-     */
-    private static final Logger LOG = Logger.getLogger(Convergence.class.getName());
-
     /**
      * Factor of convergence.
      * This is a multiplier for the weights.
@@ -69,9 +66,9 @@ final class Convergence<T> {
     private final Rand rand;
 
     /**
-     * Verbose mode.
+     * Tracing of the choices.
      */
-    private final boolean verbose;
+    private final Tracer tracer;
 
     /**
      * Default constructor.
@@ -85,7 +82,16 @@ final class Convergence<T> {
      * @param params Generation params.
      */
     Convergence(final Params params) {
-        this(params.factor(), 1.0d, new Rand(params.seed()), false);
+        this(params, new Rand(params.seed()));
+    }
+
+    /**
+     * Constructor.
+     * @param params Generation params.
+     * @param rand Random generator.
+     */
+    Convergence(final Params params, final Rand rand) {
+        this(params.factor(), 1.0d, rand, params.tracer());
     }
 
     /**
@@ -94,7 +100,16 @@ final class Convergence<T> {
      * @param verbose Do we need to log changes in the weights?
      */
     Convergence(final double factor, final boolean verbose) {
-        this(factor, 1.0d, new Rand(), verbose);
+        this(factor, 1.0d, new Rand(), Convergence.tracer(verbose));
+    }
+
+    /**
+     * Constructor.
+     * @param factor Factor of convergence.
+     * @param rand Random generator.
+     */
+    Convergence(final double factor, final Rand rand) {
+        this(factor, 1.0d, rand, new Tracer.Off());
     }
 
     /**
@@ -102,16 +117,16 @@ final class Convergence<T> {
      * @param factor Factor of convergence.
      * @param weight Initial weight of the elements.
      * @param rand Random generator.
-     * @param verbose Verbose mode.
+     * @param tracer Tracing of the choices.
      * @checkstyle ParameterNumberCheck (5 lines)
      */
     private Convergence(
         final double factor,
         final double weight,
         final Rand rand,
-        final boolean verbose
+        final Tracer tracer
     ) {
-        this(factor, weight, new HashMap<>(0), rand, verbose);
+        this(factor, weight, new HashMap<>(0), rand, tracer);
     }
 
     /**
@@ -120,7 +135,7 @@ final class Convergence<T> {
      * @param weight Initial weight of the elements.
      * @param weights Weights of the elements.
      * @param rand Random generator.
-     * @param verbose Verbose mode.
+     * @param tracer Tracing of the choices.
      * @checkstyle ParameterNumberCheck (5 lines)
      */
     private Convergence(
@@ -128,13 +143,13 @@ final class Convergence<T> {
         final double weight,
         final Map<T, Map<T, Double>> weights,
         final Rand rand,
-        final boolean verbose
+        final Tracer tracer
     ) {
         this.factor = factor;
         this.weight = weight;
         this.weights = weights;
         this.rand = rand;
-        this.verbose = verbose;
+        this.tracer = tracer;
     }
 
     /**
@@ -147,7 +162,7 @@ final class Convergence<T> {
             this.weight,
             this.weightsCopy(),
             this.rand,
-            this.verbose
+            this.tracer
         );
     }
 
@@ -171,6 +186,19 @@ final class Convergence<T> {
      * @return Chosen element.
      */
     T choose(final T from, final T... elements) {
+        return this.choose(from, element -> 1.0d, elements);
+    }
+
+    /**
+     * Choose one of the child elements, multiplying their weights by the bias.
+     * The bias doesn't change the stored weights, it only steers the current choice.
+     * @param from The main parent element which has child elements.
+     * @param bias Bias of each element, a positive number.
+     * @param elements Child elements.
+     * @return Chosen element.
+     */
+    @SuppressWarnings("unchecked")
+    T choose(final T from, final ToDoubleFunction<T> bias, final T... elements) {
         if (this.factor < 0 || this.factor > 1) {
             throw new IllegalArgumentException("Factor must be between 0 and 1");
         }
@@ -182,30 +210,32 @@ final class Convergence<T> {
         final Map<T, Double> current = this.weights.computeIfAbsent(
             from, key -> this.init(elements)
         );
-        this.info(String.format("Weights for '%s': '%s'", from, current));
+        final boolean traced = this.tracer.enabled(Level.FINE);
+        if (traced) {
+            this.tracer.trace(
+                Level.FINE, "weights", () -> String.format("'%s': '%s'", from, current)
+            );
+        }
         final double[] cumulative = new double[current.size()];
         final Object[] all = new Object[current.size()];
         double total = 0d;
         int index = 0;
         for (final Map.Entry<T, Double> entry : current.entrySet()) {
-            total = total + entry.getValue();
+            total = total + entry.getValue() * bias.applyAsDouble(entry.getKey());
             all[index] = entry.getKey();
             cumulative[index] = total;
             ++index;
         }
-        final double random = this.rand.floating() * total;
-        final int length = cumulative.length;
-        for (int point = 0; point < length; ++point) {
-            if (cumulative[point] >= random) {
-                final T element = (T) all[point];
-                this.info(
-                    String.format("Chosen '%s' with weight '%s'", element, current.get(element))
-                );
-                current.put(element, current.get(element) * this.factor);
-                return element;
-            }
+        final T element = (T) all[this.rand.weighted(cumulative)];
+        if (traced) {
+            this.tracer.trace(
+                Level.FINE,
+                "chosen",
+                () -> String.format("'%s' with weight '%s'", element, current.get(element))
+            );
         }
-        throw new IllegalStateException("No element was chosen");
+        current.put(element, current.get(element) * this.factor);
+        return element;
     }
 
     /**
@@ -235,12 +265,17 @@ final class Convergence<T> {
     }
 
     /**
-     * Log a message if verbose mode is enabled.
-     * @param msg Message to print.
+     * Tracer of the verbose mode.
+     * @param verbose Do we need to log changes in the weights?
+     * @return Tracer.
      */
-    private void info(final String msg) {
-        if (this.verbose) {
-            Convergence.LOG.info(msg);
+    private static Tracer tracer(final boolean verbose) {
+        final Tracer res;
+        if (verbose) {
+            res = new Tracer.Logged(Convergence.class.getName(), Level.INFO);
+        } else {
+            res = new Tracer.Off();
         }
+        return res;
     }
 }
@@ -62,6 +62,24 @@ public final class ConvergenceStrategy implements ChoosingStrategy {
         this(new Convergence<>(params));
     }
 
+    /**
+     * Constructor.
+     * @param params The convergence params.
+     * @param rand Random generator.
+     */
+    public ConvergenceStrategy(final Params params, final Rand rand) {
+        this(new Convergence<>(params, rand));
+    }
+
+    /**
+     * Constructor.
+     * @param factor Factor of convergence, the smaller it is, the shorter the derivations.
+     * @param rand Random generator.
+     */
+    public ConvergenceStrategy(final double factor, final Rand rand) {
+        this(new Convergence<>(factor, rand));
+    }
+
     /**
      * Constructor.
      * @param convergence The convergence state.
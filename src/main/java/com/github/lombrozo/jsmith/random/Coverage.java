@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.random;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Coverage of grammar alternatives shared by all generations.
+ * Each choice point is identified by its stable address in the grammar;
+ * addresses are interned into ids, and the number of times each alternative was chosen
+ * is kept in a fixed table of atomic counters indexed by the id and the alternative.
+ * Counters are spread over separate cache lines, so threads that hit different
+ * alternatives don't contend. Different pairs might share a counter if the table
+ * is full, which only makes coverage a bit less precise.
+ * The coverage is thread-safe and lock-free on the hot path.
+ * @since 0.2
+ */
+public final class Coverage {
+
+    /**
+     * Default number of counters.
+     */
+    private static final int COUNTERS = 1 << 14;
+
+    /**
+     * Distance between counters, in longs, to keep them on separate cache lines.
+     */
+    private static final int STRIDE = 8;
+
+    /**
+     * Interned addresses of choice points.
+     */
+    private final Map<String, Integer> ids;
+
+    /**
+     * Next id.
+     */
+    private final AtomicInteger next;
+
+    /**
+     * Counters.
+     */
+    private final AtomicLongArray counters;
+
+    /**
+     * Mask of a counter index.
+     */
+    private final int mask;
+
+    /**
+     * Constructor.
+     */
+    public Coverage() {
+        this(Coverage.COUNTERS);
+    }
+
+    /**
+     * Constructor.
+     * @param counters Number of counters, rounded up to a power of two.
+     */
+    public Coverage(final int counters) {
+        final int size = Integer.highestOneBit(Math.max(1, counters - 1)) << 1;
+        this.ids = new ConcurrentHashMap<>(0);
+        this.next = new AtomicInteger(0);
+        this.counters = new AtomicLongArray(size * Coverage.STRIDE);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Id of the choice point.
+     * @param address Stable address of the choice point.
+     * @return Interned id.
+     */
+    public int id(final String address) {
+        return this.ids.computeIfAbsent(address, key -> this.next.getAndIncrement());
+    }
+
+    /**
+     * How many times the alternative was chosen.
+     * @param id Id of the choice point.
+     * @param alternative Index of the alternative.
+     * @return Number of hits.
+     */
+    public long hits(final int id, final int alternative) {
+        return this.counters.get(this.slot(id, alternative));
+    }
+
+    /**
+     * Count the chosen alternative.
+     * @param id Id of the choice point.
+     * @param alternative Index of the alternative.
+     */
+    public void hit(final int id, final int alternative) {
+        this.counters.incrementAndGet(this.slot(id, alternative));
+    }
+
+    /**
+     * Number of known choice points.
+     * @return Number of interned addresses.
+     */
+    public int points() {
+        return this.ids.size();
+    }
+
+    /**
+     * Number of alternatives that were chosen at least once.
+     * @return Number of covered counters.
+     */
+    public int covered() {
+        int res = 0;
+        for (int idx = 0; idx <= this.mask; ++idx) {
+            if (this.counters.get(idx * Coverage.STRIDE) > 0L) {
+                res += 1;
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d alternatives covered at %d choice points", this.covered(), this.points()
+        );
+    }
+
+    /**
+     * Counter of the alternative.
+     * @param id Id of the choice point.
+     * @param alternative Index of the alternative.
+     * @return Index in the counters array.
+     */
+    private int slot(final int id, final int alternative) {
+        int hash = id * 0x9e3779b9 + alternative;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return (hash & this.mask) * Coverage.STRIDE;
+    }
+}
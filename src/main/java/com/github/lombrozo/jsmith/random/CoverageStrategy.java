@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.random;
+
+import com.github.lombrozo.jsmith.Params;
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Coverage-guided choosing strategy.
+ * {@link ConvergenceStrategy} forgets its weights after each derivation, so across
+ * many programs the same common alternatives keep dominating. This strategy also
+ * looks at the coverage shared by all derivations and prefers alternatives that
+ * were chosen less often at the same choice point, so rare alternatives are reached
+ * with far fewer programs.
+ * Rule objects are rebuilt for each derivation, so a choice point is identified by
+ * its stable address in the grammar, like 'expr/3', together with the addresses of
+ * the last choice points on the derivation path to it. The same alternative reached
+ * from different callers is counted separately, like in k-depth path coverage.
+ * The path is carried by the copies of the strategy, since each branch of
+ * the derivation gets its own copy.
+ * The convergence weights are still applied, so recursion is still bounded.
+ * @since 0.2
+ */
+public final class CoverageStrategy implements ChoosingStrategy {
+
+    /**
+     * Coverage shared by all the strategies in the process.
+     */
+    private static final Coverage SHARED = new Coverage();
+
+    /**
+     * Number of the previous choice points in a path.
+     */
+    private static final int DEPTH = 2;
+
+    /**
+     * Convergence state of the current derivation.
+     */
+    private final Convergence<Rule> convergence;
+
+    /**
+     * Shared coverage.
+     */
+    private final Coverage coverage;
+
+    /**
+     * Stable addresses of choice points.
+     */
+    private final Function<Rule, String> addresses;
+
+    /**
+     * Addresses of the previous choice points on the path, the oldest first.
+     */
+    private final List<String> path;
+
+    /**
+     * Address of the choice point made by this strategy, if any.
+     */
+    private String last;
+
+    /**
+     * Constructor.
+     * Uses the coverage shared by the whole process.
+     * @param params Generation params.
+     * @param rand Random generator.
+     * @param addresses Stable addresses of choice points.
+     */
+    public CoverageStrategy(
+        final Params params,
+        final Rand rand,
+        final Function<Rule, String> addresses
+    ) {
+        this(params, rand, CoverageStrategy.SHARED, addresses);
+    }
+
+    /**
+     * Constructor.
+     * @param params Generation params.
+     * @param rand Random generator.
+     * @param coverage Shared coverage.
+     * @param addresses Stable addresses of choice points.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CoverageStrategy(
+        final Params params,
+        final Rand rand,
+        final Coverage coverage,
+        final Function<Rule, String> addresses
+    ) {
+        this(new Convergence<>(params, rand), coverage, addresses, Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     * @param coverage Shared coverage.
+     */
+    CoverageStrategy(final Coverage coverage) {
+        this(new Convergence<>(0.5d, false), coverage, Rule::name, Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     * @param convergence Convergence state.
+     * @param coverage Shared coverage.
+     * @param addresses Stable addresses of choice points.
+     * @param path Addresses of the previous choice points on the path.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private CoverageStrategy(
+        final Convergence<Rule> convergence,
+        final Coverage coverage,
+        final Function<Rule, String> addresses,
+        final List<String> path
+    ) {
+        this.convergence = convergence;
+        this.coverage = coverage;
+        this.addresses = addresses;
+        this.path = path;
+    }
+
+    @Override
+    public Rule choose(final Rule parent, final List<Rule> children) {
+        final String address = this.addresses.apply(parent);
+        final StringBuilder key = new StringBuilder(0);
+        this.path.forEach(previous -> key.append(previous).append('>'));
+        final int id = this.coverage.id(
+            key.append(address).append('#').append(children.size()).toString()
+        );
+        final Rule res = this.convergence.choose(
+            parent,
+            child -> CoverageStrategy.bias(this.coverage.hits(id, children.indexOf(child))),
+            children.toArray(new Rule[0])
+        );
+        this.coverage.hit(id, children.indexOf(res));
+        this.last = address;
+        return res;
+    }
+
+    /**
+     * Coverage the strategy is guided by.
+     * @return Coverage.
+     */
+    public Coverage coverage() {
+        return this.coverage;
+    }
+
+    @Override
+    public ChoosingStrategy copy() {
+        final List<String> next;
+        if (this.last == null) {
+            next = this.path;
+        } else {
+            final List<String> longer = new ArrayList<>(this.path);
+            longer.add(this.last);
+            next = Collections.unmodifiableList(
+                new ArrayList<>(
+                    longer.subList(
+                        Math.max(0, longer.size() - CoverageStrategy.DEPTH), longer.size()
+                    )
+                )
+            );
+        }
+        return new CoverageStrategy(this.convergence.copy(), this.coverage, this.addresses, next);
+    }
+
+    /**
+     * Bias of an alternative.
+     * It decreases quadratically with the number of hits, so alternatives that
+     * were never chosen are strongly preferred.
+     * @param hits Number of times the alternative was chosen.
+     * @return Bias.
+     */
+    private static double bias(final long hits) {
+        final double next = 1.0d + hits;
+        return 1.0d / (next * next);
+    }
+}
@@ -29,6 +29,8 @@ import java.util.Random;
 
 /**
  * Random generator.
+ * Choices made by the generator might be recorded into {@link Choices},
+ * and later replayed from them without drawing random numbers.
  * @since 0.1
  */
 public final class Rand {
@@ -41,11 +43,16 @@ public final class Rand {
      */
     private final Random random;
 
+    /**
+     * The way choices are made.
+     */
+    private final Tape tape;
+
     /**
      * Default constructor.
      */
     public Rand() {
-        this(new Random());
+        this(new Random(), new Tape.Free());
     }
 
     /**
@@ -53,15 +60,36 @@ public final class Rand {
      * @param seed Random seed.
      */
     public Rand(final long seed) {
-        this(new Random(seed));
+        this(new Random(seed), new Tape.Free());
+    }
+
+    /**
+     * Constructor.
+     * Choices are drawn exactly as with {@link #Rand(long)}, and recorded.
+     * @param seed Random seed.
+     * @param trace Trace to record choices into.
+     */
+    public Rand(final long seed, final Choices trace) {
+        this(new Random(seed), new Tape.Recording(trace));
+    }
+
+    /**
+     * Constructor.
+     * Choices are replayed from the trace, nothing is drawn.
+     * @param trace Previously recorded trace.
+     */
+    public Rand(final Choices trace) {
+        this(new Random(0L), new Tape.Replaying(trace));
     }
 
     /**
      * Constructor.
      * @param rand Java random.
+     * @param tape The way choices are made.
      */
-    private Rand(final Random rand) {
+    private Rand(final Random rand, final Tape tape) {
         this.random = rand;
+        this.tape = tape;
     }
 
     /**
@@ -70,7 +98,7 @@ public final class Rand {
      * @return Random integer.
      */
     public int range(final int bound) {
-        return this.random.nextInt(bound);
+        return this.tape.pick(bound, () -> this.random.nextInt(bound));
     }
 
     /**
@@ -85,7 +113,8 @@ public final class Rand {
                 String.format("Min should be less than max, but min = %d, max = %d", min, max)
             );
         }
-        return this.random.nextInt(max - min + 1) + min;
+        final int bound = max - min + 1;
+        return this.tape.pick(bound, () -> this.random.nextInt(bound)) + min;
     }
 
     /**
@@ -104,11 +133,32 @@ public final class Rand {
      * @return Random string.
      */
     public String regex(final String regex) {
-        return new Generex(regex, this.random).random();
+        return this.tape.text(() -> new Generex(regex, this.random).random());
+    }
+
+    /**
+     * Chooses an index by cumulative weights.
+     * @param cumulative Cumulative weights, the last one is the total weight.
+     * @return Index of the first weight that is not less than a random point.
+     */
+    int weighted(final double[] cumulative) {
+        return this.tape.pick(
+            cumulative.length,
+            () -> {
+                final double point = this.floating() * cumulative[cumulative.length - 1];
+                for (int idx = 0; idx < cumulative.length; ++idx) {
+                    if (cumulative[idx] >= point) {
+                        return idx;
+                    }
+                }
+                throw new IllegalStateException("No element was chosen");
+            }
+        );
     }
 
     /**
      * Generates a random double.
+     * It's never recorded, so use {@link #weighted(double[])} to make choices.
      * @return Random double.
      */
     double floating() {
@@ -120,7 +170,7 @@ public final class Rand {
      * @return True if heads, false if tails.
      */
     boolean flip() {
-        return this.random.nextBoolean();
+        return this.tape.pick(2, () -> this.random.nextBoolean() ? 1 : 0) == 1;
     }
 
 }
@@ -29,7 +29,6 @@ import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
 import com.github.lombrozo.jsmith.antlr.view.IntermediateNode;
 import com.github.lombrozo.jsmith.antlr.view.Node;
 import com.github.lombrozo.jsmith.antlr.view.TerminalNode;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -64,11 +63,9 @@ final class Several implements Rule {
         if (this.all.isEmpty()) {
             result = new TerminalNode(this, "");
         } else {
-            final List<Node> res = new ArrayList<>(0);
-            for (final Rule rule : this.all) {
-                res.add(rule.generate(context));
-            }
-            result = new IntermediateNode(this, res);
+            result = new IntermediateNode(
+                this, context.siblings().alongside(this.all, context)
+            );
         }
         return result;
     }
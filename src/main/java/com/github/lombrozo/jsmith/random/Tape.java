@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.random;
+
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The way random choices are made.
+ * Choices might be drawn from a random generator, drawn and recorded
+ * into a trace, or replayed from a trace without drawing anything.
+ * @since 0.2
+ */
+interface Tape {
+
+    /**
+     * Make a choice.
+     * @param bound Number of options.
+     * @param draw Random choice.
+     * @return Index from 0 to the bound, exclusive.
+     */
+    int pick(int bound, IntSupplier draw);
+
+    /**
+     * Make a string.
+     * @param draw Random string.
+     * @return String.
+     */
+    String text(Supplier<String> draw);
+
+    /**
+     * Choices drawn from a random generator.
+     * @since 0.2
+     */
+    final class Free implements Tape {
+
+        @Override
+        public int pick(final int bound, final IntSupplier draw) {
+            return draw.getAsInt();
+        }
+
+        @Override
+        public String text(final Supplier<String> draw) {
+            return draw.get();
+        }
+    }
+
+    /**
+     * Choices drawn from a random generator and recorded.
+     * @since 0.2
+     */
+    final class Recording implements Tape {
+
+        /**
+         * Trace to record into.
+         */
+        private final Choices trace;
+
+        /**
+         * Constructor.
+         * @param trace Trace to record into.
+         */
+        Recording(final Choices trace) {
+            this.trace = trace;
+        }
+
+        @Override
+        public int pick(final int bound, final IntSupplier draw) {
+            final int res = draw.getAsInt();
+            this.trace.write(res);
+            return res;
+        }
+
+        @Override
+        public String text(final Supplier<String> draw) {
+            final String res = draw.get();
+            this.trace.write(res);
+            return res;
+        }
+    }
+
+    /**
+     * Choices replayed from a trace.
+     * @since 0.2
+     */
+    final class Replaying implements Tape {
+
+        /**
+         * Trace to replay.
+         */
+        private final Choices trace;
+
+        /**
+         * Constructor.
+         * @param trace Trace to replay.
+         */
+        Replaying(final Choices trace) {
+            this.trace = trace;
+        }
+
+        @Override
+        public int pick(final int bound, final IntSupplier draw) {
+            final int res = this.trace.read();
+            if (res >= bound) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Trace doesn't match the grammar: choice %d of %d options, %s",
+                        res,
+                        bound,
+                        this.trace
+                    )
+                );
+            }
+            return res;
+        }
+
+        @Override
+        public String text(final Supplier<String> draw) {
+            return this.trace.text();
+        }
+    }
+}
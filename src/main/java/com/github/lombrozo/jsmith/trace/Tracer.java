@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.trace;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Structured tracing of the generation.
+ * Tracing is called on the hot path of the generation, so callers check
+ * the level once with {@link #enabled(Level)} and only then build the details,
+ * either lazily by a supplier or from primitive arguments.
+ * The default tracer is {@link Tracer.Off}, which traces nothing and costs nothing.
+ * @since 0.2
+ */
+public interface Tracer {
+
+    /**
+     * Is the level traced?
+     * @param level Level of the events.
+     * @return True if events of the level are traced.
+     */
+    boolean enabled(Level level);
+
+    /**
+     * Trace the event.
+     * @param level Level of the event.
+     * @param event Name of the event, like 'choice'.
+     * @param details Details of the event, built only if the event is traced.
+     */
+    void trace(Level level, String event, Supplier<String> details);
+
+    /**
+     * Trace the event with a numeric value.
+     * @param level Level of the event.
+     * @param event Name of the event, like 'attempt'.
+     * @param value Value of the event.
+     */
+    void trace(Level level, String event, long value);
+
+    /**
+     * Tracer that traces nothing.
+     * @since 0.2
+     */
+    final class Off implements Tracer {
+
+        @Override
+        public boolean enabled(final Level level) {
+            return false;
+        }
+
+        @Override
+        public void trace(final Level level, final String event, final Supplier<String> details) {
+            // Nothing to trace
+        }
+
+        @Override
+        public void trace(final Level level, final String event, final long value) {
+            // Nothing to trace
+        }
+    }
+
+    /**
+     * Tracer that writes events to the logger.
+     * Events are traced only if the logger accepts their level.
+     * Events below the floor level are raised to it, so detailed events
+     * are printed by a logger with the default configuration.
+     * @since 0.2
+     */
+    final class Logged implements Tracer {
+
+        /**
+         * Logger.
+         */
+        private final Logger logger;
+
+        /**
+         * The lowest level of the traced events.
+         */
+        private final Level floor;
+
+        /**
+         * Constructor.
+         * @param name Name of the logger.
+         */
+        public Logged(final String name) {
+            this(Logger.getLogger(name));
+        }
+
+        /**
+         * Constructor.
+         * @param name Name of the logger.
+         * @param floor The lowest level of the traced events.
+         */
+        public Logged(final String name, final Level floor) {
+            this(Logger.getLogger(name), floor);
+        }
+
+        /**
+         * Constructor.
+         * @param logger Logger.
+         */
+        public Logged(final Logger logger) {
+            this(logger, Level.ALL);
+        }
+
+        /**
+         * Constructor.
+         * @param logger Logger.
+         * @param floor The lowest level of the traced events.
+         */
+        public Logged(final Logger logger, final Level floor) {
+            this.logger = logger;
+            this.floor = floor;
+        }
+
+        @Override
+        public boolean enabled(final Level level) {
+            return this.logger.isLoggable(this.raised(level));
+        }
+
+        @Override
+        public void trace(final Level level, final String event, final Supplier<String> details) {
+            this.logger.log(
+                this.raised(level), () -> String.format("%s: %s", event, details.get())
+            );
+        }
+
+        @Override
+        public void trace(final Level level, final String event, final long value) {
+            this.logger.log(this.raised(level), () -> String.format("%s: %d", event, value));
+        }
+
+        /**
+         * Raise the level to the floor.
+         * @param level Level of the event.
+         * @return Either the level or the floor, whichever is higher.
+         */
+        private Level raised(final Level level) {
+            final Level res;
+            if (level.intValue() < this.floor.intValue()) {
+                res = this.floor;
+            } else {
+                res = level;
+            }
+            return res;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link FormattingStage}.
+ * @since 0.2
+ */
+final class FormattingStageTest {
+
+    @Test
+    void formatsBatchInOrder() {
+        final List<String> sources = IntStream.range(0, 50)
+            .mapToObj(idx -> String.format("class A%d{int f(){return %d;}}", idx, idx))
+            .collect(Collectors.toList());
+        final JavaFormatter formatter = new JavaFormatter();
+        try (FormattingStage stage = new FormattingStage(formatter, 4)) {
+            MatcherAssert.assertThat(
+                "We expect that the batch will be formatted in parallel and keep the order",
+                stage.formatAll(sources),
+                Matchers.equalTo(
+                    sources.stream().map(formatter::format).collect(Collectors.toList())
+                )
+            );
+        }
+    }
+
+    @Test
+    void formatsGeneratedSources() {
+        try (FormattingStage stage = new FormattingStage()) {
+            MatcherAssert.assertThat(
+                "We expect that the source will be formatted as soon as it's generated",
+                stage.format(
+                    CompletableFuture.supplyAsync(() -> "class B{void g(){}}")
+                ).join(),
+                Matchers.containsString("void g() {")
+            );
+        }
+    }
+}
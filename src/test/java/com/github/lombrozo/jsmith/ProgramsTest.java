@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith;
+
+import com.github.lombrozo.jsmith.antlr.view.Text;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Programs}.
+ * @since 0.2
+ */
+final class ProgramsTest {
+
+    @Test
+    void repeatsTheSameProgramsForTheSameSeed() {
+        MatcherAssert.assertThat(
+            "We expect that two streams with the same seed produce the same programs",
+            ProgramsTest.outputs(42L),
+            Matchers.equalTo(ProgramsTest.outputs(42L))
+        );
+    }
+
+    @Test
+    void generatesDifferentPrograms() {
+        MatcherAssert.assertThat(
+            "We expect that the stream produces different programs",
+            ProgramsTest.outputs(7L).stream().distinct().count(),
+            Matchers.greaterThan(1L)
+        );
+    }
+
+    @Test
+    void publishesOnlyRequestedPrograms() throws InterruptedException {
+        final List<Text> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(3);
+        new RandomScript(new Params(13L), new ResourceOf("grammars/Simple.g4"))
+            .programs("expr")
+            .prefetch(2)
+            .publisher()
+            .subscribe(
+                new Flow.Subscriber<Text>() {
+                    @Override
+                    public void onSubscribe(final Flow.Subscription subscription) {
+                        subscription.request(3L);
+                    }
+
+                    @Override
+                    public void onNext(final Text item) {
+                        received.add(item);
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onError(final Throwable throwable) {
+                        throw new IllegalStateException(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        throw new IllegalStateException("Programs never complete");
+                    }
+                }
+            );
+        latch.await(1L, TimeUnit.MINUTES);
+        TimeUnit.MILLISECONDS.sleep(200L);
+        MatcherAssert.assertThat(
+            "We expect that the publisher delivers exactly as many programs as requested",
+            received,
+            Matchers.hasSize(3)
+        );
+    }
+
+    @Test
+    void signalsErrorWhenSubscriberFails() throws InterruptedException {
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        new RandomScript(new Params(13L), new ResourceOf("grammars/Simple.g4"))
+            .programs("expr")
+            .publisher()
+            .subscribe(
+                new Flow.Subscriber<Text>() {
+                    @Override
+                    public void onSubscribe(final Flow.Subscription subscription) {
+                        subscription.request(3L);
+                    }
+
+                    @Override
+                    public void onNext(final Text item) {
+                        throw new UnsupportedOperationException("Subscriber is broken");
+                    }
+
+                    @Override
+                    public void onError(final Throwable throwable) {
+                        errors.add(throwable);
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        throw new IllegalStateException("Programs never complete");
+                    }
+                }
+            );
+        latch.await(1L, TimeUnit.MINUTES);
+        TimeUnit.MILLISECONDS.sleep(200L);
+        MatcherAssert.assertThat(
+            "We expect that the failure of the subscriber is signalled exactly once",
+            errors,
+            Matchers.contains(Matchers.instanceOf(UnsupportedOperationException.class))
+        );
+    }
+
+    /**
+     * Generate a few programs.
+     * @param seed Seed.
+     * @return Program outputs.
+     */
+    private static List<String> outputs(final long seed) {
+        try (Stream<Text> stream = new RandomScript(
+            new Params(seed), new ResourceOf("grammars/Arithmetic.g4")
+        ).programs("prog").stream()) {
+            return stream.limit(20).map(Text::output).collect(Collectors.toList());
+        }
+    }
+}
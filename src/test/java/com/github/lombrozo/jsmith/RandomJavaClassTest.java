@@ -117,6 +117,18 @@ final class RandomJavaClassTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("parallel")
+    void createsCompilableJavaSourceCodeInParallel(final Params params, final String src) {
+        Assertions.assertDoesNotThrow(
+            () -> new InMemoryCompiler().compile(src),
+            String.format(
+                "The source code generated in parallel should be compilable, params: %s",
+                params
+            )
+        );
+    }
+
     /**
      * Generates many Java classes with different convergence factor value.
      * This is a performance test, so it is disabled by default.
@@ -163,4 +175,15 @@ final class RandomJavaClassTest {
             .limit(10)
             .map(params -> Arguments.of(params, new RandomJavaClass(params).src()));
     }
+
+    /**
+     * Generate random programs with independent subtrees generated in parallel.
+     * @return Stream of random programs.
+     */
+    static Stream<Arguments> parallel() {
+        return Stream.generate(Params::new)
+            .map(Params::concurrently)
+            .limit(10)
+            .map(params -> Arguments.of(params, new RandomJavaClass(params).src()));
+    }
 }
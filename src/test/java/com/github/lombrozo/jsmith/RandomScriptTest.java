@@ -23,12 +23,32 @@
  */
 package com.github.lombrozo.jsmith;
 
+import com.github.lombrozo.jsmith.antlr.Probe;
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import com.github.lombrozo.jsmith.antlr.view.CapturedNode;
+import com.github.lombrozo.jsmith.antlr.view.Lexemes;
 import com.github.lombrozo.jsmith.antlr.view.Text;
+import com.github.lombrozo.jsmith.random.Choices;
+import com.github.lombrozo.jsmith.random.Coverage;
+import com.github.lombrozo.jsmith.random.CoverageStrategy;
+import com.github.lombrozo.jsmith.random.Rand;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
+import org.cactoos.Input;
+import org.cactoos.io.InputOf;
 import org.cactoos.io.ResourceOf;
+import org.cactoos.scalar.Unchecked;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 /**
  * Tests for {@link RandomScript}.
@@ -177,4 +197,325 @@ final class RandomScriptTest {
             Matchers.not(Matchers.emptyString())
         );
     }
+
+    @RepeatedTest(10)
+    void mutatesGeneratedTree() {
+        final CapturedNode tree = new RandomScript(new ResourceOf("grammars/Simple.g4"))
+            .tree("expr");
+        final List<Integer> path = new ArrayList<>(0);
+        CapturedNode current = tree;
+        while (!current.subtrees().isEmpty()) {
+            path.add(current.subtrees().size() - 1);
+            current = current.subtrees().get(current.subtrees().size() - 1);
+        }
+        MatcherAssert.assertThat(
+            "We expect that the mutated tree is still a valid Simple expression",
+            new Unchecked<>(() -> tree.regenerate(path)).value().text().output(),
+            Matchers.matchesPattern("[0-9]+(\\+[0-9]+)*")
+        );
+    }
+
+    @RepeatedTest(5)
+    void replaysRecordedChoices() {
+        final Choices trace = new Choices();
+        final long seed = new Random().nextLong();
+        final String recorded = new RandomScript(
+            new Params(seed),
+            new ResourceOf("grammars/Java8ReducedLexer.g4"),
+            new ResourceOf("grammars/Java8ReducedParser.g4")
+        ).record("compilationUnit", trace).text().output();
+        final String replayed = new RandomScript(
+            new Params(seed + 1),
+            new ResourceOf("grammars/Java8ReducedLexer.g4"),
+            new ResourceOf("grammars/Java8ReducedParser.g4")
+        ).replay("compilationUnit", new Choices(trace.bytes())).text().output();
+        MatcherAssert.assertThat(
+            String.format(
+                "We expect that the program will be replayed from %d bytes of choices",
+                trace.size()
+            ),
+            replayed,
+            Matchers.equalTo(recorded)
+        );
+    }
+
+    @Test
+    void recordsTheSameProgramAsGenerated() {
+        final RandomScript script = new RandomScript(
+            new Params(42L), new ResourceOf("grammars/Arithmetic.g4")
+        );
+        MatcherAssert.assertThat(
+            "We expect that recording doesn't change the generated program",
+            script.record("prog", new Choices()).text().output(),
+            Matchers.equalTo(script.generate("prog").output())
+        );
+    }
+
+    @RepeatedTest(5)
+    void generatesCoverageGuidedPrograms() {
+        MatcherAssert.assertThat(
+            "We expect that coverage-guided generation still produces valid Simple expressions",
+            new RandomScript(
+                new Params(new Random().nextLong()).guidedByCoverage(),
+                new ResourceOf("grammars/Simple.g4")
+            ).generate("expr").output(),
+            Matchers.matchesPattern("[0-9]+(\\+[0-9]+)*")
+        );
+    }
+
+    @Test
+    void hitsSameCoverageIdsInRebuiltGrammars() {
+        final Params params = new Params(7L).guidedByCoverage();
+        final Coverage shared = new CoverageStrategy(params, new Rand(), Rule::name).coverage();
+        final RandomScript script = new RandomScript(params, new ResourceOf("grammars/Simple.g4"));
+        script.generate("number");
+        final int first = shared.points();
+        script.generate("number");
+        MatcherAssert.assertThat(
+            "We expect that the second derivation hits the same coverage ids as the first one",
+            shared.points(),
+            Matchers.equalTo(first)
+        );
+    }
+
+    @Test
+    void passesTypesToSiblingsInParallelGeneration() {
+        final Input grammar = new InputOf(
+            String.join(
+                "\n",
+                "grammar Typed;",
+                "prog : pair pair pair pair pair pair ;",
+                "pair : /* $jsmith-type */ kind value ;",
+                "kind : 'int' | 'bool' ;",
+                "value : /* $jsmith-predicate(int) */ number ';'",
+                "      | /* $jsmith-predicate(bool) */ flag ';'",
+                "      ;",
+                "number : '1' ;",
+                "flag : 'true' ;"
+            )
+        );
+        for (long seed = 0L; seed < 20L; ++seed) {
+            final String sequential = new RandomScript(new Params(seed), grammar)
+                .generate("prog").output();
+            final String parallel = new RandomScript(new Params(seed).concurrently(), grammar)
+                .generate("prog").output();
+            MatcherAssert.assertThat(
+                "We expect that each value matches the type generated by its left sibling",
+                parallel.replaceAll("\\s", ""),
+                Matchers.matchesPattern("((int1;)|(booltrue;))+")
+            );
+            MatcherAssert.assertThat(
+                "We expect that typed siblings are generated in parallel exactly as in order",
+                parallel,
+                Matchers.equalTo(sequential)
+            );
+        }
+    }
+
+    @Test
+    void forksIndependentSubtreesOfGrammar() {
+        final Input grammar = new InputOf(
+            String.join(
+                "\n",
+                "grammar Pairs;",
+                "prog : ('x' | 'y') pair pair pair pair pair pair ('x' | 'y') ;",
+                "pair : '(' item ')' ;",
+                "item : 'a' 'b' ;"
+            )
+        );
+        for (long seed = 0L; seed < 20L; ++seed) {
+            final Forks forks = new Forks();
+            final String parallel = new RandomScript(new Params(seed).concurrently(), grammar)
+                .probed(forks)
+                .generate("prog").output();
+            MatcherAssert.assertThat(
+                "We expect that sibling subtrees with rule references are forked",
+                forks.queued.get(),
+                Matchers.greaterThan(0)
+            );
+            MatcherAssert.assertThat(
+                "We expect that forked subtrees are joined back in the right order",
+                parallel.replaceAll("\\s", ""),
+                Matchers.matchesPattern("[xy](\\(ab\\)){6}[xy]")
+            );
+            MatcherAssert.assertThat(
+                "We expect that forked generation gives the same program for the same seed",
+                parallel,
+                Matchers.equalTo(
+                    new RandomScript(new Params(seed), grammar).generate("prog").output()
+                )
+            );
+        }
+    }
+
+    @Test
+    void forksSubtreesOfJavaClassTokens() {
+        final Forks forks = new Forks();
+        for (long seed = 0L; seed < 10L; ++seed) {
+            new RandomScript(
+                new Params(seed).concurrently(),
+                new ResourceOf("grammars/Java8ReducedParser.g4"),
+                new ResourceOf("grammars/Java8ReducedLexer.g4")
+            ).probed(forks).lexemes("compilationUnit").iterator();
+        }
+        MatcherAssert.assertThat(
+            "We expect that tokens of Java classes are generated with forked subtrees",
+            forks.queued.get(),
+            Matchers.greaterThan(0)
+        );
+    }
+
+    @Test
+    void generatesTheSameTextWithoutCapturedContexts() {
+        for (long seed = 0L; seed < 10L; ++seed) {
+            final RandomScript script = new RandomScript(
+                new Params(seed),
+                new ResourceOf("grammars/Java8ReducedLexer.g4"),
+                new ResourceOf("grammars/Java8ReducedParser.g4")
+            );
+            MatcherAssert.assertThat(
+                "We expect that the text doesn't depend on whether contexts are captured",
+                script.generate("compilationUnit").output(),
+                Matchers.equalTo(script.tree("compilationUnit").text().output())
+            );
+        }
+    }
+
+    @Test
+    void streamsTheSameTokensAsTheTree() {
+        for (long seed = 0L; seed < 20L; ++seed) {
+            final RandomScript script = new RandomScript(
+                new Params(seed),
+                new ResourceOf("grammars/Java8ReducedLexer.g4"),
+                new ResourceOf("grammars/Java8ReducedParser.g4")
+            );
+            final StringBuilder streamed = new StringBuilder(0);
+            script.lexemes("compilationUnit").forEach(lexeme -> streamed.append(lexeme.text()));
+            final StringBuilder walked = new StringBuilder(0);
+            new Lexemes(script.tree("compilationUnit"))
+                .forEach(lexeme -> walked.append(lexeme.text()));
+            MatcherAssert.assertThat(
+                "We expect that tokens streamed during the derivation are the tokens of the tree",
+                streamed.toString(),
+                Matchers.equalTo(walked.toString())
+            );
+        }
+    }
+
+    @Test
+    void streamsTokensBeforeTheDerivationEnds() throws IOException {
+        final Depth depth = new Depth();
+        new RandomScript(new Params(7L), new ResourceOf("grammars/Simple.g4"))
+            .probed(depth)
+            .lexemes("expr")
+            .writeTo(depth);
+        MatcherAssert.assertThat(
+            "We expect that tokens are written right to the sink",
+            depth.written,
+            Matchers.not(Matchers.empty())
+        );
+        MatcherAssert.assertThat(
+            "We expect that tokens are written while the derivation is still running",
+            depth.written,
+            Matchers.everyItem(Matchers.greaterThan(0))
+        );
+    }
+
+    /**
+     * Probe that notices forked subtrees.
+     * A forked subtree waits in the queue of the fork-join worker,
+     * while its left sibling is derived.
+     * @since 0.2
+     */
+    private static final class Forks implements Probe {
+
+        /**
+         * The largest number of queued subtrees seen while deriving rules.
+         */
+        private final AtomicInteger queued = new AtomicInteger(0);
+
+        @Override
+        public void grammar(final Set<String> rules, final Map<String, Integer> points) {
+            // Nothing to do
+        }
+
+        @Override
+        public void rule(final String name) {
+            this.queued.accumulateAndGet(ForkJoinTask.getQueuedTaskCount(), Math::max);
+        }
+
+        @Override
+        public void leave(final String name) {
+            // Nothing to do
+        }
+
+        @Override
+        public Trial trial(final String kind) {
+            return new Probe.Idle();
+        }
+
+        @Override
+        public void alternative(final String point, final int index, final int options) {
+            // Nothing to do
+        }
+    }
+
+    /**
+     * Probe that counts the rules being derived right now
+     * and remembers the count at each written token.
+     * @since 0.2
+     */
+    private static final class Depth implements Probe, Appendable {
+
+        /**
+         * Number of the open rules at each written token.
+         */
+        private final List<Integer> written = new ArrayList<>(0);
+
+        /**
+         * Number of the open rules.
+         */
+        private int open;
+
+        @Override
+        public void grammar(final Set<String> rules, final Map<String, Integer> points) {
+            // Nothing to do
+        }
+
+        @Override
+        public void rule(final String name) {
+            this.open = this.open + 1;
+        }
+
+        @Override
+        public void leave(final String name) {
+            this.open = this.open - 1;
+        }
+
+        @Override
+        public Trial trial(final String kind) {
+            return new Probe.Idle();
+        }
+
+        @Override
+        public void alternative(final String point, final int index, final int options) {
+            // Nothing to do
+        }
+
+        @Override
+        public Appendable append(final CharSequence text) {
+            this.written.add(this.open);
+            return this;
+        }
+
+        @Override
+        public Appendable append(final CharSequence text, final int start, final int end) {
+            return this.append(text.subSequence(start, end));
+        }
+
+        @Override
+        public Appendable append(final char character) {
+            return this.append(String.valueOf(character));
+        }
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr;
+
+import com.github.lombrozo.jsmith.antlr.rules.Literal;
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Footprints}.
+ * @since 0.2
+ */
+final class FootprintsTest {
+
+    @Test
+    void considersReadOnlySubtreeIndependent() {
+        final Footprints prints = new Footprints();
+        final Rule reader = new Literal("reader");
+        FootprintsTest.rule(prints, "expr", false, false);
+        prints.enter(reader);
+        prints.reference("expr");
+        prints.exit();
+        MatcherAssert.assertThat(
+            "We expect that a subtree that only reads the scope is independent",
+            prints.independent(reader),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void considersDeclaringSubtreeDependent() {
+        final Footprints prints = new Footprints();
+        final Rule writer = new Literal("writer");
+        FootprintsTest.rule(prints, "expr", false, false);
+        prints.enter(writer);
+        prints.reference("expr");
+        prints.write();
+        prints.exit();
+        MatcherAssert.assertThat(
+            "We expect that a subtree that declares variables is dependent",
+            prints.independent(writer),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void findsDeclarationsThroughReferences() {
+        final Footprints prints = new Footprints();
+        final Rule caller = new Literal("caller");
+        FootprintsTest.rule(prints, "declaration", true, false);
+        prints.enter(new Literal("statement"));
+        prints.rule("statement", false);
+        prints.reference("declaration");
+        prints.exit();
+        prints.enter(caller);
+        prints.reference("statement");
+        prints.exit();
+        MatcherAssert.assertThat(
+            "We expect that declarations are found through the chain of rule references",
+            prints.independent(caller),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsDeclarationsInsideScope() {
+        final Footprints prints = new Footprints();
+        final Rule method = new Literal("method");
+        FootprintsTest.rule(prints, "block", true, true);
+        prints.enter(method);
+        prints.reference("block");
+        prints.exit();
+        MatcherAssert.assertThat(
+            "We expect that declarations inside a scope don't make the subtree dependent",
+            prints.independent(method),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void findsTypesThroughScopes() {
+        final Footprints prints = new Footprints();
+        final Rule caller = new Literal("caller");
+        prints.enter(new Literal("type"));
+        prints.rule("type", true);
+        prints.emit();
+        prints.exit();
+        prints.enter(caller);
+        prints.reference("type");
+        prints.exit();
+        MatcherAssert.assertThat(
+            "We expect that a subtree producing a type is dependent even inside a scope",
+            prints.independent(caller),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void findsChecksThroughReferences() {
+        final Footprints prints = new Footprints();
+        final Rule caller = new Literal("caller");
+        prints.enter(new Literal("usage"));
+        prints.rule("usage", false);
+        prints.check();
+        prints.exit();
+        prints.enter(caller);
+        prints.reference("usage");
+        prints.exit();
+        MatcherAssert.assertThat(
+            "We expect that a subtree referencing a semantic check might be rejected",
+            prints.fallible(caller),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotForkTerminals() {
+        final Footprints prints = new Footprints();
+        final Rule terminal = new Literal("terminal");
+        prints.enter(terminal);
+        prints.exit();
+        MatcherAssert.assertThat(
+            "We expect that subtrees without parser rule references aren't worth forking",
+            prints.independent(terminal),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void addressesNodesByTheirPlaceInRule() {
+        final Footprints prints = new Footprints();
+        final Rule first = new Literal("first");
+        final Rule second = new Literal("second");
+        prints.owner("expr");
+        prints.place(first);
+        prints.place(second);
+        MatcherAssert.assertThat(
+            "We expect that nodes are addressed by the owning rule and their order in it",
+            prints.address(second),
+            Matchers.equalTo("expr/1")
+        );
+    }
+
+    /**
+     * Register a parser rule.
+     * @param prints Footprints.
+     * @param name Rule name.
+     * @param writes Does the rule declare variables?
+     * @param scope Does the rule open a new scope?
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static void rule(
+        final Footprints prints,
+        final String name,
+        final boolean writes,
+        final boolean scope
+    ) {
+        prints.enter(new Literal(name));
+        prints.rule(name, scope);
+        if (writes) {
+            prints.write();
+        }
+        prints.exit();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr;
+
+import com.github.lombrozo.jsmith.antlr.rules.Literal;
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
+import com.github.lombrozo.jsmith.antlr.semantic.Scope;
+import com.github.lombrozo.jsmith.antlr.view.IntermediateNode;
+import com.github.lombrozo.jsmith.antlr.view.Node;
+import com.github.lombrozo.jsmith.random.ConvergenceStrategy;
+import com.github.lombrozo.jsmith.random.Rand;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ForkJoinSiblings}.
+ * @since 0.2
+ */
+final class ForkJoinSiblingsTest {
+
+    @Test
+    void keepsOriginalOrderOfForkedSiblings() throws WrongPathException {
+        final Footprints prints = new Footprints();
+        final List<Rule> rules = IntStream.range(0, 100)
+            .mapToObj(String::valueOf)
+            .map(Literal::new)
+            .peek(prints::enter)
+            .peek(rule -> prints.reference("any"))
+            .peek(rule -> prints.exit())
+            .collect(Collectors.toList());
+        final Siblings siblings = new ForkJoinSiblings(prints);
+        final Context context = new Context(
+            new Scope(new Rand()), new ConvergenceStrategy(), siblings
+        );
+        MatcherAssert.assertThat(
+            "We expect that forked siblings are merged in their original order",
+            siblings.root(
+                () -> new IntermediateNode(new Literal("all"), siblings.leftToRight(rules, context))
+            ).text().output(),
+            Matchers.equalTo(
+                IntStream.range(0, 100).mapToObj(String::valueOf).collect(Collectors.joining())
+            )
+        );
+    }
+
+    @Test
+    void rethrowsWrongPathFromForkedSibling() {
+        final Footprints prints = new Footprints();
+        final Rule failing = new Failing();
+        final Rule literal = new Literal("ok");
+        for (final Rule rule : List.of(failing, literal)) {
+            prints.enter(rule);
+            prints.reference("any");
+            prints.exit();
+        }
+        final Siblings siblings = new ForkJoinSiblings(prints);
+        final Context context = new Context(
+            new Scope(new Rand()), new ConvergenceStrategy(), siblings
+        );
+        Assertions.assertThrows(
+            WrongPathException.class,
+            () -> siblings.root(
+                () -> siblings.alongside(List.of(failing, literal), context).get(0)
+            ),
+            "We expect that the generation failure of a forked sibling is propagated"
+        );
+    }
+
+    /**
+     * Rule that always fails.
+     * @since 0.2
+     */
+    private static final class Failing implements Rule {
+
+        @Override
+        public Rule parent() {
+            return this;
+        }
+
+        @Override
+        public Node generate(final Context context) throws WrongPathException {
+            throw new WrongPathException("Always fails");
+        }
+
+        @Override
+        public void append(final Rule rule) {
+            throw new UnsupportedOperationException("Failing rule cannot have children");
+        }
+
+        @Override
+        public String name() {
+            return "failing";
+        }
+
+        @Override
+        public Rule copy() {
+            return new Failing();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import com.github.lombrozo.jsmith.RandomScript;
+import com.github.lombrozo.jsmith.antlr.Context;
+import com.github.lombrozo.jsmith.antlr.Unparser;
+import com.github.lombrozo.jsmith.antlr.rules.Empty;
+import com.github.lombrozo.jsmith.antlr.rules.Literal;
+import com.github.lombrozo.jsmith.antlr.rules.ParserRuleSpec;
+import com.github.lombrozo.jsmith.antlr.rules.Ruleref;
+import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cactoos.io.InputOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link CapturedNode}.
+ * @since 0.2
+ */
+final class CapturedNodeTest {
+
+    @Test
+    void findsClosestSubtrees() throws WrongPathException {
+        MatcherAssert.assertThat(
+            "We expect that the pair has exactly two captured subtrees",
+            CapturedNodeTest.pair().subtrees(),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void sharesSubtreesOutsideOfThePath() throws WrongPathException {
+        final CapturedNode original = CapturedNodeTest.pair();
+        final CapturedNode mutant = original.regenerate(List.of(1));
+        MatcherAssert.assertThat(
+            "We expect that the left subtree is shared between the original and the mutant",
+            mutant.subtrees().get(0),
+            Matchers.sameInstance(original.subtrees().get(0))
+        );
+        MatcherAssert.assertThat(
+            "We expect that the right subtree is regenerated",
+            mutant.subtrees().get(1),
+            Matchers.not(Matchers.sameInstance(original.subtrees().get(1)))
+        );
+        MatcherAssert.assertThat(
+            "We expect that the mutant renders the same text as the original one",
+            mutant.text().output(),
+            Matchers.equalTo(original.text().output())
+        );
+    }
+
+    @Test
+    void regeneratesWholeNodeByEmptyPath() throws WrongPathException {
+        final CapturedNode original = CapturedNodeTest.pair();
+        MatcherAssert.assertThat(
+            "We expect that empty path regenerates the whole node",
+            original.regenerate(Collections.emptyList()).subtrees().get(0),
+            Matchers.not(Matchers.sameInstance(original.subtrees().get(0)))
+        );
+    }
+
+    @Test
+    void rejectsWrongPath() throws WrongPathException {
+        final CapturedNode original = CapturedNodeTest.pair();
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> original.regenerate(List.of(0, 0)),
+            "We expect that a path to a missing subtree is rejected"
+        );
+    }
+
+    @Test
+    void regeneratesWithVariablesVisibleAtCapture() throws WrongPathException {
+        final CapturedNode program = new RandomScript(
+            new InputOf(
+                String.join(
+                    "\n",
+                    "grammar Vars;",
+                    "prog : stmt stmt stmt stmt ;",
+                    "stmt : /* $jsmith-var-decl */ ID ';'",
+                    "     | /* $jsmith-var-init */ /* $jsmith-var-target */ ID '=1;'",
+                    "     ;",
+                    "ID : [a-z]+ ;"
+                )
+            )
+        ).tree("prog");
+        final List<CapturedNode> regenerated = IntStream.range(0, 20)
+            .mapToObj(
+                idx -> {
+                    try {
+                        return program.regenerate(List.of(0)).subtrees().get(0);
+                    } catch (final WrongPathException exception) {
+                        throw new IllegalStateException(exception);
+                    }
+                }
+            )
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "We expect that the first statement never sees variables declared after it",
+            regenerated.stream()
+                .map(node -> node.text().output().replaceAll("\\s", ""))
+                .collect(Collectors.toList()),
+            Matchers.everyItem(Matchers.matchesPattern("[a-z]+;"))
+        );
+    }
+
+    /**
+     * Generate a pair of two captured subtrees.
+     * @return Captured pair.
+     * @throws WrongPathException If the generation fails.
+     */
+    private static CapturedNode pair() throws WrongPathException {
+        final Unparser unparser = new Unparser();
+        final ParserRuleSpec item = new ParserRuleSpec("item", new Empty());
+        item.append(new Literal("x"));
+        final ParserRuleSpec pair = new ParserRuleSpec("pair", new Empty());
+        pair.append(new Ruleref(pair, "item", unparser));
+        pair.append(new Ruleref(pair, "item", unparser));
+        unparser.with("item", item).with("pair", pair);
+        return new Ruleref(new Empty(), "pair", unparser).generate(new Context());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import com.github.lombrozo.jsmith.RandomScript;
+import com.github.lombrozo.jsmith.antlr.Emitter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Emission}.
+ * @since 0.2
+ */
+final class EmissionTest {
+
+    @Test
+    void takesTokensOutOfTheNode() {
+        final CapturedNode tree = new RandomScript(new ResourceOf("grammars/Simple.g4"))
+            .tree("expr");
+        final List<Lexeme> sink = new ArrayList<>(0);
+        final Node rest = new Emission(rule -> false, sink::add).emit(tree);
+        MatcherAssert.assertThat(
+            "We expect that all the tokens of the node go to the sink",
+            sink.stream().map(Lexeme::text).collect(Collectors.joining()),
+            Matchers.equalTo(tree.text().output())
+        );
+        MatcherAssert.assertThat(
+            "We expect that the node without tokens is kept instead of the whole subtree",
+            rest.text().output(),
+            Matchers.emptyString()
+        );
+    }
+
+    @Test
+    void dropsHeldTokensOfFailedAttempt() {
+        final List<Lexeme> sink = new ArrayList<>(0);
+        final Emission emission = new Emission(rule -> true, sink::add);
+        emission.emit(new TerminalNode("test", "kept"));
+        final Emitter.Frame frame = emission.frame(true);
+        emission.emit(new TerminalNode("test", "dropped"));
+        MatcherAssert.assertThat(
+            "We expect that the attempt that holds tokens can be dropped",
+            frame.drop(),
+            Matchers.is(true)
+        );
+        emission.emit(new TerminalNode("test", "retried"));
+        MatcherAssert.assertThat(
+            "We expect that the tokens of the dropped attempt never reach the sink",
+            sink.stream().map(Lexeme::text).collect(Collectors.toList()),
+            Matchers.contains("kept", "retried")
+        );
+    }
+
+    @Test
+    void refusesToDropTokensThatAlreadyLeft() {
+        final List<Lexeme> sink = new ArrayList<>(0);
+        final Emission emission = new Emission(rule -> false, sink::add);
+        final Emitter.Frame frame = emission.frame(false);
+        emission.emit(new TerminalNode("test", "gone"));
+        MatcherAssert.assertThat(
+            "We expect that the attempt can't be dropped after its tokens left the emitter",
+            frame.drop(),
+            Matchers.is(false)
+        );
+    }
+}
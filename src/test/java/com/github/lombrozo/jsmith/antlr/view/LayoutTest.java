@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Layout}.
+ * @since 0.2
+ */
+final class LayoutTest {
+
+    @Test
+    void indentsBlocks() {
+        MatcherAssert.assertThat(
+            "We expect that blocks will be indented and statements will be on separate lines",
+            new Layout(
+                LayoutTest.lexemes(
+                    "class", " ", "A", "{", "void", " ", "f", "(", ")", "{",
+                    "for", "(", "i", "=", "0", ";", "i", "<", "1", ";", ")", "{", "}",
+                    "x", "=", "1", ";", "}", "}"
+                ),
+                "\n"
+            ).text(),
+            Matchers.equalTo(
+                String.join(
+                    "\n",
+                    "class A{",
+                    "    void f(){",
+                    "        for(i=0;i<1;){",
+                    "        }",
+                    "        x=1;",
+                    "    }",
+                    "}",
+                    ""
+                )
+            )
+        );
+    }
+
+    @Test
+    void collapsesWhitespaceTokens() {
+        MatcherAssert.assertThat(
+            "We expect that whitespace tokens will become a single space or a line break",
+            new Layout(
+                LayoutTest.lexemes(
+                    "package", " ", "a", ";", "\n", "\n", "import", " ", " ", "b", ";", "\n",
+                    "int", " ", "a", "=", "new", " ", "int", "[", "]", "{", "1", "}", ";"
+                ),
+                "\n"
+            ).text(),
+            Matchers.equalTo(
+                String.join(
+                    "\n",
+                    "package a;",
+                    "import b;",
+                    "int a=new int[]{",
+                    "    1",
+                    "};",
+                    ""
+                )
+            )
+        );
+    }
+
+    /**
+     * Lexemes without token names.
+     * @param texts Texts of the lexemes.
+     * @return Lexemes.
+     */
+    private static List<Lexeme> lexemes(final String... texts) {
+        return Arrays.stream(texts)
+            .map(text -> new Lexeme(null, text))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import com.github.lombrozo.jsmith.RandomScript;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Lexemes}.
+ * @since 0.2
+ */
+final class LexemesTest {
+
+    @RepeatedTest(5)
+    void writesTheSameTextAsTheTree() throws IOException {
+        final CapturedNode tree = LexemesTest.expression();
+        final StringBuilder sink = new StringBuilder(0);
+        new Lexemes(tree).writeTo(sink);
+        MatcherAssert.assertThat(
+            "We expect that tokens compose exactly the text of the tree",
+            sink.toString(),
+            Matchers.equalTo(tree.text().output())
+        );
+    }
+
+    @Test
+    void writesIntoChannel() throws IOException {
+        final CapturedNode tree = LexemesTest.expression();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new Lexemes(tree).writeTo(Channels.newChannel(out));
+        MatcherAssert.assertThat(
+            "We expect that tokens are written into the channel in UTF-8",
+            out.toString(StandardCharsets.UTF_8),
+            Matchers.equalTo(tree.text().output())
+        );
+    }
+
+    @RepeatedTest(5)
+    void namesTokensLikeAntlrVocabulary() {
+        MatcherAssert.assertThat(
+            "We expect that each token is named after its lexer rule",
+            StreamSupport.stream(new Lexemes(LexemesTest.expression()).spliterator(), false)
+                .map(Lexeme::token)
+                .map(Optional::get)
+                .collect(Collectors.toSet()),
+            Matchers.everyItem(Matchers.oneOf("NUMBER", "PLUS"))
+        );
+    }
+
+    /**
+     * Generate a random expression tree.
+     * @return Expression tree.
+     */
+    private static CapturedNode expression() {
+        return new RandomScript(new ResourceOf("grammars/Simple.g4")).tree("expr");
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.antlr.view;
+
+import com.github.lombrozo.jsmith.RandomScript;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Reducer}.
+ * @since 0.2
+ */
+final class ReducerTest {
+
+    @RepeatedTest(10)
+    void reducesToTheSmallestInterestingExpression() {
+        CapturedNode tree = ReducerTest.expression();
+        while (!tree.text().output().contains("+")) {
+            tree = ReducerTest.expression();
+        }
+        MatcherAssert.assertThat(
+            "We expect that the expression is reduced to a single addition",
+            new Reducer(text -> text.output().contains("+"))
+                .reduce(tree)
+                .text()
+                .output(),
+            Matchers.matchesPattern("[0-9]+\\+[0-9]+")
+        );
+    }
+
+    @Test
+    void reducesRuleThatOccursOnlyOnce() {
+        CapturedNode tree = ReducerTest.items();
+        while (tree.text().output().replaceAll("\\s", "").length() < 5) {
+            tree = ReducerTest.items();
+        }
+        MatcherAssert.assertThat(
+            "We expect that the only 'items' will be replaced by its shortest derivation",
+            new Reducer(text -> text.output().contains("("))
+                .reduce(tree)
+                .text()
+                .output(),
+            Matchers.matchesPattern("\\(\\s*x\\s*\\)")
+        );
+    }
+
+    @Test
+    void rejectsUninterestingTree() {
+        final CapturedNode tree = ReducerTest.expression();
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Reducer(text -> false).reduce(tree),
+            "We expect that an uninteresting tree can't be reduced"
+        );
+    }
+
+    /**
+     * Generate a random expression tree.
+     * @return Expression tree.
+     */
+    private static CapturedNode expression() {
+        return new RandomScript(new ResourceOf("grammars/Simple.g4")).tree("expr");
+    }
+
+    /**
+     * Generate a random tree with a single list of items.
+     * @return Tree of items.
+     */
+    private static CapturedNode items() {
+        return new RandomScript(
+            new InputOf(
+                String.join(
+                    "\n",
+                    "grammar Items;",
+                    "top : '(' items ')' ;",
+                    "items : ITEM | ITEM ITEM ITEM | ITEM ITEM ITEM ITEM ITEM ;",
+                    "ITEM : 'x' ;"
+                )
+            )
+        ).tree("top");
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.corpus;
+
+import com.github.lombrozo.jsmith.RandomJavaClass;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link CorpusWriter} and {@link CorpusReader}.
+ * @since 0.2
+ */
+final class CorpusTest {
+
+    /**
+     * Shared dictionary for tests.
+     */
+    private static final byte[] DICTIONARY =
+        "public class static void int return new final private "
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void readsStoredPrograms(@TempDir final Path dir) throws IOException {
+        try (CorpusWriter writer = new CorpusWriter(dir)) {
+            writer.write(1L, "class First { }");
+            writer.write(2L, "class Second { int ŝ; }");
+        }
+        try (CorpusReader reader = new CorpusReader(dir)) {
+            MatcherAssert.assertThat(
+                "We expect that the stored program will be read by its seed",
+                reader.read(2L),
+                Matchers.equalTo(Optional.of("class Second { int ŝ; }"))
+            );
+        }
+    }
+
+    @Test
+    void readsDeflatedPrograms(@TempDir final Path dir) throws IOException {
+        final String program = new RandomJavaClass(7L).src();
+        try (CorpusWriter writer = new CorpusWriter(dir, CorpusTest.DICTIONARY)) {
+            writer.write(7L, program);
+        }
+        try (CorpusReader reader = new CorpusReader(dir, CorpusTest.DICTIONARY)) {
+            MatcherAssert.assertThat(
+                "We expect that the deflated program will be inflated with the dictionary",
+                reader.read(7L),
+                Matchers.equalTo(Optional.of(program))
+            );
+        }
+        MatcherAssert.assertThat(
+            "We expect that the deflated program will be smaller than the original",
+            Files.size(dir.resolve("segment-00001.dat")),
+            Matchers.lessThan((long) program.getBytes(StandardCharsets.UTF_8).length)
+        );
+    }
+
+    @Test
+    void splitsCorpusIntoSegments(@TempDir final Path dir) throws IOException {
+        try (CorpusWriter writer = new CorpusWriter(dir, 64L, new byte[0])) {
+            for (long seed = 0L; seed < 20L; ++seed) {
+                writer.write(seed, String.format("class Program%d { int value = %d; }", seed, seed));
+            }
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            MatcherAssert.assertThat(
+                "We expect that the corpus will be split into several segments",
+                files.filter(file -> file.toString().endsWith(".dat")).count(),
+                Matchers.greaterThan(1L)
+            );
+        }
+        try (CorpusReader reader = new CorpusReader(dir, new byte[0])) {
+            MatcherAssert.assertThat(
+                "We expect that a program from any segment will be read",
+                reader.read(13L),
+                Matchers.equalTo(Optional.of("class Program13 { int value = 13; }"))
+            );
+        }
+    }
+
+    @Test
+    void appendsToExistingCorpus(@TempDir final Path dir) throws IOException {
+        try (CorpusWriter writer = new CorpusWriter(dir)) {
+            writer.write(1L, "class Old { }");
+        }
+        try (CorpusWriter writer = new CorpusWriter(dir)) {
+            writer.write(1L, "class New { }");
+            writer.write(2L, "class Other { }");
+        }
+        try (CorpusReader reader = new CorpusReader(dir)) {
+            MatcherAssert.assertThat(
+                "We expect that the last program with the same seed will win",
+                reader.read(1L),
+                Matchers.equalTo(Optional.of("class New { }"))
+            );
+            MatcherAssert.assertThat(
+                "We expect that all seeds will be indexed",
+                reader.seeds(),
+                Matchers.containsInAnyOrder(1L, 2L)
+            );
+        }
+    }
+
+    @Test
+    void returnsEmptyForUnknownSeed(@TempDir final Path dir) throws IOException {
+        try (CorpusWriter writer = new CorpusWriter(dir)) {
+            writer.write(1L, "class Known { }");
+        }
+        try (CorpusReader reader = new CorpusReader(dir)) {
+            MatcherAssert.assertThat(
+                "We expect that an unknown seed will not be found",
+                reader.read(42L),
+                Matchers.equalTo(Optional.empty())
+            );
+        }
+    }
+}
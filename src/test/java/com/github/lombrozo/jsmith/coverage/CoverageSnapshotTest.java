@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.coverage;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CoverageSnapshot}.
+ * @since 0.2
+ */
+final class CoverageSnapshotTest {
+
+    @Test
+    void exportsCsv() {
+        final GrammarCoverage coverage = new GrammarCoverage();
+        coverage.rule("expr");
+        coverage.alternative("expr/1", 1, 2);
+        MatcherAssert.assertThat(
+            "We expect that each rule and alternative will be a CSV row",
+            coverage.snapshot().csv(),
+            Matchers.equalTo(
+                "kind,name,hits\nrule,expr,1\nalternative,expr/1#0,0\nalternative,expr/1#1,1\n"
+            )
+        );
+    }
+
+    @Test
+    void escapesCsvFields() {
+        final GrammarCoverage coverage = new GrammarCoverage();
+        coverage.alternative("altList(size=2, \"a\")", 0, 1);
+        MatcherAssert.assertThat(
+            "We expect that commas and quotes in names will be escaped",
+            coverage.snapshot().csv(),
+            Matchers.containsString("alternative,\"altList(size=2, \"\"a\"\")#0\",1\n")
+        );
+    }
+
+    @Test
+    void reportsHotRulesAndHoles() {
+        final GrammarCoverage coverage = new GrammarCoverage();
+        coverage.rule("expr");
+        coverage.rule("expr");
+        coverage.rule("number");
+        coverage.alternative("expr/1", 0, 2);
+        MatcherAssert.assertThat(
+            "We expect that the report will show totals, hot rules and holes",
+            coverage.snapshot().text(),
+            Matchers.equalTo(
+                String.join(
+                    "\n",
+                    "Rules: 2 of 2 covered (100.00%)",
+                    "Alternatives: 1 of 2 covered (50.00%)",
+                    "Hot rules:",
+                    "  expr 2",
+                    "  number 1",
+                    "Rule holes:",
+                    "Alternative holes:",
+                    "  expr/1#1",
+                    ""
+                )
+            )
+        );
+    }
+}
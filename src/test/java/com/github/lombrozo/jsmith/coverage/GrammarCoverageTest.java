@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.coverage;
+
+import com.github.lombrozo.jsmith.RandomScript;
+import com.github.lombrozo.jsmith.antlr.Probe;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.IntStream;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GrammarCoverage}.
+ * @since 0.2
+ */
+final class GrammarCoverageTest {
+
+    @Test
+    void countsDerivedRules() {
+        final GrammarCoverage coverage = new GrammarCoverage();
+        final RandomScript script = new RandomScript(new ResourceOf("grammars/Simple.g4")).probed(coverage);
+        IntStream.range(0, 20).forEach(idx -> script.generate("expr"));
+        MatcherAssert.assertThat(
+            "We expect that the start rule will be derived at least once per program",
+            coverage.snapshot().rules().get("expr"),
+            Matchers.greaterThanOrEqualTo(20L)
+        );
+    }
+
+    @Test
+    void showsRulesThatWereNeverDerived() {
+        final GrammarCoverage coverage = new GrammarCoverage();
+        final RandomScript script = new RandomScript(new ResourceOf("grammars/Simple.g4")).probed(coverage);
+        script.generate("number");
+        MatcherAssert.assertThat(
+            "We expect that rules unreachable from the start rule will be shown as holes",
+            coverage.snapshot().ruleHoles(),
+            Matchers.hasItems("expr", "PLUS")
+        );
+    }
+
+    @Test
+    void addressesAlternativesByGrammarPlace() {
+        final GrammarCoverage coverage = new GrammarCoverage();
+        final RandomScript script = new RandomScript(new ResourceOf("grammars/Simple.g4")).probed(coverage);
+        IntStream.range(0, 20).forEach(idx -> script.generate("expr"));
+        MatcherAssert.assertThat(
+            "We expect that both alternatives of 'expr' will be keyed by their place in the rule",
+            coverage.snapshot().alternatives().keySet(),
+            Matchers.hasItems(
+                Matchers.matchesPattern("expr/\\d+#0"),
+                Matchers.matchesPattern("expr/\\d+#1")
+            )
+        );
+    }
+
+    @Test
+    void showsChoicePointsThatWereNeverReached() {
+        final GrammarCoverage coverage = new GrammarCoverage();
+        final RandomScript script = new RandomScript(new ResourceOf("grammars/Simple.g4")).probed(coverage);
+        script.generate("number");
+        MatcherAssert.assertThat(
+            "We expect that alternatives of unreachable choice points will be shown as holes",
+            coverage.snapshot().alternativeHoles(),
+            Matchers.hasItems(
+                Matchers.matchesPattern("expr/\\d+#0"),
+                Matchers.matchesPattern("expr/\\d+#1")
+            )
+        );
+    }
+
+    @Test
+    void countsOnlyKeptWork() {
+        final GrammarCoverage coverage = new GrammarCoverage();
+        final Probe.Trial outer = coverage.trial("retry");
+        coverage.rule("statement");
+        final Probe.Trial inner = coverage.trial("$jsmith-var-use");
+        coverage.rule("expression");
+        coverage.alternative("expression/1", 1, 2);
+        inner.failure("We cannot find any initialized variable in the scope");
+        coverage.alternative("statement/1", 0, 2);
+        outer.success();
+        final CoverageSnapshot snapshot = coverage.snapshot();
+        MatcherAssert.assertThat(
+            "We expect that rules and alternatives of the rejected trial will be dropped",
+            Arrays.asList(snapshot.rules(), snapshot.alternatives()),
+            Matchers.contains(
+                Matchers.equalTo(Map.of("statement", 1L)),
+                Matchers.equalTo(Map.of("statement/1#0", 1L, "statement/1#1", 0L))
+            )
+        );
+    }
+
+    @Test
+    void mergesHitsFromManyThreads() {
+        final GrammarCoverage coverage = new GrammarCoverage();
+        IntStream.range(0, 10_000).parallel().forEach(
+            idx -> coverage.alternative("expr/1", idx % 3, 3)
+        );
+        MatcherAssert.assertThat(
+            "We expect that no hit will be lost",
+            coverage.snapshot().alternatives().values().stream()
+                .mapToLong(Long::longValue)
+                .sum(),
+            Matchers.equalTo(10_000L)
+        );
+    }
+
+    @Test
+    void exposesCoverageAsMbean() throws JMException {
+        final GrammarCoverage coverage = new GrammarCoverage();
+        coverage.rule("expr");
+        coverage.alternative("expr/1", 0, 2);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = coverage.register("mbean-test");
+        try {
+            MatcherAssert.assertThat(
+                "We expect that covered alternatives will be readable through JMX",
+                server.getAttribute(name, "CoveredAlternatives"),
+                Matchers.equalTo(1)
+            );
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
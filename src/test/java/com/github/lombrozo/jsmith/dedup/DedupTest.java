@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.dedup;
+
+import com.github.lombrozo.jsmith.RandomScript;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Dedup}.
+ * @since 0.2
+ */
+final class DedupTest {
+
+    @Test
+    void dropsDuplicatePrograms() {
+        final Dedup dedup = new Dedup(100L, 1024L * 1024L);
+        final List<String> unique = Stream.of("1+2", "3", "1+2", "3", "4")
+            .filter(dedup::unique)
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "We expect that only the first occurrence of each program will be kept",
+            unique,
+            Matchers.contains("1+2", "3", "4")
+        );
+    }
+
+    @Test
+    void reportsDuplicateRate() {
+        final Dedup dedup = new Dedup();
+        Stream.of("a", "a", "a", "b").forEach(dedup::unique);
+        MatcherAssert.assertThat(
+            "We expect that the duplicate rate will be reported",
+            dedup.toString(),
+            Matchers.equalTo("2 duplicates of 4 programs (50.00%)")
+        );
+    }
+
+    @Test
+    void writesTextOfUniqueTokens() {
+        final RandomScript script = new RandomScript(new ResourceOf("grammars/Simple.g4"));
+        final Dedup dedup = new Dedup();
+        MatcherAssert.assertThat(
+            "We expect that the text of a unique program will be the same as the generated one",
+            dedup.unique(script.lexemes("expr")),
+            Matchers.equalTo(Optional.of(script.generate("expr").output()))
+        );
+    }
+
+    @Test
+    void streamsOnlyDistinctPrograms() {
+        final Dedup dedup = new Dedup();
+        final List<String> programs;
+        try (Stream<String> stream = dedup.distinct(
+            new RandomScript(new ResourceOf("grammars/Simple.g4"))
+                .tokens("expr")
+                .stream()
+                .limit(200)
+        )) {
+            programs = stream.collect(Collectors.toList());
+        }
+        MatcherAssert.assertThat(
+            String.format("We expect that all the programs will be distinct, %s", dedup),
+            new HashSet<>(programs).size(),
+            Matchers.allOf(
+                Matchers.equalTo(programs.size()),
+                Matchers.equalTo((int) (dedup.total() - dedup.duplicates()))
+            )
+        );
+    }
+}
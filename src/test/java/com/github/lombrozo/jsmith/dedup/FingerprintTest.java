@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.dedup;
+
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Fingerprint}.
+ * @since 0.2
+ */
+final class FingerprintTest {
+
+    @Test
+    void givesSameFingerprintForSameText() throws IOException {
+        MatcherAssert.assertThat(
+            "We expect that the fingerprint won't depend on how the text is split into tokens",
+            new Fingerprint().append("int").append(' ').append("x = 1;").toString(),
+            Matchers.equalTo(new Fingerprint().append("int x = 1;").toString())
+        );
+    }
+
+    @Test
+    void givesDifferentFingerprintsForDifferentTexts() throws IOException {
+        MatcherAssert.assertThat(
+            "We expect that similar texts will have different fingerprints",
+            new Fingerprint().append("1+2").toString(),
+            Matchers.not(Matchers.equalTo(new Fingerprint().append("2+1").toString()))
+        );
+    }
+
+    @Test
+    void passesTextToSink() throws IOException {
+        final StringBuilder sink = new StringBuilder(0);
+        new Fingerprint(sink).append("class A").append(' ').append("{ }", 0, 3);
+        MatcherAssert.assertThat(
+            "We expect that the fingerprint will pass all the characters to the sink",
+            sink.toString(),
+            Matchers.equalTo("class A { }")
+        );
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.dedup;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Seen}.
+ * @since 0.2
+ */
+final class SeenTest {
+
+    @Test
+    void rejectsRepeatedFingerprintInExactSet() {
+        final Seen seen = new Seen.Exact();
+        seen.add(1L, 2L);
+        MatcherAssert.assertThat(
+            "We expect that the exact set will reject the same fingerprint",
+            seen.add(1L, 2L),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rejectsRepeatedFingerprintInBloomFilter() {
+        final Seen seen = new Seen.Bloom(1024L, 100L);
+        seen.add(42L, 7L);
+        MatcherAssert.assertThat(
+            "We expect that the Bloom filter will reject the same fingerprint",
+            seen.add(42L, 7L),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rarelyRejectsUniqueFingerprintsInBloomFilter() {
+        final Seen seen = new Seen.Bloom(64L * 1024L, 10_000L);
+        final Random random = new Random(13L);
+        final long rejected = IntStream.range(0, 10_000)
+            .filter(idx -> !seen.add(random.nextLong(), random.nextLong()))
+            .count();
+        MatcherAssert.assertThat(
+            "We expect that the Bloom filter within the budget will have few false positives",
+            rejected,
+            Matchers.lessThan(10L)
+        );
+    }
+
+    @Test
+    void countsEachFingerprintOnceConcurrently() {
+        final Seen seen = new Seen.Bloom(1024L * 1024L, 1000L);
+        final long fresh = IntStream.range(0, 8000)
+            .parallel()
+            .filter(idx -> seen.add(idx % 1000, idx % 1000 * 31L + 7L))
+            .count();
+        MatcherAssert.assertThat(
+            "We expect that concurrent threads won't lose or duplicate fingerprints",
+            fresh,
+            Matchers.allOf(Matchers.greaterThanOrEqualTo(1000L), Matchers.lessThan(1100L))
+        );
+    }
+}
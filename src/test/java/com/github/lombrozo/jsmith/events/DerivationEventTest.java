@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.events;
+
+import com.github.lombrozo.jsmith.RandomScript;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link DerivationEvent}.
+ * @since 0.2
+ */
+final class DerivationEventTest {
+
+    @Test
+    void recordsDerivationWithTreeSize(@TempDir final Path dir) throws IOException {
+        final List<RecordedEvent> events = DerivationEventTest.record(
+            dir, "com.github.lombrozo.jsmith.Derivation"
+        );
+        MatcherAssert.assertThat(
+            "We expect that the derivation will be recorded with its start rule and tree size",
+            events.stream()
+                .filter(event -> "expr".equals(event.getString("rule")))
+                .filter(event -> event.getInt("nodes") > 0 && event.getInt("depth") > 0)
+                .count(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void recordsEveryStageOfGeneration(@TempDir final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "We expect that grammar load, derivation and rendering will be recorded",
+            DerivationEventTest.record(dir, "com.github.lombrozo.jsmith.").stream()
+                .map(event -> event.getEventType().getName())
+                .collect(Collectors.toSet()),
+            Matchers.hasItems(
+                "com.github.lombrozo.jsmith.Grammar",
+                "com.github.lombrozo.jsmith.Derivation",
+                "com.github.lombrozo.jsmith.Render"
+            )
+        );
+    }
+
+    /**
+     * Generate a program under the flight recorder.
+     * @param dir Directory for the recording.
+     * @param prefix Prefix of the event names to keep.
+     * @return Recorded events.
+     * @throws IOException If the recording can't be dumped.
+     */
+    private static List<RecordedEvent> record(
+        final Path dir,
+        final String prefix
+    ) throws IOException {
+        final Path file = dir.resolve("generation.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(GrammarEvent.class).withoutThreshold();
+            recording.enable(DerivationEvent.class).withoutThreshold();
+            recording.enable(RenderEvent.class).withoutThreshold();
+            recording.start();
+            new RandomScript(new ResourceOf("grammars/Simple.g4")).generate("expr").output();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().startsWith(prefix))
+            .collect(Collectors.toList());
+    }
+}
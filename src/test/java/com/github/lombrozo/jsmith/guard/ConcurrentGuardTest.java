@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import com.github.lombrozo.jsmith.RandomScript;
+import com.github.lombrozo.jsmith.antlr.view.PlainText;
+import com.github.lombrozo.jsmith.antlr.view.Text;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ConcurrentGuard}.
+ * @since 0.2
+ */
+final class ConcurrentGuardTest {
+
+    @Test
+    void verifiesBatchConcurrently(@TempDir final Path temp) {
+        final List<Text> codes = IntStream.range(0, 100)
+            .mapToObj(idx -> new PlainText(String.format("%d + %d + %d", idx, idx, idx)))
+            .collect(Collectors.toList());
+        try (ConcurrentGuard guard = new ConcurrentGuard(ConcurrentGuardTest.guard(temp), 4)) {
+            MatcherAssert.assertThat(
+                "We expect that all correct programs will be verified in the same order",
+                guard.verifyAll(codes).stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList()),
+                Matchers.equalTo(codes)
+            );
+        }
+    }
+
+    @Test
+    void reportsEachProgramSeparately(@TempDir final Path temp) {
+        try (ConcurrentGuard guard = new ConcurrentGuard(ConcurrentGuardTest.guard(temp), 2)) {
+            final List<CompletableFuture<Text>> results = guard.verifyAll(
+                Arrays.asList(new PlainText("1 + 2"), new PlainText("1 - 2"))
+            );
+            Assertions.assertDoesNotThrow(
+                () -> results.get(0).get(),
+                "We expect that the correct program will be verified"
+            );
+            MatcherAssert.assertThat(
+                "We expect that only the wrong program will fail",
+                Assertions.assertThrows(
+                    ExecutionException.class,
+                    () -> results.get(1).get(),
+                    "We expect that the wrong program will be rejected"
+                ).getCause(),
+                Matchers.instanceOf(IllegalTextException.class)
+            );
+        }
+    }
+
+    @Test
+    void verifiesGeneratedTrees(@TempDir final Path temp) {
+        final RandomScript script = new RandomScript(new ResourceOf("grammars/Simple.g4"));
+        try (ConcurrentGuard guard = new ConcurrentGuard(ConcurrentGuardTest.guard(temp))) {
+            Assertions.assertDoesNotThrow(
+                () -> CompletableFuture.allOf(
+                    IntStream.range(0, 20)
+                        .mapToObj(idx -> guard.verify(script.tree("expr")))
+                        .toArray(CompletableFuture[]::new)
+                ).join(),
+                "We expect that all generated trees will be verified"
+            );
+        }
+    }
+
+    /**
+     * Syntax guard for the simple grammar.
+     * @param temp Temporary directory.
+     * @return Syntax guard.
+     */
+    private static SyntaxGuard guard(final Path temp) {
+        return new SyntaxGuard(temp, "expr", new ResourceOf("grammars/Simple.g4"));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import com.github.lombrozo.jsmith.RandomJavaClass;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Differential}.
+ * @since 0.2
+ */
+final class DifferentialTest {
+
+    @Test
+    void agreesOnCorrectProgram() {
+        try (Differential differential = new Differential(2)) {
+            final Verdict verdict = differential.compare(
+                String.join(
+                    "\n",
+                    "package a;",
+                    "import java.util.*;",
+                    "public class Main {",
+                    "  private final List<String> all = new ArrayList<>();",
+                    "  int size() { return this.all.stream().mapToInt(String::length).sum(); }",
+                    "  Runnable task() { return () -> System.out.println(this.size()); }",
+                    "  static class Inner { long value; }",
+                    "}"
+                )
+            ).join();
+            MatcherAssert.assertThat(
+                String.format("We expect that both compilers agree, but %s", verdict),
+                verdict.agree(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    @Test
+    void agreesOnWrongProgram() {
+        try (Differential differential = new Differential(2)) {
+            final Verdict verdict = differential.compare(
+                "class Main { int value = \"text\"; }"
+            ).join();
+            MatcherAssert.assertThat(
+                "We expect that both compilers reject the wrong program",
+                Arrays.asList(
+                    verdict.agree(),
+                    verdict.firstErrors().isEmpty(),
+                    verdict.secondErrors().isEmpty()
+                ),
+                Matchers.contains(true, false, false)
+            );
+        }
+    }
+
+    @Test
+    void agreesOnSyntaxError() {
+        try (Differential differential = new Differential(2)) {
+            final Verdict verdict = differential.compare("class Main { int value = ; }").join();
+            MatcherAssert.assertThat(
+                String.format("We expect that both compilers report the same fault, but %s", verdict),
+                verdict.agree(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    @Test
+    void agreesOnSyntaxErrorAfterSemanticError() {
+        try (Differential differential = new Differential(2)) {
+            final Verdict verdict = differential.compare(
+                String.join(
+                    "\n",
+                    "class Main {",
+                    "  void run() {",
+                    "    int y = \"s\";",
+                    "    int z = 1",
+                    "  }",
+                    "}"
+                )
+            ).join();
+            MatcherAssert.assertThat(
+                String.format(
+                    "We expect that only syntax errors are compared if both compilers report them, but %s",
+                    verdict
+                ),
+                verdict.agree(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    @Test
+    void disagreesWhenCompilersRejectForDifferentReasons() {
+        final Verdict verdict = new Verdict(
+            "class Main { }",
+            new Compilation(
+                "ecj",
+                false,
+                Collections.singletonList("1: syntax error: Syntax error on token"),
+                Collections.emptyMap()
+            ),
+            new Compilation(
+                "javac",
+                false,
+                Collections.singletonList("2: semantic error: incompatible types"),
+                Collections.emptyMap()
+            )
+        );
+        MatcherAssert.assertThat(
+            "We expect that rejections on different lines and of different kinds disagree",
+            verdict.agree(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void comparesGeneratedPrograms() {
+        final List<String> sources = IntStream.range(0, 5)
+            .mapToObj(idx -> new RandomJavaClass().src())
+            .collect(Collectors.toList());
+        try (Differential differential = new Differential()) {
+            MatcherAssert.assertThat(
+                "We expect that both compilers agree on all generated programs",
+                differential.compareAll(sources).stream()
+                    .map(CompletableFuture::join)
+                    .filter(verdict -> !verdict.agree())
+                    .map(Verdict::toString)
+                    .collect(Collectors.toList()),
+                Matchers.empty()
+            );
+        }
+    }
+}
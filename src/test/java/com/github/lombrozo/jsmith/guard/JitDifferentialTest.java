@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.util.HashSet;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link JitDifferential}.
+ * @since 0.2
+ */
+final class JitDifferentialTest {
+
+    @Test
+    void runsProgramInAllModes() {
+        try (JitDifferential differential = new JitDifferential(1)) {
+            final Map<String, Execution> executions = differential.compare(
+                String.join(
+                    "\n",
+                    "public class Main {",
+                    "  public static void main(String[] args) {",
+                    "    int hash = 17;",
+                    "    for (int i = 0; i < 10_000; ++i) { hash = hash * 31 + (i ^ (i >>> 3)); }",
+                    "    System.out.print(hash);",
+                    "  }",
+                    "}"
+                )
+            ).join();
+            MatcherAssert.assertThat(
+                String.format("We expect that all modes print the same output: %s", executions),
+                new HashSet<>(executions.values()),
+                Matchers.hasSize(1)
+            );
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link JvmPool}.
+ * @since 0.2
+ */
+final class JvmPoolTest {
+
+    @Test
+    void capturesOutputOfProgram() {
+        try (JvmPool pool = new JvmPool(1, "-Xint")) {
+            MatcherAssert.assertThat(
+                "We expect that the output of the program will be captured",
+                pool.run(
+                    String.join(
+                        "\n",
+                        "public class Main {",
+                        "  public static void main(String[] args) {",
+                        "    long sum = 0;",
+                        "    for (int i = 0; i < 100; ++i) { sum += i * i; }",
+                        "    System.out.print(sum);",
+                        "  }",
+                        "}"
+                    )
+                ).join(),
+                Matchers.equalTo(new Execution(Execution.FINISHED, "328350"))
+            );
+        }
+    }
+
+    @Test
+    void reportsFailureOfProgram() {
+        try (JvmPool pool = new JvmPool(1)) {
+            MatcherAssert.assertThat(
+                "We expect that the exception of the program will be reported",
+                pool.run(
+                    "public class Main { public static void main(String[] a) { a[1] = null; } }"
+                ).join().status(),
+                Matchers.equalTo(Execution.FAILED)
+            );
+        }
+    }
+
+    @Test
+    void replacesChildAfterTimeout() {
+        try (JvmPool pool = new JvmPool(1, Duration.ofMillis(200))) {
+            MatcherAssert.assertThat(
+                "We expect that the pool keeps working after the timeout",
+                Arrays.asList(
+                    pool.run(
+                        "public class Loop { public static void main(String[] a) { while (true) { } } }"
+                    ).join().status(),
+                    pool.run(
+                        "public class Ok { public static void main(String[] a) { } }"
+                    ).join().status()
+                ),
+                Matchers.contains(Execution.TIMEOUT, Execution.FINISHED)
+            );
+        }
+    }
+
+    @Test
+    void runsCompiledProgramRightAfterTimeoutOnSameWorker() {
+        final InMemoryCompiler compiler = new InMemoryCompiler();
+        final Map<String, byte[]> greeting = compiler.check(
+            new InMemoryCompiler.CompilationUnit(
+                "public class Hi { public static void main(String[] a) { System.out.print(1); } }"
+            )
+        ).bytecode();
+        final Map<String, byte[]> loop = compiler.check(
+            new InMemoryCompiler.CompilationUnit(
+                "public class Loop { public static void main(String[] a) { while (true) { } } }"
+            )
+        ).bytecode();
+        try (JvmPool pool = new JvmPool(1, Duration.ofMillis(300))) {
+            MatcherAssert.assertThat(
+                "We expect that a program right after the timeout runs in a healthy child JVM",
+                Arrays.asList(
+                    pool.run(greeting, "Hi").join(),
+                    pool.run(loop, "Loop").join().status(),
+                    pool.run(greeting, "Hi").join()
+                ),
+                Matchers.contains(
+                    Matchers.equalTo(new Execution(Execution.FINISHED, "1")),
+                    Matchers.equalTo(Execution.TIMEOUT),
+                    Matchers.equalTo(new Execution(Execution.FINISHED, "1"))
+                )
+            );
+        }
+    }
+}
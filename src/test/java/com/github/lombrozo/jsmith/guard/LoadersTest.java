@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Loaders}.
+ * @since 0.2
+ */
+final class LoadersTest {
+
+    @Test
+    void countsLoadedClasses() {
+        final Loaders loaders = new Loaders();
+        try (Batch batch = loaders.batch()) {
+            batch.load("public class First { }");
+            batch.load("public class Second { class Inner { } Inner inner = new Inner(); }")
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (final ReflectiveOperationException exception) {
+            Assertions.fail("We expect that the class will be instantiated", exception);
+        }
+        MatcherAssert.assertThat(
+            "We expect that all loaded classes will be counted, including nested ones",
+            loaders.loaded(),
+            Matchers.equalTo(3L)
+        );
+    }
+
+    @Test
+    void unloadsClosedBatches() throws InterruptedException {
+        final Loaders loaders = new Loaders();
+        for (int idx = 0; idx < 10; ++idx) {
+            try (Batch batch = loaders.batch()) {
+                batch.load(String.format("public class Program%d { }", idx));
+            }
+        }
+        for (int attempt = 0; attempt < 50 && loaders.live() > 0; ++attempt) {
+            System.gc();
+            Thread.sleep(20L);
+        }
+        MatcherAssert.assertThat(
+            String.format("We expect that closed batches will be collected: %s", loaders),
+            loaders.unloaded(),
+            Matchers.equalTo(10L)
+        );
+    }
+
+    @Test
+    void loadsClassesWithSameNameInOneBatch() throws ReflectiveOperationException {
+        final List<Object> values = new ArrayList<>(0);
+        try (Batch batch = new Loaders().batch()) {
+            for (int idx = 1; idx <= 2; ++idx) {
+                values.add(
+                    batch.load(
+                        String.format(
+                            "public class Main { public static int value() { return %d; } }",
+                            idx
+                        )
+                    ).getMethod("value").invoke(null)
+                );
+            }
+        }
+        MatcherAssert.assertThat(
+            "We expect that each program will be loaded with its own body",
+            values,
+            Matchers.contains(1, 2)
+        );
+    }
+
+    @Test
+    void rejectsClosedBatch() {
+        final Batch batch = new Loaders().batch();
+        batch.close();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> batch.load("public class Late { }"),
+            "We expect that a closed batch doesn't load classes anymore"
+        );
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.guard;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link RecognizerCache}.
+ * @since 0.2
+ */
+final class RecognizerCacheTest {
+
+    @Test
+    void compilesOnlyOnce(@TempDir final Path temp) throws Exception {
+        final List<String> grammars = Collections.singletonList("grammar A;");
+        final byte[] bytes = "bytecode".getBytes(StandardCharsets.UTF_8);
+        new RecognizerCache(temp).bytecode(
+            grammars, () -> Collections.singletonMap("a.ALexer", bytes)
+        );
+        MatcherAssert.assertThat(
+            "We expect that the second call will read bytecode from the cache",
+            new RecognizerCache(temp).bytecode(
+                grammars,
+                () -> {
+                    throw new IllegalStateException("Compiled twice");
+                }
+            ).get("a.ALexer"),
+            Matchers.equalTo(bytes)
+        );
+    }
+
+    @Test
+    void keepsDifferentGrammarsApart(@TempDir final Path temp) throws Exception {
+        final RecognizerCache cache = new RecognizerCache(temp);
+        cache.bytecode(
+            Collections.singletonList("grammar A;"),
+            () -> Collections.singletonMap("A", new byte[]{1})
+        );
+        final Map<String, byte[]> other = cache.bytecode(
+            Collections.singletonList("grammar B;"),
+            () -> Collections.singletonMap("B", new byte[]{2})
+        );
+        MatcherAssert.assertThat(
+            "We expect that different grammars get different cache entries",
+            other.keySet(),
+            Matchers.contains("B")
+        );
+        try (Stream<Path> entries = Files.list(temp)) {
+            MatcherAssert.assertThat(
+                "We expect exactly two cache entries without temporary leftovers",
+                entries.count(),
+                Matchers.equalTo(2L)
+            );
+        }
+    }
+}
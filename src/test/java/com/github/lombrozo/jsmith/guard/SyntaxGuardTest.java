@@ -23,13 +23,24 @@
  */
 package com.github.lombrozo.jsmith.guard;
 
+import com.github.lombrozo.jsmith.RandomScript;
+import com.github.lombrozo.jsmith.antlr.view.Lexeme;
 import com.github.lombrozo.jsmith.antlr.view.PlainText;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 import org.cactoos.Input;
+import org.cactoos.io.InputOf;
 import org.cactoos.io.ResourceOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -85,4 +96,224 @@ final class SyntaxGuardTest {
             Matchers.equalTo("missing NUMBER at '<EOF>'")
         );
     }
+
+    @RepeatedTest(10)
+    void validatesGeneratedTokens(@TempDir final Path temp) {
+        Assertions.assertDoesNotThrow(
+            () -> new SyntaxGuard(temp, SyntaxGuardTest.TOP, SyntaxGuardTest.GRAMMAR)
+                .verifySilently(
+                    new RandomScript(SyntaxGuardTest.GRAMMAR).tree(SyntaxGuardTest.TOP)
+                ),
+            "We expect that generated tokens will be verified without errors"
+        );
+    }
+
+    @Test
+    void lexesOnlyUnnamedTokens(@TempDir final Path temp) {
+        Assertions.assertDoesNotThrow(
+            () -> new SyntaxGuard(temp, SyntaxGuardTest.TOP, SyntaxGuardTest.GRAMMAR)
+                .verify(
+                    List.of(
+                        new Lexeme(null, "1"),
+                        new Lexeme("'+'", "+"),
+                        new Lexeme("NUMBER", "2")
+                    )
+                ),
+            "We expect that tokens without names will be lexed, while the others are taken as is"
+        );
+    }
+
+    @Test
+    void skipsNamedTokensOfSkippedRules(@TempDir final Path temp) {
+        Assertions.assertDoesNotThrow(
+            () -> new SyntaxGuard(temp, SyntaxGuardTest.TOP, SyntaxGuardTest.GRAMMAR)
+                .verify(
+                    List.of(
+                        new Lexeme("NUMBER", "1"),
+                        new Lexeme("WS", " "),
+                        new Lexeme("'+'", "+"),
+                        new Lexeme("WS", " "),
+                        new Lexeme("NUMBER", "2")
+                    )
+                ),
+            "We expect that named tokens of rules with '-> skip' don't reach the parser"
+        );
+    }
+
+    @Test
+    void keepsChannelsOfNamedAndRelexedTokens() {
+        final SyntaxGuard guard = new SyntaxGuard(
+            "sum",
+            new InputOf(
+                String.join(
+                    "\n",
+                    "grammar Hidden;",
+                    "sum : NUMBER PLUS NUMBER ;",
+                    "PLUS : '+' ;",
+                    "NUMBER : [0-9]+ ;",
+                    "COMMENT : '#' ~[\\n]* -> channel(HIDDEN) ;",
+                    "WS : [ ]+ -> skip ;"
+                )
+            )
+        );
+        Assertions.assertDoesNotThrow(
+            () -> guard.verify(
+                List.of(
+                    new Lexeme("NUMBER", "1"),
+                    new Lexeme("COMMENT", "#one"),
+                    new Lexeme(null, "+ #plus"),
+                    new Lexeme("NUMBER", "2")
+                )
+            ),
+            "We expect that hidden tokens, named or relexed, stay off the default channel"
+        );
+    }
+
+    @Test
+    void throwsInvalidSyntaxOnIncorrectTokens(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            "We expect that incorrect tokens will be verified with errors",
+            Assertions.assertThrows(
+                InvalidSyntax.class,
+                () -> new SyntaxGuard(temp, SyntaxGuardTest.TOP, SyntaxGuardTest.GRAMMAR)
+                    .verify(List.of(new Lexeme("NUMBER", "1"), new Lexeme("PLUS", "+"))),
+                "We expect that the tokens will be verified with errors"
+            ).getMessage(),
+            Matchers.equalTo("missing NUMBER at '<EOF>'")
+        );
+    }
+
+    @Test
+    void reusesRecognizersAfterErrors(@TempDir final Path temp) throws Exception {
+        final SyntaxGuard guard = new SyntaxGuard(
+            temp, SyntaxGuardTest.TOP, SyntaxGuardTest.GRAMMAR
+        );
+        Assertions.assertThrows(
+            InvalidSyntax.class,
+            () -> guard.verify("1 +"),
+            "We expect that the first code will be verified with errors"
+        );
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>(0);
+            for (int idx = 0; idx < 40; ++idx) {
+                final String code = String.format("%d + %d", idx, idx);
+                futures.add(pool.submit(() -> guard.verifySilently(new PlainText(code))));
+            }
+            for (final Future<?> future : futures) {
+                Assertions.assertDoesNotThrow(
+                    () -> future.get(),
+                    "We expect that reused lexers and parsers don't keep previous errors"
+                );
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void stopsAtFirstError(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            "We expect that only the first syntax error will be reported",
+            Assertions.assertThrows(
+                InvalidSyntax.class,
+                () -> new SyntaxGuard(temp, SyntaxGuardTest.TOP, SyntaxGuardTest.GRAMMAR)
+                    .verify("1 - 1 * 1 -"),
+                "We expect that the code will be verified with errors"
+            ).getMessage(),
+            Matchers.equalTo("token recognition error at: '-'")
+        );
+    }
+
+    @Test
+    void interpretsCombinedGrammar() {
+        final SyntaxGuard guard = new SyntaxGuard(SyntaxGuardTest.TOP, SyntaxGuardTest.GRAMMAR);
+        Assertions.assertDoesNotThrow(
+            () -> guard.verify("1 + 2 + 3"),
+            "We expect that the interpreted guard will verify the code without errors"
+        );
+        MatcherAssert.assertThat(
+            "We expect that the interpreted guard reports the same errors as the compiled one",
+            Assertions.assertThrows(
+                InvalidSyntax.class,
+                () -> guard.verify("1 +"),
+                "We expect that the interpreted guard will reject the wrong code"
+            ).getMessage(),
+            Matchers.equalTo("missing NUMBER at '<EOF>'")
+        );
+    }
+
+    @RepeatedTest(5)
+    void interpretsGeneratedTokens() {
+        Assertions.assertDoesNotThrow(
+            () -> new SyntaxGuard(SyntaxGuardTest.TOP, SyntaxGuardTest.GRAMMAR).verifySilently(
+                new RandomScript(SyntaxGuardTest.GRAMMAR).tree(SyntaxGuardTest.TOP)
+            ),
+            "We expect that the interpreted guard will verify generated tokens"
+        );
+    }
+
+    @Test
+    void acceptsCodeThatOnlyFullContextPredictionParses(@TempDir final Path temp) {
+        final Input grammar = new InputOf(
+            String.join(
+                "\n",
+                "grammar Context;",
+                "s : 'p' r 'q' EOF | 'z' r t EOF ;",
+                "r : 'w' | ;",
+                "t : 'w' 'q' | 'w' 'k' ;",
+                "WS : [ ]+ -> skip ;"
+            )
+        );
+        Assertions.assertDoesNotThrow(
+            () -> {
+                new SyntaxGuard(temp, "s", grammar).verify("z w q");
+                new SyntaxGuard("s", grammar).verify("z w q");
+            },
+            "We expect that the code rejected only by SLL prediction is accepted by both guards"
+        );
+    }
+
+    @Test
+    void interpretsSeparatedGrammars() {
+        Assertions.assertDoesNotThrow(
+            () -> new SyntaxGuard(
+                "sentences",
+                new ResourceOf("grammars/separated/LettersLexer.g4"),
+                new ResourceOf("grammars/separated/LettersParser.g4")
+            ).verify("hello world"),
+            "We expect that the lexer grammar will be used as a vocabulary of the parser grammar"
+        );
+    }
+
+    @Test
+    void rejectsBrokenGrammar() {
+        MatcherAssert.assertThat(
+            "We expect that grammar errors will be reported",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new SyntaxGuard("a", new InputOf("grammar Broken; a : b ;")).verify("x"),
+                "We expect that the broken grammar will be rejected"
+            ).getMessage(),
+            Matchers.containsString("UNDEFINED_RULE_REF")
+        );
+    }
+
+    @Test
+    void reusesCompiledRecognizers(@TempDir final Path temp) throws Exception {
+        final Path cache = temp.resolve("cache");
+        final Path first = Files.createDirectory(temp.resolve("first"));
+        final Path second = Files.createDirectory(temp.resolve("second"));
+        new SyntaxGuard(first, cache, SyntaxGuardTest.TOP, SyntaxGuardTest.GRAMMAR)
+            .verify("1 + 2");
+        new SyntaxGuard(second, cache, SyntaxGuardTest.TOP, SyntaxGuardTest.GRAMMAR)
+            .verify("3 + 4");
+        try (Stream<Path> files = Files.list(second)) {
+            MatcherAssert.assertThat(
+                "We expect that cached recognizers are neither generated nor compiled again",
+                files.count(),
+                Matchers.equalTo(0L)
+            );
+        }
+    }
 }
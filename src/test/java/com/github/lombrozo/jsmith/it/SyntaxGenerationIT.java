@@ -87,11 +87,10 @@ final class SyntaxGenerationIT {
         final SyntaxGuard guard = new SyntaxGuard(temp, top, grammars);
         final String message =
             "We expect that the randomly generated code will be verified without errors";
-        try {
+        try (Stream<Text> programs = new RandomScript(grammars).programs(top).stream()) {
+            this.logStart(top);
             Assertions.assertDoesNotThrow(
-                () -> Stream.generate(() -> top)
-                    .peek(this::logStart)
-                    .map(rule -> new RandomScript(grammars).generate(rule))
+                () -> programs
                     .limit(50)
                     .peek(this::logProgram)
                     .forEach(guard::verifySilently),
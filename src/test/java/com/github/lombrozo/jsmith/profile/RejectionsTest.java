@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.profile;
+
+import com.github.lombrozo.jsmith.RandomScript;
+import com.github.lombrozo.jsmith.antlr.Context;
+import com.github.lombrozo.jsmith.antlr.Probe;
+import com.github.lombrozo.jsmith.antlr.rules.Empty;
+import com.github.lombrozo.jsmith.antlr.rules.Safe;
+import com.github.lombrozo.jsmith.antlr.rules.WrongPathException;
+import com.github.lombrozo.jsmith.antlr.semantic.UniqueRule;
+import com.github.lombrozo.jsmith.antlr.semantic.VariableUsage;
+import java.util.HashSet;
+import java.util.stream.IntStream;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Rejections}.
+ * @since 0.2
+ */
+final class RejectionsTest {
+
+    @Test
+    void countsRejectedAttemptsPerRule() {
+        final Rejections rejections = new Rejections();
+        rejections.rule("expression");
+        rejections.trial("retry").failure("Type mismatch, expected: int, but got: String");
+        rejections.trial("retry").success();
+        rejections.leave("expression");
+        final Waste waste = rejections.ranked().get(0);
+        MatcherAssert.assertThat(
+            "We expect that attempts and failures will be counted for the innermost rule",
+            new Object[] {waste.rule(), waste.kind(), waste.attempts(), waste.failures()},
+            Matchers.arrayContaining("expression", "retry", 2L, 1L)
+        );
+    }
+
+    @Test
+    void countsDiscardedRules() {
+        final Rejections rejections = new Rejections();
+        rejections.rule("statement");
+        final Probe.Trial trial = rejections.trial("$jsmith-var-use");
+        rejections.rule("expression");
+        rejections.leave("expression");
+        rejections.rule("literal");
+        rejections.leave("literal");
+        trial.failure("We cannot find any initialized variable in the scope 'x'");
+        rejections.leave("statement");
+        MatcherAssert.assertThat(
+            "We expect that rules derived by the rejected attempt will be counted as discarded",
+            rejections.ranked().get(0).discarded(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void countsFailuresOfUniqueRuleOrigin() {
+        final Rejections rejections = new Rejections();
+        Assertions.assertThrows(
+            WrongPathException.class,
+            () -> new UniqueRule(new Safe(new Empty(), 0), new HashSet<>(0))
+                .generate(new Context().withProbe(rejections, rule -> "unique")),
+            "We expect that the origin of the unique rule fails"
+        );
+        MatcherAssert.assertThat(
+            "We expect that the failure of the origin will be reported for the unique rule",
+            RejectionsTest.failures(rejections, UniqueRule.COMMENT),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void countsFailuresOfVariableUsageOrigin() {
+        final Rejections rejections = new Rejections();
+        Assertions.assertThrows(
+            WrongPathException.class,
+            () -> new VariableUsage(new Safe(new Empty(), 0))
+                .generate(new Context().withProbe(rejections, rule -> "usage")),
+            "We expect that the origin of the variable usage fails"
+        );
+        MatcherAssert.assertThat(
+            "We expect that the failure of the origin will be reported for the variable usage",
+            RejectionsTest.failures(rejections, VariableUsage.COMMENT),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void dropsDetailsFromCauses() {
+        MatcherAssert.assertThat(
+            "We expect that quoted names and details after a colon will be dropped",
+            Rejections.cause(
+                "We cannot find any initialized variable in the scope 'Scope(a, b)': details"
+            ),
+            Matchers.equalTo("We cannot find any initialized variable in the scope '*'")
+        );
+    }
+
+    @Test
+    void ranksRulesThatWasteTheMostWork() {
+        final Rejections rejections = new Rejections();
+        final RandomScript script = new RandomScript(
+            new ResourceOf("grammars/Java8ReducedParser.g4"),
+            new ResourceOf("grammars/Java8ReducedLexer.g4")
+        ).probed(rejections);
+        IntStream.range(0, 10).forEach(idx -> script.generate("compilationUnit"));
+        MatcherAssert.assertThat(
+            "We expect that the report will rank the rejected trials of the Java grammar",
+            rejections.report(),
+            Matchers.allOf(
+                Matchers.startsWith("rule"),
+                Matchers.containsString("retry")
+            )
+        );
+    }
+
+    /**
+     * Failures of the trials of the kind.
+     * @param rejections Profiler.
+     * @param kind Kind of the trials.
+     * @return Number of failures.
+     */
+    private static long failures(final Rejections rejections, final String kind) {
+        return rejections.ranked().stream()
+            .filter(waste -> kind.equals(waste.kind()))
+            .mapToLong(Waste::failures)
+            .sum();
+    }
+}
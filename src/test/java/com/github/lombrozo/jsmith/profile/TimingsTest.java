@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.profile;
+
+import com.github.lombrozo.jsmith.RandomScript;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Timings}.
+ * @since 0.2
+ */
+final class TimingsTest {
+
+    @Test
+    void collapsesStacksOfGrammarRules() {
+        final Timings timings = new Timings();
+        timings.rule("expr");
+        timings.rule("number");
+        timings.rule("NUMBER");
+        timings.leave("NUMBER");
+        timings.leave("number");
+        timings.leave("expr");
+        MatcherAssert.assertThat(
+            "We expect that each stack of rules will be a line of the collapsed output",
+            Arrays.stream(timings.collapsed().split("\n"))
+                .map(line -> line.substring(0, line.lastIndexOf(' ')))
+                .toArray(String[]::new),
+            Matchers.arrayContaining("expr", "expr;number", "expr;number;NUMBER")
+        );
+    }
+
+    @Test
+    void countsRecursiveRuleOnlyOnce() {
+        final Timings timings = new Timings();
+        timings.rule("expr");
+        timings.rule("expr");
+        timings.leave("expr");
+        timings.leave("expr");
+        MatcherAssert.assertThat(
+            "We expect that total time of a recursive rule will be the time of the outermost call",
+            timings.total("expr"),
+            Matchers.equalTo(timings.self("expr"))
+        );
+    }
+
+    @Test
+    void splitsTimeIntoSelfAndNested() throws InterruptedException {
+        final Timings timings = new Timings();
+        timings.rule("statement");
+        timings.rule("expression");
+        Thread.sleep(20L);
+        timings.leave("expression");
+        timings.leave("statement");
+        MatcherAssert.assertThat(
+            "We expect that the time of a nested rule won't be counted as self time of its parent",
+            timings.self("statement"),
+            Matchers.lessThan(timings.self("expression"))
+        );
+    }
+
+    @Test
+    void profilesRealGeneration() {
+        final Timings timings = new Timings();
+        final RandomScript script = new RandomScript(
+            new ResourceOf("grammars/Arithmetic.g4")
+        ).probed(timings);
+        IntStream.range(0, 10).forEach(idx -> script.generate("prog"));
+        MatcherAssert.assertThat(
+            "We expect that every stack will start from the start rule",
+            Arrays.stream(timings.collapsed().split("\n"))
+                .allMatch(line -> line.matches("prog(;\\w+)* \\d+")),
+            Matchers.is(true)
+        );
+    }
+}
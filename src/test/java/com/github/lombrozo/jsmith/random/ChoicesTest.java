@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.random;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Choices}.
+ * @since 0.2
+ */
+final class ChoicesTest {
+
+    @Test
+    void encodesSmallChoicesInSingleBytes() {
+        final Choices trace = new Choices();
+        for (int choice = 0; choice < 100; ++choice) {
+            trace.write(choice % 128);
+        }
+        MatcherAssert.assertThat(
+            "We expect that each small choice will take a single byte",
+            trace.size(),
+            Matchers.equalTo(100)
+        );
+    }
+
+    @Test
+    void readsWrittenChoicesAndStrings() {
+        final Choices trace = new Choices();
+        trace.write(0);
+        trace.write(300);
+        trace.write("ŝomething");
+        trace.write(Integer.MAX_VALUE);
+        final Choices copy = new Choices(trace.bytes());
+        MatcherAssert.assertThat(
+            "We expect that choices and strings will be read in the same order",
+            new Object[] {copy.read(), copy.read(), copy.text(), copy.read()},
+            Matchers.arrayContaining(0, 300, "ŝomething", Integer.MAX_VALUE)
+        );
+    }
+
+    @Test
+    void replaysRandomChoices() {
+        final Choices trace = new Choices();
+        final Rand recording = new Rand(7L, trace);
+        final String recorded = String.format(
+            "%d %d %s %s %d",
+            recording.range(10),
+            recording.range(5, 9),
+            recording.flip(),
+            recording.regex("[a-z]+"),
+            recording.weighted(new double[] {1.0, 2.0, 3.0})
+        );
+        final Rand replaying = new Rand(trace);
+        MatcherAssert.assertThat(
+            "We expect that all the choices will be replayed in the same order",
+            String.format(
+                "%d %d %s %s %d",
+                replaying.range(10),
+                replaying.range(5, 9),
+                replaying.flip(),
+                replaying.regex("[a-z]+"),
+                replaying.weighted(new double[] {1.0, 2.0, 3.0})
+            ),
+            Matchers.equalTo(recorded)
+        );
+    }
+
+    @Test
+    void failsOnExhaustedTrace() {
+        final Rand rand = new Rand(new Choices());
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> rand.range(3),
+            "We expect that an exhausted trace can't be replayed"
+        );
+    }
+
+    @Test
+    void failsOnChoiceOutOfBounds() {
+        final Choices trace = new Choices();
+        trace.write(5);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Rand(trace).range(3),
+            "We expect that a trace of another grammar will be rejected"
+        );
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.random;
+
+import com.github.lombrozo.jsmith.antlr.rules.AltList;
+import com.github.lombrozo.jsmith.antlr.rules.Literal;
+import com.github.lombrozo.jsmith.antlr.rules.Rule;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CoverageStrategy}.
+ * @since 0.2
+ */
+final class CoverageStrategyTest {
+
+    @Test
+    void coversAllAlternativesAcrossDerivations() {
+        final Coverage coverage = new Coverage();
+        final Set<Integer> chosen = new HashSet<>(0);
+        for (int derivation = 0; derivation < 30; ++derivation) {
+            final Rule parent = new AltList();
+            final List<Rule> children = IntStream.range(0, 10)
+                .mapToObj(idx -> new Literal(parent, String.valueOf(idx)))
+                .collect(Collectors.toList());
+            chosen.add(children.indexOf(new CoverageStrategy(coverage).choose(parent, children)));
+        }
+        MatcherAssert.assertThat(
+            String.format("We expect that all the alternatives will be covered, %s", coverage),
+            chosen,
+            Matchers.hasSize(10)
+        );
+    }
+}
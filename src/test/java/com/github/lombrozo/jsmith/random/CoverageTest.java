@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.random;
+
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Coverage}.
+ * @since 0.2
+ */
+final class CoverageTest {
+
+    @Test
+    void internsPaths() {
+        final Coverage coverage = new Coverage();
+        final int id = coverage.id("2/altList/expr");
+        coverage.id("3/lexerAltList/NUMBER");
+        MatcherAssert.assertThat(
+            "We expect that the same path will always have the same id",
+            coverage.id("2/altList/expr"),
+            Matchers.equalTo(id)
+        );
+    }
+
+    @Test
+    void countsHitsConcurrently() {
+        final Coverage coverage = new Coverage();
+        final int id = coverage.id("2/altList/expr");
+        IntStream.range(0, 10_000).parallel().forEach(idx -> coverage.hit(id, idx % 2));
+        MatcherAssert.assertThat(
+            "We expect that no hit will be lost",
+            coverage.hits(id, 0) + coverage.hits(id, 1),
+            Matchers.equalTo(10_000L)
+        );
+    }
+
+    @Test
+    void reportsCoveredAlternatives() {
+        final Coverage coverage = new Coverage();
+        coverage.hit(coverage.id("first"), 0);
+        coverage.hit(coverage.id("first"), 0);
+        coverage.hit(coverage.id("second"), 1);
+        MatcherAssert.assertThat(
+            "We expect that each covered alternative will be counted once",
+            coverage.toString(),
+            Matchers.equalTo("2 alternatives covered at 2 choice points")
+        );
+    }
+}
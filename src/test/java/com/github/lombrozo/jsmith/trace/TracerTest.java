@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.jsmith.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Tracer}.
+ * @since 0.2
+ */
+final class TracerTest {
+
+    @Test
+    void doesNotBuildDetailsWhenOff() {
+        final AtomicBoolean built = new AtomicBoolean(false);
+        new Tracer.Off().trace(
+            Level.SEVERE,
+            "choice",
+            () -> {
+                built.set(true);
+                return "details";
+            }
+        );
+        MatcherAssert.assertThat(
+            "We expect that details of an event will never be built by the disabled tracer",
+            built.get(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void followsLevelOfLogger() {
+        final Logger logger = Logger.getLogger("TracerTest.followsLevelOfLogger");
+        logger.setLevel(Level.INFO);
+        MatcherAssert.assertThat(
+            "We expect that levels below the level of the logger won't be traced",
+            new Tracer.Logged(logger).enabled(Level.FINE),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void raisesEventsToFloorLevel() {
+        final Logger logger = Logger.getLogger("TracerTest.raisesEventsToFloorLevel");
+        logger.setLevel(Level.INFO);
+        MatcherAssert.assertThat(
+            "We expect that detailed events will be traced at the floor level",
+            new Tracer.Logged(logger, Level.INFO).enabled(Level.FINE),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void writesEventsToLogger() {
+        final Logger logger = Logger.getLogger("TracerTest.writesEventsToLogger");
+        final List<String> messages = new ArrayList<>(0);
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.FINE);
+        logger.addHandler(
+            new Handler() {
+                @Override
+                public void publish(final LogRecord record) {
+                    messages.add(record.getMessage());
+                }
+
+                @Override
+                public void flush() {
+                    // Nothing to flush
+                }
+
+                @Override
+                public void close() {
+                    // Nothing to close
+                }
+            }
+        );
+        final Tracer tracer = new Tracer.Logged(logger);
+        tracer.trace(Level.FINE, "collision", () -> "identifier 'a'");
+        tracer.trace(Level.FINE, "attempt", 3L);
+        MatcherAssert.assertThat(
+            "We expect that events will be written with their names and details",
+            messages,
+            Matchers.contains("collision: identifier 'a'", "attempt: 3")
+        );
+    }
+}